@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+/**
+ * Contains all types of animations, which are used by a {@link TabSwitcher}.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public enum AnimationType {
+
+    /**
+     * The animation, which is used to show the tab switcher.
+     */
+    SHOW_SWITCHER,
+
+    /**
+     * The animation, which is used to hide the tab switcher.
+     */
+    HIDE_SWITCHER,
+
+    /**
+     * The animation, which is used to swipe tabs horizontally, e.g. when adding or removing tabs
+     * using a {@link SwipeAnimation}.
+     */
+    SWIPE,
+
+    /**
+     * The animation, which is used to switch between tabs by swiping, while the tab switcher is
+     * hidden.
+     */
+    SWITCH_TABS,
+
+    /**
+     * The animation, which is used to relocate tabs, e.g. when tabs have been added or removed.
+     */
+    RELOCATE,
+
+    /**
+     * The animation, which is used to revert an overshoot at the start or end.
+     */
+    REVERT_OVERSHOOT,
+
+    /**
+     * The animation, which is used to add a tab using a {@link RevealAnimation}.
+     */
+    REVEAL,
+
+    /**
+     * The animation, which is used to add a tab using a {@link PeekAnimation}.
+     */
+    PEEK,
+
+    /**
+     * Any other animation, e.g. the animations, which are used to adapt the visibility of the
+     * toolbars or the margins of tabs.
+     */
+    OTHER
+
+}
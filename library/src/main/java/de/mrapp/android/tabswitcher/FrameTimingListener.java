@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be notified about the frame timings, which have
+ * been recorded while the animations of a {@link TabSwitcher} were running, must implement.
+ * Frame timings are only recorded, if at least one listener is registered and the device runs
+ * Android 4.1 (API level 16) or a more recent version.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public interface FrameTimingListener {
+
+    /**
+     * The method, which is invoked, when all animations of a specific type have been ended and the
+     * frame timings, which have been recorded in the meantime, are available.
+     *
+     * @param tabSwitcher
+     *         The tab switcher, whose animations have been observed, as an instance of the class
+     *         {@link TabSwitcher}. The tab switcher may not be null
+     * @param summary
+     *         A summary of the frame timings, which have been recorded, as an instance of the
+     *         class {@link FrameTimingSummary}. The summary may not be null
+     */
+    void onFrameTimingRecorded(@NonNull TabSwitcher tabSwitcher,
+                               @NonNull FrameTimingSummary summary);
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A summary of the frame timings, which have been recorded while the animations of a specific type
+ * were running.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class FrameTimingSummary {
+
+    /**
+     * The number of nanoseconds per millisecond.
+     */
+    private static final float NANOS_PER_MILLISECOND = 1000000f;
+
+    /**
+     * The type of the animations, the frame timings have been recorded for.
+     */
+    private final AnimationType animationType;
+
+    /**
+     * The number of frames, which have been rendered.
+     */
+    private final int frameCount;
+
+    /**
+     * The number of frames, which took longer than the frame interval of the display.
+     */
+    private final int jankyFrameCount;
+
+    /**
+     * The median frame time in nanoseconds.
+     */
+    private final long medianFrameTime;
+
+    /**
+     * The 95th percentile of the frame times in nanoseconds.
+     */
+    private final long percentile95FrameTime;
+
+    /**
+     * The maximum frame time in nanoseconds.
+     */
+    private final long maxFrameTime;
+
+    /**
+     * The total duration of the animations in nanoseconds.
+     */
+    private final long totalDuration;
+
+    /**
+     * Creates a new summary of the frame timings, which have been recorded while the animations of
+     * a specific type were running.
+     *
+     * @param animationType
+     *         The type of the animations, the frame timings have been recorded for, as a value of
+     *         the enum {@link AnimationType}. The type may not be null
+     * @param frameCount
+     *         The number of frames, which have been rendered, as an {@link Integer} value. The
+     *         number must be at least 0
+     * @param jankyFrameCount
+     *         The number of frames, which took longer than the frame interval of the display, as an
+     *         {@link Integer} value. The number must be at least 0
+     * @param medianFrameTime
+     *         The median frame time in nanoseconds as a {@link Long} value. The frame time must be
+     *         at least 0
+     * @param percentile95FrameTime
+     *         The 95th percentile of the frame times in nanoseconds as a {@link Long} value. The
+     *         frame time must be at least 0
+     * @param maxFrameTime
+     *         The maximum frame time in nanoseconds as a {@link Long} value. The frame time must be
+     *         at least 0
+     * @param totalDuration
+     *         The total duration of the animations in nanoseconds as a {@link Long} value. The
+     *         duration must be at least 0
+     */
+    public FrameTimingSummary(@NonNull final AnimationType animationType, final int frameCount,
+                              final int jankyFrameCount, final long medianFrameTime,
+                              final long percentile95FrameTime, final long maxFrameTime,
+                              final long totalDuration) {
+        Condition.INSTANCE.ensureNotNull(animationType, "The animation type may not be null");
+        Condition.INSTANCE.ensureAtLeast(frameCount, 0, "The frame count must be at least 0");
+        Condition.INSTANCE
+                .ensureAtLeast(jankyFrameCount, 0, "The janky frame count must be at least 0");
+        Condition.INSTANCE
+                .ensureAtLeast(medianFrameTime, 0, "The median frame time must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(percentile95FrameTime, 0,
+                "The 95th percentile frame time must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(maxFrameTime, 0, "The max frame time must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(totalDuration, 0, "The duration must be at least 0");
+        this.animationType = animationType;
+        this.frameCount = frameCount;
+        this.jankyFrameCount = jankyFrameCount;
+        this.medianFrameTime = medianFrameTime;
+        this.percentile95FrameTime = percentile95FrameTime;
+        this.maxFrameTime = maxFrameTime;
+        this.totalDuration = totalDuration;
+    }
+
+    /**
+     * Returns the type of the animations, the frame timings have been recorded for.
+     *
+     * @return The type of the animations, the frame timings have been recorded for, as a value of
+     * the enum {@link AnimationType}. The type may not be null
+     */
+    @NonNull
+    public final AnimationType getAnimationType() {
+        return animationType;
+    }
+
+    /**
+     * Returns the number of frames, which have been rendered.
+     *
+     * @return The number of frames, which have been rendered, as an {@link Integer} value
+     */
+    public final int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the number of frames, which took longer than the frame interval of the display.
+     *
+     * @return The number of frames, which took longer than the frame interval of the display, as
+     * an {@link Integer} value
+     */
+    public final int getJankyFrameCount() {
+        return jankyFrameCount;
+    }
+
+    /**
+     * Returns the median frame time.
+     *
+     * @return The median frame time in milliseconds as a {@link Float} value
+     */
+    public final float getMedianFrameTime() {
+        return medianFrameTime / NANOS_PER_MILLISECOND;
+    }
+
+    /**
+     * Returns the 95th percentile of the frame times.
+     *
+     * @return The 95th percentile of the frame times in milliseconds as a {@link Float} value
+     */
+    public final float getPercentile95FrameTime() {
+        return percentile95FrameTime / NANOS_PER_MILLISECOND;
+    }
+
+    /**
+     * Returns the maximum frame time.
+     *
+     * @return The maximum frame time in milliseconds as a {@link Float} value
+     */
+    public final float getMaxFrameTime() {
+        return maxFrameTime / NANOS_PER_MILLISECOND;
+    }
+
+    /**
+     * Returns the total duration of the animations.
+     *
+     * @return The total duration of the animations in milliseconds as a {@link Float} value
+     */
+    public final float getTotalDuration() {
+        return totalDuration / NANOS_PER_MILLISECOND;
+    }
+
+    @Override
+    public final String toString() {
+        return String.format(Locale.US,
+                "FrameTimingSummary [animationType=%s, frameCount=%d, jankyFrameCount=%d, " +
+                        "medianFrameTime=%.2fms, percentile95FrameTime=%.2fms, " +
+                        "maxFrameTime=%.2fms, totalDuration=%.2fms]", animationType, frameCount,
+                jankyFrameCount, getMedianFrameTime(), getPercentile95FrameTime(),
+                getMaxFrameTime(), getTotalDuration());
+    }
+
+}
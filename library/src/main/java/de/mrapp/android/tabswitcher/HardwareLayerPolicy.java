@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+/**
+ * Contains all possible policies, which specify whether the views, which are used to visualize
+ * tabs, should be rendered into hardware layers while they are animated.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public enum HardwareLayerPolicy {
+
+    /**
+     * If hardware layers should never be used.
+     */
+    NEVER(0),
+
+    /**
+     * If hardware layers should only be used when using the smartphone layout. When using the
+     * tablet layout, tabs are visualized by small views, which are cheap to redraw.
+     */
+    PHONE_ONLY(1),
+
+    /**
+     * If hardware layers should always be used.
+     */
+    ALWAYS(2);
+
+    /**
+     * The value of the hardware layer policy.
+     */
+    private final int value;
+
+    /**
+     * Creates a new hardware layer policy.
+     *
+     * @param value
+     *         The value of the hardware layer policy as an {@link Integer} value
+     */
+    HardwareLayerPolicy(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of the hardware layer policy.
+     *
+     * @return The value of the hardware layer policy as an {@link Integer} value
+     */
+    public final int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the hardware layer policy, which corresponds to a specific value.
+     *
+     * @param value
+     *         The value of the hardware layer policy, which should be returned, as an {@link
+     *         Integer} value
+     * @return The hardware layer policy, which corresponds to the given value, as a value of the
+     * enum {@link HardwareLayerPolicy}
+     */
+    public static HardwareLayerPolicy fromValue(final int value) {
+        for (HardwareLayerPolicy hardwareLayerPolicy : values()) {
+            if (hardwareLayerPolicy.getValue() == value) {
+                return hardwareLayerPolicy;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid enum value: " + value);
+    }
+
+}
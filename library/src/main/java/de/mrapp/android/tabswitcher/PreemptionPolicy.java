@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+/**
+ * Contains all possible policies, which specify how a {@link TabSwitcher} should handle
+ * operations, e.g. adding, removing or selecting tabs, which are performed while animations are
+ * running.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public enum PreemptionPolicy {
+
+    /**
+     * If operations should be queued until all running animations have been finished.
+     */
+    QUEUE(0),
+
+    /**
+     * If running animations should be fast-forwarded to their final state in order to perform
+     * operations immediately. Animations, which are delayed and have not been started yet, are
+     * started immediately and fast-forwarded as well.
+     */
+    FAST_FORWARD(1);
+
+    /**
+     * The value of the preemption policy.
+     */
+    private final int value;
+
+    /**
+     * Creates a new preemption policy.
+     *
+     * @param value
+     *         The value of the preemption policy as an {@link Integer} value
+     */
+    PreemptionPolicy(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of the preemption policy.
+     *
+     * @return The value of the preemption policy as an {@link Integer} value
+     */
+    public final int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the preemption policy, which corresponds to a specific value.
+     *
+     * @param value
+     *         The value of the preemption policy, which should be returned, as an {@link Integer}
+     *         value
+     * @return The preemption policy, which corresponds to the given value, as a value of the enum
+     * {@link PreemptionPolicy}
+     */
+    public static PreemptionPolicy fromValue(final int value) {
+        for (PreemptionPolicy preemptionPolicy : values()) {
+            if (preemptionPolicy.getValue() == value) {
+                return preemptionPolicy;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid enum value: " + value);
+    }
+
+}
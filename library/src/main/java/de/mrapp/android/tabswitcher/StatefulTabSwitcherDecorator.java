@@ -15,12 +15,12 @@ package de.mrapp.android.tabswitcher;
 
 import android.content.Context;
 import android.os.Bundle;
-import android.util.SparseArray;
+import android.util.LruCache;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
-import java.lang.ref.SoftReference;
+import java.util.Map;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -30,8 +30,11 @@ import de.mrapp.util.Condition;
 /**
  * A {@link TabSwitcherDecorator}, which allows to store any arbitrary state for each tab of the
  * associated {@link TabSwitcher}. The state is kept even if the tab is currently not shown.
- * However, it is possible that states are vanished, if few memory is available, because they are
- * stored using {@link SoftReference}s. Unlike the parameters, which can be set for an individual
+ * However, the number of states is limited. If the limit, which can be specified by using the
+ * method {@link #setMaxStateCacheSize(int)}, is exceeded, the states of the tabs, which have not
+ * been accessed for the longest time, are evicted and the method {@link #onEvictState(Object)} is
+ * invoked. By default, each state has a size of 1, which can be changed by overriding the method
+ * {@link #getStateSize(Object)}. Unlike the parameters, which can be set for an individual
  * {@link Tab} using the method {@link Tab#setParameters(Bundle)}, these states are not restored
  * when restoring the state of a {@link TabSwitcher}, e.g. after orientation changes. Instead the
  * state is vanished and will be created from scratch when the tab is shown for the next time.
@@ -69,9 +72,63 @@ import de.mrapp.util.Condition;
 public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitcherDecorator {
 
     /**
-     * A sparse array, which is used to store the states of tabs.
+     * The default maximum size of the cache, which is used to store the states of tabs.
      */
-    private SparseArray<SoftReference<StateType>> states;
+    public static final int DEFAULT_MAX_STATE_CACHE_SIZE = 32;
+
+    /**
+     * The cache, which is used to store the states of tabs.
+     */
+    private LruCache<Tab, StateType> states;
+
+    /**
+     * The maximum size of the cache, which is used to store the states of tabs.
+     */
+    private int maxStateCacheSize = DEFAULT_MAX_STATE_CACHE_SIZE;
+
+    /**
+     * The number of times, an existing state has been used, when showing a tab.
+     */
+    private int hitCount;
+
+    /**
+     * The number of times, a state had to be created, when showing a tab.
+     */
+    private int missCount;
+
+    /**
+     * The number of states, which have been evicted from the cache.
+     */
+    private int evictionCount;
+
+    /**
+     * Creates and returns a cache, which allows to store the states of tabs.
+     *
+     * @param maxSize
+     *         The maximum size of the cache as an {@link Integer} value
+     * @return The cache, which has been created, as an instance of the class {@link LruCache}. The
+     * cache may not be null
+     */
+    @NonNull
+    private LruCache<Tab, StateType> createStateCache(final int maxSize) {
+        return new LruCache<Tab, StateType>(maxSize) {
+
+            @Override
+            protected int sizeOf(final Tab key, final StateType value) {
+                return getStateSize(value);
+            }
+
+            @Override
+            protected void entryRemoved(final boolean evicted, final Tab key,
+                                        final StateType oldValue, final StateType newValue) {
+                if (evicted) {
+                    evictionCount++;
+                    onEvictState(oldValue);
+                }
+            }
+
+        };
+    }
 
     /**
      * The method, which is invoked on subclasses in order to create the state for a specific tab.
@@ -121,6 +178,35 @@ public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitche
 
     }
 
+    /**
+     * The method, which is invoked on subclasses, when a state is evicted, because the maximum
+     * size of the cache, which is used to store the states of tabs, has been exceeded. By default,
+     * the method {@link #onClearState(Object)} is invoked.
+     *
+     * @param state
+     *         The state, which is evicted, as an instance of the generic type {@link StateType}.
+     *         The state may not be null
+     */
+    protected void onEvictState(@NonNull final StateType state) {
+        onClearState(state);
+    }
+
+    /**
+     * The method, which is invoked on subclasses in order to determine the size of a specific
+     * state, which is taken into account by the cache, which is used to store the states of tabs.
+     * By default, each state has a size of 1, i.e. the maximum size of the cache corresponds to the
+     * maximum number of states.
+     *
+     * @param state
+     *         The state, whose size should be returned, as an instance of the generic type {@link
+     *         StateType}. The state may not be null
+     * @return The size of the given state as an {@link Integer} value. The size must be at least 0
+     * and must not change while the state is stored in the cache
+     */
+    protected int getStateSize(@NonNull final StateType state) {
+        return 1;
+    }
+
     /**
      * The method which is invoked, when the view, which is used to visualize a tab, should be
      * shown, respectively when it should be refreshed. The purpose of this method is to customize
@@ -187,6 +273,72 @@ public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitche
 
     }
 
+    /**
+     * Sets the maximum size of the cache, which is used to store the states of tabs. If the
+     * maximum size is exceeded, the states of the tabs, which have not been accessed for the
+     * longest time, are evicted. By default, the maximum size corresponds to the maximum number of
+     * states.
+     *
+     * @param maxSize
+     *         The maximum size, which should be set, as an {@link Integer} value. The maximum size
+     *         must be at least 1
+     * @see #getStateSize(Object)
+     */
+    public final void setMaxStateCacheSize(final int maxSize) {
+        Condition.INSTANCE.ensureAtLeast(maxSize, 1, "The maximum size must be at least 1");
+        this.maxStateCacheSize = maxSize;
+
+        if (states != null) {
+            Map<Tab, StateType> snapshot = states.snapshot();
+            states = createStateCache(maxSize);
+
+            for (Map.Entry<Tab, StateType> entry : snapshot.entrySet()) {
+                states.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum size of the cache, which is used to store the states of tabs.
+     *
+     * @return The maximum size of the cache, which is used to store the states of tabs, as an
+     * {@link Integer} value
+     */
+    public final int getMaxStateCacheSize() {
+        return maxStateCacheSize;
+    }
+
+    /**
+     * Returns the number of times, an existing state has been used, when showing a tab.
+     *
+     * @return The number of times, an existing state has been used, when showing a tab, as an
+     * {@link Integer} value
+     */
+    public final int getStateCacheHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times, a state had to be created, when showing a tab, because no state
+     * was available.
+     *
+     * @return The number of times, a state had to be created, when showing a tab, as an {@link
+     * Integer} value
+     */
+    public final int getStateCacheMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of states, which have been evicted, because the maximum size of the
+     * cache, which is used to store the states of tabs, has been exceeded.
+     *
+     * @return The number of states, which have been evicted, as an {@link Integer} value
+     */
+    public final int getStateCacheEvictionCount() {
+        return evictionCount;
+    }
+
     /**
      * Returns the state of a specific tab.
      *
@@ -199,16 +351,7 @@ public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitche
     @Nullable
     public final StateType getState(@NonNull final Tab tab) {
         Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
-
-        if (states != null) {
-            SoftReference<StateType> reference = states.get(tab.hashCode());
-
-            if (reference != null) {
-                return reference.get();
-            }
-        }
-
-        return null;
+        return states != null ? states.get(tab) : null;
     }
 
     /**
@@ -222,20 +365,14 @@ public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitche
         Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
 
         if (states != null) {
-            SoftReference<StateType> reference = states.get(tab.hashCode());
-
-            if (reference != null) {
-                StateType state = reference.get();
-
-                if (state != null) {
-                    onClearState(state);
-                }
+            StateType state = states.remove(tab);
 
-                states.remove(tab.hashCode());
+            if (state != null) {
+                onClearState(state);
+            }
 
-                if (states.size() == 0) {
-                    states = null;
-                }
+            if (states.size() == 0) {
+                states = null;
             }
         }
     }
@@ -245,16 +382,14 @@ public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitche
      */
     public final void clearAllStates() {
         if (states != null) {
-            for (int i = 0; i < states.size(); i++) {
-                SoftReference<StateType> reference = states.valueAt(i);
-                StateType state = reference.get();
+            for (Tab tab : states.snapshot().keySet()) {
+                StateType state = states.remove(tab);
 
                 if (state != null) {
                     onClearState(state);
                 }
             }
 
-            states.clear();
             states = null;
         }
     }
@@ -265,18 +400,21 @@ public abstract class StatefulTabSwitcherDecorator<StateType> extends TabSwitche
                                 @NonNull final Tab tab, final int index, final int viewType,
                                 @Nullable final Bundle savedInstanceState) {
         if (states == null) {
-            states = new SparseArray<>();
+            states = createStateCache(maxStateCacheSize);
         }
 
         StateType state = getState(tab);
 
         if (state == null) {
+            missCount++;
             state = onCreateState(context, tabSwitcher, view, tab, index, viewType,
                     savedInstanceState);
 
             if (state != null) {
-                states.put(tab.hashCode(), new SoftReference<>(state));
+                states.put(tab, state);
             }
+        } else {
+            hitCount++;
         }
 
         onShowTab(context, tabSwitcher, view, tab, index, viewType, state, savedInstanceState);
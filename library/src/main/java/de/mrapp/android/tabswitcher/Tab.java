@@ -30,6 +30,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 import androidx.appcompat.content.res.AppCompatResources;
+import de.mrapp.android.tabswitcher.util.DrawableCache;
 import de.mrapp.util.Condition;
 import de.mrapp.util.datastructure.ListenerList;
 
@@ -451,6 +452,35 @@ public class Tab implements Parcelable {
         }
     }
 
+    /**
+     * Returns the tab's icon, tinted using a specific color state list and mode, by retrieving it
+     * from a cache.
+     *
+     * @param cache
+     *         The cache, which should be used, as an instance of the class {@link DrawableCache}.
+     *         The cache may not be null
+     * @param tintList
+     *         The color state list, which should be used to tint the icon, as an instance of the
+     *         class {@link ColorStateList} or null, if the icon should not be tinted
+     * @param tintMode
+     *         The mode, which should be used to tint the icon, as a value of the enum {@link
+     *         PorterDuff.Mode}. The mode may not be null
+     * @return The tab's icon as an instance of the class {@link Drawable} or null, if no custom
+     * icon is set
+     */
+    @Nullable
+    public final Drawable getIcon(@NonNull final DrawableCache cache,
+                                  @Nullable final ColorStateList tintList,
+                                  @NonNull final PorterDuff.Mode tintMode) {
+        Condition.INSTANCE.ensureNotNull(cache, "The cache may not be null");
+
+        if (iconId != -1) {
+            return cache.getDrawable(iconId, tintList, tintMode);
+        } else {
+            return iconBitmap != null ? cache.getDrawable(iconBitmap, tintList, tintMode) : null;
+        }
+    }
+
     /**
      * Sets the tab's icon.
      *
@@ -572,6 +602,36 @@ public class Tab implements Parcelable {
         }
     }
 
+    /**
+     * Returns the icon of the tab's close button, tinted using a specific color state list and
+     * mode, by retrieving it from a cache.
+     *
+     * @param cache
+     *         The cache, which should be used, as an instance of the class {@link DrawableCache}.
+     *         The cache may not be null
+     * @param tintList
+     *         The color state list, which should be used to tint the icon, as an instance of the
+     *         class {@link ColorStateList} or null, if the icon should not be tinted
+     * @param tintMode
+     *         The mode, which should be used to tint the icon, as a value of the enum {@link
+     *         PorterDuff.Mode}. The mode may not be null
+     * @return The icon of the tab's close button as an instance of the class {@link Drawable} or
+     * null, if no custom icon is set
+     */
+    @Nullable
+    public final Drawable getCloseButtonIcon(@NonNull final DrawableCache cache,
+                                             @Nullable final ColorStateList tintList,
+                                             @NonNull final PorterDuff.Mode tintMode) {
+        Condition.INSTANCE.ensureNotNull(cache, "The cache may not be null");
+
+        if (closeButtonIconId != -1) {
+            return cache.getDrawable(closeButtonIconId, tintList, tintMode);
+        } else {
+            return closeButtonIconBitmap != null ?
+                    cache.getDrawable(closeButtonIconBitmap, tintList, tintMode) : null;
+        }
+    }
+
     /**
      * Sets the icon of the tab's close button.
      *
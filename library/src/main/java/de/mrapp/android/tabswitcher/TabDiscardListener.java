@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be notified, when a tab has been discarded in order
+ * to reduce the memory consumption, must implement. When a tab is discarded, the saved state of its
+ * content and the state of a {@link StatefulTabSwitcherDecorator} are released. They are rebuilt,
+ * when the tab is selected again.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public interface TabDiscardListener {
+
+    /**
+     * The method, which is invoked, when a tab has been discarded. This allows to release any
+     * resources, which are associated with the tab by the app.
+     *
+     * @param tabSwitcher
+     *         The tab switcher, the tab belongs to, as an instance of the class {@link
+     *         TabSwitcher}. The tab switcher may not be null
+     * @param tab
+     *         The tab, which has been discarded, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     */
+    void onTabDiscarded(@NonNull TabSwitcher tabSwitcher, @NonNull Tab tab);
+
+}
@@ -14,11 +14,16 @@
 package de.mrapp.android.tabswitcher;
 
 import android.annotation.TargetApi;
+import android.app.Activity;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.ContextWrapper;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
 import android.content.res.Resources.NotFoundException;
 import android.content.res.TypedArray;
 import android.graphics.Bitmap;
+import android.graphics.Canvas;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
@@ -34,10 +39,11 @@ import android.view.ViewGroup;
 import android.view.ViewTreeObserver.OnGlobalLayoutListener;
 import android.widget.FrameLayout;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
@@ -55,6 +61,8 @@ import androidx.appcompat.widget.Toolbar;
 import androidx.appcompat.widget.Toolbar.OnMenuItemClickListener;
 import androidx.core.util.Pair;
 import androidx.core.view.ViewCompat;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.android.tabswitcher.drawable.PerformanceOverlayDrawable;
 import de.mrapp.android.tabswitcher.gesture.AbstractTouchEventHandler;
 import de.mrapp.android.tabswitcher.gesture.DragGestureEventHandlerFactory;
 import de.mrapp.android.tabswitcher.gesture.TouchEventDispatcher;
@@ -64,10 +72,16 @@ import de.mrapp.android.tabswitcher.layout.ContentRecyclerAdapter;
 import de.mrapp.android.tabswitcher.layout.TabSwitcherLayout;
 import de.mrapp.android.tabswitcher.layout.phone.PhoneArithmetics;
 import de.mrapp.android.tabswitcher.layout.phone.PhoneTabSwitcherLayout;
+import de.mrapp.android.tabswitcher.model.MetricsRecorder;
 import de.mrapp.android.tabswitcher.model.Model;
+import de.mrapp.android.tabswitcher.model.PendingActionQueue;
+import de.mrapp.android.tabswitcher.model.PerformanceEventLog;
+import de.mrapp.android.tabswitcher.model.PerformanceEventLog.EventType;
+import de.mrapp.android.tabswitcher.model.TabDiscarder;
 import de.mrapp.android.tabswitcher.model.TabSwitcherModel;
 import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
 import de.mrapp.android.tabswitcher.util.ThemeHelper;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
 import de.mrapp.android.tabswitcher.view.TabSwitcherButton;
 import de.mrapp.android.util.DisplayUtil.Orientation;
 import de.mrapp.android.util.ViewUtil;
@@ -183,7 +197,7 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
     /**
      * A queue, which contains all pending actions.
      */
-    private Queue<Runnable> pendingActions;
+    private PendingActionQueue pendingActions;
 
     /**
      * A set, which contains the listeners, which should be notified about the tab switcher's
@@ -227,6 +241,58 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
      */
     private boolean preserveState = true;
 
+    /**
+     * The policy, which specifies how operations, which are performed while animations are
+     * running, should be handled.
+     */
+    private PreemptionPolicy preemptionPolicy = PreemptionPolicy.QUEUE;
+
+    /**
+     * The policy, which specifies whether the views of tabs should be rendered into hardware
+     * layers while they are animated.
+     */
+    private HardwareLayerPolicy hardwareLayerPolicy = HardwareLayerPolicy.PHONE_ONLY;
+
+    /**
+     * The number of views, which are used to visualize tabs, that should be inflated ahead of
+     * time, before the switcher is shown for the first time.
+     */
+    private int prewarmedTabViewCount = 0;
+
+    /**
+     * The amount of memory in bytes, which may be used to bind the content of the tabs, which are
+     * adjacent to the selected tab, ahead of time.
+     */
+    private long neighborPrebindingBudget = 0;
+
+    /**
+     * The maximum total size in bytes of the saved states of tabs, which are kept in memory, or -1,
+     * if the size is not restricted.
+     */
+    private long maxSavedStateSize = -1;
+
+    /**
+     * The class, which is used to discard tabs, which have not been accessed for the longest time.
+     */
+    private TabDiscarder tabDiscarder;
+
+    /**
+     * True, if tabs should be discarded, when the system is running low on memory, false
+     * otherwise.
+     */
+    private boolean discardTabsOnTrimMemory = false;
+
+    /**
+     * The callbacks, which are used to observe the memory state of the system.
+     */
+    private ComponentCallbacks2 componentCallbacks;
+
+    /**
+     * The drawable, which is used to display performance statistics as an overlay, or null, if no
+     * overlay is shown.
+     */
+    private PerformanceOverlayDrawable performanceOverlay;
+
     /**
      * Initializes the view.
      *
@@ -245,9 +311,12 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
     private void initialize(@Nullable final AttributeSet attributeSet,
                             @AttrRes final int defaultStyle,
                             @StyleRes final int defaultStyleResource) {
-        pendingActions = new LinkedList<>();
         listeners = new CopyOnWriteArraySet<>();
         model = new TabSwitcherModel(this);
+        pendingActions = new PendingActionQueue(model, model.getMetricsRecorder());
+        tabDiscarder = createTabDiscarder();
+        componentCallbacks = createComponentCallbacks();
+        listeners.add(tabDiscarder);
         model.addListener(createModelListener());
         touchEventDispatcher = new TouchEventDispatcher();
         setPadding(super.getPaddingLeft(), super.getPaddingTop(), super.getPaddingRight(),
@@ -329,6 +398,10 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
             themeHelper = new ThemeHelper(getContext(), globalTheme, phoneTheme, tabletTheme);
             style = new TabSwitcherStyle(this, model, themeHelper);
             obtainPreserveState(typedArray);
+            obtainPreemptionPolicy(typedArray);
+            obtainHardwareLayerPolicy(typedArray);
+            obtainPrewarmedTabViewCount(typedArray);
+            obtainPerformanceOverlay(typedArray);
             obtainLayoutPolicy(typedArray);
             obtainBackground(typedArray);
             obtainTabIcon(typedArray);
@@ -365,6 +438,57 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
         setPreserveState(typedArray.getBoolean(R.styleable.TabSwitcher_preserveState, false));
     }
 
+    /**
+     * Obtains the preemption policy from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the preemption policy should be obtained from, as an instance of
+     *         the class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainPreemptionPolicy(@NonNull final TypedArray typedArray) {
+        int value = typedArray.getInt(R.styleable.TabSwitcher_preemptionPolicy, 0);
+        setPreemptionPolicy(PreemptionPolicy.fromValue(value));
+    }
+
+    /**
+     * Obtains the hardware layer policy from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the hardware layer policy should be obtained from, as an instance
+     *         of the class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainHardwareLayerPolicy(@NonNull final TypedArray typedArray) {
+        int value = typedArray.getInt(R.styleable.TabSwitcher_hardwareLayerPolicy,
+                HardwareLayerPolicy.PHONE_ONLY.getValue());
+        setHardwareLayerPolicy(HardwareLayerPolicy.fromValue(value));
+    }
+
+    /**
+     * Obtains the number of views, which are used to visualize tabs, that should be inflated ahead
+     * of time, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the number of views should be obtained from, as an instance of the
+     *         class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainPrewarmedTabViewCount(@NonNull final TypedArray typedArray) {
+        setPrewarmedTabViewCount(
+                typedArray.getInt(R.styleable.TabSwitcher_prewarmedTabViews, 0));
+    }
+
+    /**
+     * Obtains whether a performance overlay should be shown, or not, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, it should be obtained from, whether a performance overlay should be
+     *         shown, as an instance of the class {@link TypedArray}. The typed array may not be
+     *         null
+     */
+    private void obtainPerformanceOverlay(@NonNull final TypedArray typedArray) {
+        setPerformanceOverlayEnabled(
+                typedArray.getBoolean(R.styleable.TabSwitcher_performanceOverlay, false));
+    }
+
     /**
      * Obtains the layout policy from a specific typed array.
      *
@@ -669,9 +793,65 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
     }
 
     /**
-     * Executes the next pending action.
+     * Throws an {@link IndexOutOfBoundsException}, if a specific index, tabs should be added at,
+     * is negative.
+     *
+     * @param index
+     *         The index, which should be checked, as an {@link Integer} value
+     */
+    private void ensureValidIndex(final int index) {
+        Condition.INSTANCE.ensureAtLeast(index, 0, "Invalid index: " + index,
+                IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Returns an array, which contains the tabs, which are contained by a specific collection.
+     *
+     * @param tabs
+     *         The collection, which contains the tabs, as an instance of the type {@link
+     *         Collection}. The collection may not be null
+     * @return An array, which contains the tabs, which are contained by the given collection, as
+     * an array of the type {@link Tab}. The array may not be null
+     */
+    @NonNull
+    private Tab[] toArray(@NonNull final Collection<? extends Tab> tabs) {
+        Condition.INSTANCE.ensureNotNull(tabs, "The collection may not be null");
+        Tab[] array = new Tab[tabs.size()];
+        tabs.toArray(array);
+        return array;
+    }
+
+    /**
+     * Enqueues an action, which adds several tabs, to be executed, when no animation is running.
+     *
+     * @param tabs
+     *         An array, which contains the tabs, which should be added, as an array of the type
+     *         {@link Tab}. The array may not be null
+     * @param index
+     *         The index, the tabs should be added at, as an {@link Integer} value or -1, if the
+     *         tabs should be added at the end
+     * @param animation
+     *         The animation, which should be used to add the tabs, as an instance of the class
+     *         {@link Animation} or null, if the default animation should be used
+     */
+    private void enqueueAddTabs(@NonNull final Tab[] tabs, final int index,
+                                @Nullable final Animation animation) {
+        pendingActions.addTabs(tabs, index, animation);
+        executePendingAction();
+    }
+
+    /**
+     * Executes the next pending action. If the preemption policy {@link
+     * PreemptionPolicy#FAST_FORWARD} is used, running animations are fast-forwarded first. As the
+     * layout does not notify its callback, while fast-forwarding animations, the action is then
+     * executed by this method itself.
      */
     private void executePendingAction() {
+        if (preemptionPolicy == PreemptionPolicy.FAST_FORWARD && layout != null &&
+                !pendingActions.isEmpty() && isAnimationRunning()) {
+            layout.endAnimations();
+        }
+
         if (!isAnimationRunning()) {
             final Runnable action = pendingActions.poll();
 
@@ -787,7 +967,7 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
             @Override
             public void onPaddingChanged(final int left, final int top, final int right,
                                          final int bottom) {
-
+                touchEventDispatcher.invalidateTouchableAreas();
             }
 
             @Override
@@ -885,6 +1065,127 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
         };
     }
 
+    /**
+     * Creates and returns the class, which allows to discard tabs, which have not been accessed for
+     * the longest time.
+     *
+     * @return The class, which has been created, as an instance of the class {@link TabDiscarder}.
+     * The class may not be null
+     */
+    @NonNull
+    private TabDiscarder createTabDiscarder() {
+        return new TabDiscarder(this, model) {
+
+            @Override
+            protected boolean isInUse(@NonNull final Tab tab) {
+                if (layout != null) {
+                    AbstractViewRecycler<Tab, Void> contentViewRecycler =
+                            layout.getContentViewRecycler();
+                    return contentViewRecycler != null && contentViewRecycler.getView(tab) != null;
+                }
+
+                return false;
+            }
+
+            @Override
+            protected void onDiscard(@NonNull final Tab tab) {
+                if (layout != null) {
+                    layout.clearCachedPreview(tab);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Returns, whether the activity, the tab switcher belongs to, is finishing, or not.
+     *
+     * @return True, if the activity, the tab switcher belongs to, is finishing, false otherwise
+     */
+    private boolean isActivityFinishing() {
+        Context context = getContext();
+
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                return ((Activity) context).isFinishing();
+            }
+
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates and returns the callbacks, which allow to discard tabs, when the system is running
+     * low on memory.
+     *
+     * @return The callbacks, which have been created, as an instance of the type {@link
+     * ComponentCallbacks2}. The callbacks may not be null
+     */
+    @NonNull
+    private ComponentCallbacks2 createComponentCallbacks() {
+        return new ComponentCallbacks2() {
+
+            @Override
+            public void onTrimMemory(final int level) {
+                model.getMetricsRecorder().getEventLog()
+                        .record(EventType.MEMORY_TRIMMED, -1, level);
+
+                if (level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_RUNNING_CRITICAL ||
+                        level >= TRIM_MEMORY_BACKGROUND) {
+                    discardLeastRecentlyUsedTabs(level);
+                }
+            }
+
+            @Override
+            public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+                themeHelper.clearCache();
+                style.clearDrawableCache();
+            }
+
+            @Override
+            public void onLowMemory() {
+                model.getMetricsRecorder().getEventLog()
+                        .record(EventType.MEMORY_TRIMMED, -1, TRIM_MEMORY_COMPLETE);
+                discardLeastRecentlyUsedTabs(TRIM_MEMORY_COMPLETE);
+            }
+
+        };
+    }
+
+    /**
+     * Discards the tabs, which have not been accessed for the longest time, if tabs should be
+     * discarded, when the system is running low on memory. The number of discarded tabs depends
+     * on the level of memory trimming. When the system is running low on memory, half of the tabs,
+     * which are not discarded yet, are discarded. When the memory is critically low, three
+     * quarters of them are discarded and the previews of all tabs are released. When the app is in
+     * the background, all tabs are discarded. The selected tab and those, whose content is
+     * currently in use, are never discarded.
+     *
+     * @param level
+     *         The level of memory trimming as an {@link Integer} value
+     */
+    private void discardLeastRecentlyUsedTabs(final int level) {
+        if (discardTabsOnTrimMemory) {
+            int retainedTabs = tabDiscarder.getRetainedTabCount();
+
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+                retainedTabs = 1;
+            } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+                retainedTabs /= 4;
+            } else {
+                retainedTabs /= 2;
+            }
+
+            tabDiscarder.discardTabs(Math.max(1, retainedTabs));
+
+            if (layout != null && level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+                layout.clearCachedPreviews();
+            }
+        }
+    }
+
     /**
      * Creates and returns a listener, which allows to inflate the view's layout once the view is
      * laid out.
@@ -1151,6 +1452,30 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
         }
     }
 
+    /**
+     * Sets, whether sections should be added to the system trace, or not. If enabled, the
+     * inflation of the layout, the calculation of the tabs' positions, the binding of views, the
+     * rendering of previews and all animations are traced, which allows to inspect them by using
+     * tools such as Systrace or Perfetto. Synchronous sections require at least API level 18,
+     * animations are only traced on devices with API level 29 or higher. Tracing applies to all tab
+     * switchers and is disabled by default.
+     *
+     * @param enabled
+     *         True, if sections should be added to the system trace, false otherwise
+     */
+    public static void setTracingEnabled(final boolean enabled) {
+        TraceHelper.setEnabled(enabled);
+    }
+
+    /**
+     * Returns, whether sections are added to the system trace, or not.
+     *
+     * @return True, if sections are added to the system trace, false otherwise
+     */
+    public static boolean isTracingEnabled() {
+        return TraceHelper.isEnabled();
+    }
+
     /**
      * Adds a listener, which should be notified about the tab switcher's events.
      *
@@ -1290,6 +1615,373 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
         return preserveState;
     }
 
+    /**
+     * Sets the policy, which specifies how operations, e.g. adding, removing or selecting tabs,
+     * which are performed while animations are running, should be handled.
+     *
+     * @param preemptionPolicy
+     *         The policy, which should be set, as a value of the enum {@link PreemptionPolicy}. The
+     *         policy may not be null
+     */
+    public final void setPreemptionPolicy(@NonNull final PreemptionPolicy preemptionPolicy) {
+        Condition.INSTANCE.ensureNotNull(preemptionPolicy, "The preemption policy may not be null");
+        this.preemptionPolicy = preemptionPolicy;
+    }
+
+    /**
+     * Returns the policy, which specifies how operations, e.g. adding, removing or selecting tabs,
+     * which are performed while animations are running, are handled.
+     *
+     * @return The policy, which specifies how operations, which are performed while animations are
+     * running, are handled, as a value of the enum {@link PreemptionPolicy}. The policy may not be
+     * null
+     */
+    @NonNull
+    public final PreemptionPolicy getPreemptionPolicy() {
+        return preemptionPolicy;
+    }
+
+    /**
+     * Sets the policy, which specifies whether the views, which are used to visualize tabs,
+     * should be rendered into hardware layers while they are animated.
+     *
+     * @param hardwareLayerPolicy
+     *         The policy, which should be set, as a value of the enum {@link HardwareLayerPolicy}.
+     *         The policy may not be null
+     */
+    public final void setHardwareLayerPolicy(
+            @NonNull final HardwareLayerPolicy hardwareLayerPolicy) {
+        Condition.INSTANCE
+                .ensureNotNull(hardwareLayerPolicy, "The hardware layer policy may not be null");
+        this.hardwareLayerPolicy = hardwareLayerPolicy;
+    }
+
+    /**
+     * Returns the policy, which specifies whether the views, which are used to visualize tabs,
+     * are rendered into hardware layers while they are animated.
+     *
+     * @return The policy, which specifies whether the views, which are used to visualize tabs,
+     * are rendered into hardware layers while they are animated, as a value of the enum {@link
+     * HardwareLayerPolicy}. The policy may not be null
+     */
+    @NonNull
+    public final HardwareLayerPolicy getHardwareLayerPolicy() {
+        return hardwareLayerPolicy;
+    }
+
+    /**
+     * Sets the number of views, which are used to visualize tabs, that should be inflated ahead of
+     * time on a background thread, before the switcher is shown for the first time. This reduces
+     * the work, which must be done on the UI thread, when the switcher is shown. The number is
+     * taken into account, when the layout of the tab switcher is inflated.
+     *
+     * @param count
+     *         The number of views, which should be inflated ahead of time, as an {@link Integer}
+     *         value. The number must be at least 0. If the number is 0, no views are inflated ahead
+     *         of time
+     */
+    public final void setPrewarmedTabViewCount(final int count) {
+        Condition.INSTANCE.ensureAtLeast(count, 0, "The count must be at least 0");
+        this.prewarmedTabViewCount = count;
+    }
+
+    /**
+     * Returns the number of views, which are used to visualize tabs, that are inflated ahead of
+     * time on a background thread, before the switcher is shown for the first time.
+     *
+     * @return The number of views, which are inflated ahead of time, as an {@link Integer} value
+     */
+    public final int getPrewarmedTabViewCount() {
+        return prewarmedTabViewCount;
+    }
+
+    /**
+     * Sets the amount of memory, which may be used to inflate and bind the content of the tabs,
+     * which are adjacent to the selected tab, ahead of time, while the switcher is not shown. This
+     * allows to start switching between tabs by swiping horizontally without delay. The content of
+     * a tab is estimated to require as much memory as a bitmap with the size of the tab switcher.
+     *
+     * @param budget
+     *         The amount of memory, which should be set, in bytes as a {@link Long} value. The
+     *         amount must be at least 0. If the amount is 0, no content is bound ahead of time
+     */
+    public final void setNeighborPrebindingBudget(final long budget) {
+        Condition.INSTANCE.ensureAtLeast(budget, 0, "The budget must be at least 0");
+        this.neighborPrebindingBudget = budget;
+
+        if (layout != null) {
+            layout.adaptNeighborPrebinding();
+        }
+    }
+
+    /**
+     * Returns the amount of memory, which may be used to inflate and bind the content of the tabs,
+     * which are adjacent to the selected tab, ahead of time.
+     *
+     * @return The amount of memory, which may be used to bind the content of adjacent tabs ahead
+     * of time, in bytes as a {@link Long} value. If no content is bound ahead of time, 0 is
+     * returned
+     */
+    public final long getNeighborPrebindingBudget() {
+        return neighborPrebindingBudget;
+    }
+
+    /**
+     * Sets the maximum total size of the saved states of tabs, which are kept in memory. The size
+     * of a saved state is measured by its parcel size. If the maximum size is exceeded, the saved
+     * states of the tabs, which have not been shown for the longest time, are compressed and
+     * written to the cache directory on a background thread. When a tab is selected, the states of
+     * the selected tab and its neighbors are read again ahead of time on a background thread.
+     * Otherwise, they are read on the UI thread, when the corresponding tabs are shown. Restricting
+     * the size also limits the size of the state, which is stored, when the activity is destroyed.
+     *
+     * @param maxSize
+     *         The maximum size, which should be set, in bytes as a {@link Long} value. The size
+     *         must be at least 0 or -1, if the size should not be restricted
+     */
+    public final void setMaxSavedStateSize(final long maxSize) {
+        if (maxSize != -1) {
+            Condition.INSTANCE.ensureAtLeast(maxSize, 0, "The maximum size must be at least 0");
+        }
+
+        this.maxSavedStateSize = maxSize;
+
+        if (model.getDecorator() != null) {
+            model.getContentRecyclerAdapter().setMaxSavedStateSize(maxSize);
+        }
+    }
+
+    /**
+     * Returns the maximum total size of the saved states of tabs, which are kept in memory.
+     *
+     * @return The maximum total size of the saved states of tabs, which are kept in memory, in
+     * bytes as a {@link Long} value or -1, if the size is not restricted
+     */
+    public final long getMaxSavedStateSize() {
+        return maxSavedStateSize;
+    }
+
+    /**
+     * Sets, whether performance metrics should be collected, or not. While metrics are collected,
+     * the number of inflated and reused views, rendered previews, calls of the decorator, pending
+     * actions and animations, as well as the distribution of render and wait times, are counted.
+     * A snapshot of the metrics can be retrieved by using the method {@link #getMetrics()}.
+     *
+     * @param enabled
+     *         True, if performance metrics should be collected, false otherwise
+     */
+    public final void setMetricsEnabled(final boolean enabled) {
+        model.getMetricsRecorder().setEnabled(enabled);
+    }
+
+    /**
+     * Returns, whether performance metrics are collected, or not.
+     *
+     * @return True, if performance metrics are collected, false otherwise
+     */
+    public final boolean areMetricsEnabled() {
+        return model.getMetricsRecorder().isEnabled();
+    }
+
+    /**
+     * Returns a snapshot of the performance metrics, which have been collected so far.
+     *
+     * @return The snapshot of the performance metrics as an instance of the class {@link
+     * TabSwitcherMetrics}. The snapshot may not be null
+     */
+    @NonNull
+    public final TabSwitcherMetrics getMetrics() {
+        return model.getMetricsRecorder().getMetrics();
+    }
+
+    /**
+     * Resets all performance metrics, which have been collected so far.
+     */
+    public final void resetMetrics() {
+        model.getMetricsRecorder().reset();
+    }
+
+    /**
+     * Sets, whether an overlay, which displays performance statistics, should be shown on top of
+     * the tab switcher, or not. The overlay displays the duration of the most recent frame, the
+     * number of views, which are used to visualize tabs or are associated with tabs, the state of
+     * the cache, which is used to store the previews of tabs, the number of pending actions and the
+     * current layout. It is meant to be used for debugging purposes only. While the overlay is
+     * shown, the tab switcher is redrawn continuously. Enabling the overlay also enables
+     * collecting performance metrics (see {@link #setMetricsEnabled(boolean)}).
+     *
+     * @param enabled
+     *         True, if the overlay should be shown, false otherwise
+     */
+    public final void setPerformanceOverlayEnabled(final boolean enabled) {
+        if (enabled && performanceOverlay == null) {
+            performanceOverlay = new PerformanceOverlayDrawable(getContext());
+            setMetricsEnabled(true);
+        } else if (!enabled) {
+            performanceOverlay = null;
+        }
+
+        invalidate();
+    }
+
+    /**
+     * Returns, whether an overlay, which displays performance statistics, is shown on top of the
+     * tab switcher, or not.
+     *
+     * @return True, if the overlay is shown, false otherwise
+     */
+    public final boolean isPerformanceOverlayEnabled() {
+        return performanceOverlay != null;
+    }
+
+    /**
+     * Sets, whether timestamped performance events should be recorded, or not. While events are
+     * recorded, the start and end of animations, the rendering of previews, the application of the
+     * decorator, the inflation, reuse and removal of views, evictions from the preview cache and
+     * requests of the system to trim memory are kept in a ring buffer. Once the buffer is full, the
+     * oldest events are overwritten. The events can be written to a file by using the method
+     * {@link #writeEventLog(File)}.
+     *
+     * @param enabled
+     *         True, if performance events should be recorded, false otherwise
+     */
+    public final void setEventLogEnabled(final boolean enabled) {
+        model.getMetricsRecorder().getEventLog().setEnabled(enabled);
+    }
+
+    /**
+     * Returns, whether timestamped performance events are recorded, or not.
+     *
+     * @return True, if performance events are recorded, false otherwise
+     */
+    public final boolean isEventLogEnabled() {
+        return model.getMetricsRecorder().getEventLog().isEnabled();
+    }
+
+    /**
+     * Sets the maximum number of performance events, which should be kept. All events, which have
+     * been recorded so far, are discarded. By default, {@link PerformanceEventLog#DEFAULT_CAPACITY}
+     * events are kept.
+     *
+     * @param capacity
+     *         The maximum number of performance events, which should be kept, as an {@link Integer}
+     *         value. The capacity must be at least 1
+     */
+    public final void setEventLogCapacity(final int capacity) {
+        model.getMetricsRecorder().getEventLog().setCapacity(capacity);
+    }
+
+    /**
+     * Returns the maximum number of performance events, which are kept.
+     *
+     * @return The maximum number of performance events, which are kept, as an {@link Integer}
+     * value
+     */
+    public final int getEventLogCapacity() {
+        return model.getMetricsRecorder().getEventLog().getCapacity();
+    }
+
+    /**
+     * Discards all performance events, which have been recorded so far.
+     */
+    public final void clearEventLog() {
+        model.getMetricsRecorder().getEventLog().clear();
+    }
+
+    /**
+     * Writes all performance events, which are currently kept, to a specific file. The events are
+     * written from oldest to newest using the JSON Lines format, i.e. each line contains a JSON
+     * object, which specifies the time of the event, its type and, if available, its duration in
+     * nanoseconds, the type of the corresponding animation or the trim level. If the file already
+     * exists, it is overwritten. As this method performs I/O, it should not be called on the UI
+     * thread.
+     *
+     * @param file
+     *         The file, the events should be written to, as an instance of the class {@link File}.
+     *         The file may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurred while writing the file
+     */
+    public final void writeEventLog(@NonNull final File file) throws IOException {
+        model.getMetricsRecorder().getEventLog().writeTo(file);
+    }
+
+    /**
+     * Writes all performance events, which are currently kept, to a specific writer. The events
+     * are written from oldest to newest using the JSON Lines format. The writer is not closed
+     * afterwards.
+     *
+     * @param writer
+     *         The writer, the events should be written to, as an instance of the class {@link
+     *         Writer}. The writer may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurred while writing
+     */
+    public final void writeEventLog(@NonNull final Writer writer) throws IOException {
+        model.getMetricsRecorder().getEventLog().writeTo(writer);
+    }
+
+    /**
+     * Sets, whether tabs should be discarded, when the system is running low on memory, or not.
+     * The more severe the memory pressure, the more tabs are discarded. When the app is in the
+     * background, all tabs are discarded. When a tab is discarded, the saved state of its content,
+     * the state of a {@link StatefulTabSwitcherDecorator} and its preview are released. Listeners,
+     * which have been added by using the method {@link #addTabDiscardListener(TabDiscardListener)},
+     * are notified. A discarded tab is rebuilt, when it is selected again. The selected tab is never
+     * discarded.
+     *
+     * @param discard
+     *         True, if tabs should be discarded, when the system is running low on memory, false
+     *         otherwise
+     */
+    public final void setDiscardTabsOnTrimMemory(final boolean discard) {
+        this.discardTabsOnTrimMemory = discard;
+    }
+
+    /**
+     * Returns, whether tabs are discarded, when the system is running low on memory, or not.
+     *
+     * @return True, if tabs are discarded, when the system is running low on memory, false
+     * otherwise
+     */
+    public final boolean isDiscardingTabsOnTrimMemory() {
+        return discardTabsOnTrimMemory;
+    }
+
+    /**
+     * Sets the maximum number of tabs, which are not discarded. If the number is exceeded, the
+     * tabs, which have not been accessed for the longest time, are discarded.
+     *
+     * @param maxRetainedTabs
+     *         The maximum number of tabs, which should be set, as an {@link Integer} value. The
+     *         number must be at least 1 or -1, if the number should not be restricted
+     */
+    public final void setMaxRetainedTabs(final int maxRetainedTabs) {
+        tabDiscarder.setMaxRetainedTabs(maxRetainedTabs);
+    }
+
+    /**
+     * Returns the maximum number of tabs, which are not discarded.
+     *
+     * @return The maximum number of tabs, which are not discarded, as an {@link Integer} value or
+     * -1, if the number is not restricted
+     */
+    public final int getMaxRetainedTabs() {
+        return tabDiscarder.getMaxRetainedTabs();
+    }
+
+    /**
+     * Returns, whether a specific tab is currently discarded, or not.
+     *
+     * @param tab
+     *         The tab, which should be checked, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     * @return True, if the given tab is currently discarded, false otherwise
+     */
+    public final boolean isTabDiscarded(@NonNull final Tab tab) {
+        return tabDiscarder.isDiscarded(tab);
+    }
+
     /**
      * Clears the saved state of a specific tab.
      *
@@ -1339,137 +2031,77 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
 
     @Override
     public final void addTab(@NonNull final Tab tab) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addTab(tab);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        enqueueAddTabs(new Tab[]{tab}, -1, null);
     }
 
     @Override
     public final void addTab(@NonNull final Tab tab, final int index) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addTab(tab, index);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        ensureValidIndex(index);
+        enqueueAddTabs(new Tab[]{tab}, index, null);
     }
 
     @Override
     public final void addTab(@NonNull final Tab tab, final int index,
                              @NonNull final Animation animation) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addTab(tab, index, animation);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        ensureValidIndex(index);
+        Condition.INSTANCE.ensureNotNull(animation, "The animation may not be null");
+        enqueueAddTabs(new Tab[]{tab}, index, animation);
     }
 
     @Override
     public final void addAllTabs(@NonNull final Collection<? extends Tab> tabs) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addAllTabs(tabs);
-            }
-
-        });
+        enqueueAddTabs(toArray(tabs), -1, null);
     }
 
     @Override
     public final void addAllTabs(@NonNull final Collection<? extends Tab> tabs, final int index) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addAllTabs(tabs, index);
-            }
-
-        });
+        ensureValidIndex(index);
+        enqueueAddTabs(toArray(tabs), index, null);
     }
 
     @Override
     public final void addAllTabs(@NonNull final Collection<? extends Tab> tabs, final int index,
                                  @NonNull final Animation animation) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addAllTabs(tabs, index, animation);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(animation, "The animation may not be null");
+        ensureValidIndex(index);
+        enqueueAddTabs(toArray(tabs), index, animation);
     }
 
     @Override
     public final void addAllTabs(@NonNull final Tab[] tabs) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addAllTabs(tabs);
-            }
-
-        });
+        enqueueAddTabs(tabs, -1, null);
     }
 
     @Override
     public final void addAllTabs(@NonNull final Tab[] tabs, final int index) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addAllTabs(tabs, index);
-            }
-
-        });
+        ensureValidIndex(index);
+        enqueueAddTabs(tabs, index, null);
     }
 
     @Override
     public final void addAllTabs(@NonNull final Tab[] tabs, final int index,
                                  @NonNull final Animation animation) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.addAllTabs(tabs, index, animation);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(animation, "The animation may not be null");
+        ensureValidIndex(index);
+        enqueueAddTabs(tabs, index, animation);
     }
 
     @Override
     public final void removeTab(@NonNull final Tab tab) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.removeTab(tab);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        pendingActions.removeTab(tab, null);
+        executePendingAction();
     }
 
     @Override
     public final void removeTab(@NonNull final Tab tab, @NonNull final Animation animation) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.removeTab(tab, animation);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        Condition.INSTANCE.ensureNotNull(animation, "The animation may not be null");
+        pendingActions.removeTab(tab, animation);
+        executePendingAction();
     }
 
     @Override
@@ -1498,14 +2130,9 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
 
     @Override
     public final void selectTab(@NonNull final Tab tab) {
-        enqueuePendingAction(new Runnable() {
-
-            @Override
-            public void run() {
-                model.selectTab(tab);
-            }
-
-        });
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        pendingActions.selectTab(tab);
+        executePendingAction();
     }
 
     @Override
@@ -1978,6 +2605,26 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
         model.removeTabPreviewListener(listener);
     }
 
+    @Override
+    public final void addFrameTimingListener(@NonNull final FrameTimingListener listener) {
+        model.addFrameTimingListener(listener);
+    }
+
+    @Override
+    public final void removeFrameTimingListener(@NonNull final FrameTimingListener listener) {
+        model.removeFrameTimingListener(listener);
+    }
+
+    @Override
+    public final void addTabDiscardListener(@NonNull final TabDiscardListener listener) {
+        model.addTabDiscardListener(listener);
+    }
+
+    @Override
+    public final void removeTabDiscardListener(@NonNull final TabDiscardListener listener) {
+        model.removeTabDiscardListener(listener);
+    }
+
     @Override
     public final boolean isAnimationRunning() {
         return layout != null && layout.isAnimationRunning();
@@ -2000,11 +2647,61 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
         return layout != null ? layout.getToolbarMenu() : null;
     }
 
+    @Override
+    protected final void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getContext().registerComponentCallbacks(componentCallbacks);
+    }
+
+    @Override
+    protected final void onDetachedFromWindow() {
+        getContext().unregisterComponentCallbacks(componentCallbacks);
+
+        if (model.getDecorator() != null && isActivityFinishing()) {
+            model.getContentRecyclerAdapter().destroy();
+        }
+
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected final void dispatchDraw(final Canvas canvas) {
+        super.dispatchDraw(canvas);
+
+        if (performanceOverlay != null) {
+            MetricsRecorder metricsRecorder = model.getMetricsRecorder();
+            performanceOverlay.setLayout(layout != null ? getLayout() : null);
+            performanceOverlay.setPendingActionCount(pendingActions.size());
+            performanceOverlay.setPreviewCacheStatistics(
+                    metricsRecorder.getCount(Counter.PREVIEW_CACHE_HITS),
+                    metricsRecorder.getCount(Counter.PREVIEW_CACHE_MISSES));
+
+            if (layout != null) {
+                layout.updatePerformanceOverlay(performanceOverlay);
+            }
+
+            performanceOverlay.setBounds(0, 0, getWidth(), getHeight());
+            performanceOverlay.draw(canvas);
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
     @Override
     public final boolean onTouchEvent(final MotionEvent event) {
         return touchEventDispatcher.handleTouchEvent(event) || super.onTouchEvent(event);
     }
 
+    @Override
+    protected final void onSizeChanged(final int width, final int height, final int oldWidth,
+                                       final int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        touchEventDispatcher.invalidateTouchableAreas();
+
+        if (layout != null) {
+            layout.adaptNeighborPrebinding();
+        }
+    }
+
     @Override
     public final Parcelable onSaveInstanceState() {
         Parcelable superState = super.onSaveInstanceState();
@@ -2045,6 +2742,7 @@ public class TabSwitcher extends FrameLayout implements TabSwitcherLayout, Model
             TabSwitcherState savedState = (TabSwitcherState) state;
             this.layoutPolicy = savedState.layoutPolicy;
             model.restoreInstanceState(savedState.modelState);
+            touchEventDispatcher.invalidateTouchableAreas();
             super.onRestoreInstanceState(savedState.getSuperState());
         } else {
             super.onRestoreInstanceState(state);
@@ -0,0 +1,444 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A snapshot of the performance metrics, which have been collected by a {@link TabSwitcher}.
+ * Metrics are only collected, while they are enabled by using the method {@link
+ * TabSwitcher#setMetricsEnabled(boolean)}.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class TabSwitcherMetrics {
+
+    /**
+     * Contains all counters, which are collected by a {@link TabSwitcher}.
+     */
+    public enum Counter {
+
+        /**
+         * The number of views, which are used to visualize tabs and have been inflated on the UI
+         * thread.
+         */
+        TAB_VIEW_INFLATIONS,
+
+        /**
+         * The number of views, which are used to visualize tabs and have been inflated ahead of
+         * time on a background thread.
+         */
+        PREWARMED_TAB_VIEWS,
+
+        /**
+         * The number of times a view, which is used to visualize tabs, has been reused by the view
+         * recycler.
+         */
+        TAB_VIEW_REUSES,
+
+        /**
+         * The number of views, which are associated with tabs and have been inflated by the
+         * decorator.
+         */
+        CONTENT_VIEW_INFLATIONS,
+
+        /**
+         * The number of times the method {@link TabSwitcherDecorator#onShowTab} has been invoked.
+         */
+        DECORATOR_SHOW_CALLS,
+
+        /**
+         * The number of preview images of tabs, which have been rendered.
+         */
+        PREVIEW_RENDERS,
+
+        /**
+         * The number of preview images of tabs, which have been retrieved from the cache.
+         */
+        PREVIEW_CACHE_HITS,
+
+        /**
+         * The number of preview images of tabs, which have not been contained by the cache.
+         */
+        PREVIEW_CACHE_MISSES,
+
+        /**
+         * The number of preview images of tabs, which have been evicted from the cache.
+         */
+        PREVIEW_CACHE_EVICTIONS,
+
+        /**
+         * The number of actions, which have been enqueued to be executed, when no animation is
+         * running.
+         */
+        PENDING_ACTIONS
+
+    }
+
+    /**
+     * A histogram, which allows to summarize the distribution of durations. The durations are
+     * counted in buckets, whose upper bounds are powers of two milliseconds.
+     */
+    public static class Histogram {
+
+        /**
+         * The upper bounds of the buckets of a histogram in milliseconds. Durations, which
+         * exceed the last bound, are counted in an additional bucket.
+         */
+        private static final long[] BUCKET_UPPER_BOUNDS =
+                new long[]{1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+        /**
+         * The number of nanoseconds per millisecond.
+         */
+        private static final float NANOS_PER_MILLISECOND = 1000000f;
+
+        /**
+         * An array, which contains the number of durations per bucket.
+         */
+        private final long[] bucketCounts;
+
+        /**
+         * The number of durations.
+         */
+        private final long count;
+
+        /**
+         * The sum of all durations in nanoseconds.
+         */
+        private final long totalTime;
+
+        /**
+         * The maximum duration in nanoseconds.
+         */
+        private final long maxTime;
+
+        /**
+         * Returns the index of the bucket, a specific duration belongs to.
+         *
+         * @param nanos
+         *         The duration in nanoseconds as a {@link Long} value
+         * @return The index of the bucket, the given duration belongs to, as an {@link Integer}
+         * value
+         */
+        public static int getBucketIndex(final long nanos) {
+            for (int i = 0; i < BUCKET_UPPER_BOUNDS.length; i++) {
+                if (nanos <= BUCKET_UPPER_BOUNDS[i] * 1000000L) {
+                    return i;
+                }
+            }
+
+            return BUCKET_UPPER_BOUNDS.length;
+        }
+
+        /**
+         * Returns the total number of buckets of a histogram.
+         *
+         * @return The total number of buckets of a histogram as an {@link Integer} value
+         */
+        public static int getBucketCount() {
+            return BUCKET_UPPER_BOUNDS.length + 1;
+        }
+
+        /**
+         * Returns the upper bound of a specific bucket.
+         *
+         * @param index
+         *         The index of the bucket as an {@link Integer} value
+         * @return The upper bound of the bucket in milliseconds as a {@link Float} value or {@link
+         * Float#POSITIVE_INFINITY}, if the bucket is the last one
+         */
+        public static float getBucketUpperBound(final int index) {
+            Condition.INSTANCE.ensureAtLeast(index, 0, "The index must be at least 0");
+            Condition.INSTANCE.ensureAtMaximum(index, BUCKET_UPPER_BOUNDS.length,
+                    "The index must be at maximum " + BUCKET_UPPER_BOUNDS.length);
+            return index < BUCKET_UPPER_BOUNDS.length ? BUCKET_UPPER_BOUNDS[index] :
+                    Float.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Creates a new histogram, which allows to summarize the distribution of durations.
+         *
+         * @param bucketCounts
+         *         An array, which contains the number of durations per bucket, as a {@link Long}
+         *         array. The array's length must be equal to the number of buckets
+         * @param totalTime
+         *         The sum of all durations in nanoseconds as a {@link Long} value. The sum must be
+         *         at least 0
+         * @param maxTime
+         *         The maximum duration in nanoseconds as a {@link Long} value. The maximum
+         *         duration must be at least 0
+         */
+        public Histogram(@NonNull final long[] bucketCounts, final long totalTime,
+                         final long maxTime) {
+            Condition.INSTANCE.ensureNotNull(bucketCounts, "The array may not be null");
+            Condition.INSTANCE.ensureTrue(bucketCounts.length == getBucketCount(),
+                    "The array must contain " + getBucketCount() + " elements");
+            Condition.INSTANCE.ensureAtLeast(totalTime, 0, "The total time must be at least 0");
+            Condition.INSTANCE.ensureAtLeast(maxTime, 0, "The max time must be at least 0");
+            this.bucketCounts = Arrays.copyOf(bucketCounts, bucketCounts.length);
+            long count = 0;
+
+            for (long bucketCount : bucketCounts) {
+                count += bucketCount;
+            }
+
+            this.count = count;
+            this.totalTime = totalTime;
+            this.maxTime = maxTime;
+        }
+
+        /**
+         * Returns the number of durations, which belong to a specific bucket.
+         *
+         * @param index
+         *         The index of the bucket as an {@link Integer} value
+         * @return The number of durations, which belong to the given bucket, as a {@link Long}
+         * value
+         */
+        public final long getBucketValue(final int index) {
+            Condition.INSTANCE.ensureAtLeast(index, 0, "The index must be at least 0");
+            Condition.INSTANCE.ensureAtMaximum(index, bucketCounts.length - 1,
+                    "The index must be at maximum " + (bucketCounts.length - 1));
+            return bucketCounts[index];
+        }
+
+        /**
+         * Returns the number of durations.
+         *
+         * @return The number of durations as a {@link Long} value
+         */
+        public final long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of all durations.
+         *
+         * @return The sum of all durations in milliseconds as a {@link Float} value
+         */
+        public final float getTotalTime() {
+            return totalTime / NANOS_PER_MILLISECOND;
+        }
+
+        /**
+         * Returns the mean duration.
+         *
+         * @return The mean duration in milliseconds as a {@link Float} value or 0, if no durations
+         * have been collected
+         */
+        public final float getMeanTime() {
+            return count > 0 ? getTotalTime() / count : 0;
+        }
+
+        /**
+         * Returns the maximum duration.
+         *
+         * @return The maximum duration in milliseconds as a {@link Float} value
+         */
+        public final float getMaxTime() {
+            return maxTime / NANOS_PER_MILLISECOND;
+        }
+
+        @Override
+        public final String toString() {
+            return String.format(Locale.US,
+                    "Histogram [count=%d, meanTime=%.2fms, maxTime=%.2fms, buckets=%s]", count,
+                    getMeanTime(), getMaxTime(), Arrays.toString(bucketCounts));
+        }
+
+    }
+
+    /**
+     * An array, which contains the values of the counters.
+     */
+    private final long[] counters;
+
+    /**
+     * An array, which contains the number of animations per type.
+     */
+    private final long[] animationCounts;
+
+    /**
+     * The histogram, which summarizes the times needed to render preview images of tabs.
+     */
+    private final Histogram previewRenderTimes;
+
+    /**
+     * The histogram, which summarizes the times, pending actions have been waiting to be executed.
+     */
+    private final Histogram pendingActionWaitTimes;
+
+    /**
+     * The number of actions, which were waiting to be executed, when the snapshot was taken.
+     */
+    private final int pendingActionQueueDepth;
+
+    /**
+     * The maximum number of actions, which have been waiting to be executed at the same time.
+     */
+    private final int maxPendingActionQueueDepth;
+
+    /**
+     * Creates a new snapshot of the performance metrics, which have been collected by a {@link
+     * TabSwitcher}.
+     *
+     * @param counters
+     *         An array, which contains the values of the counters, as a {@link Long} array. The
+     *         array must contain a value for each value of the enum {@link Counter}
+     * @param animationCounts
+     *         An array, which contains the number of animations per type, as a {@link Long} array.
+     *         The array must contain a value for each value of the enum {@link AnimationType}
+     * @param previewRenderTimes
+     *         The histogram, which summarizes the times needed to render preview images of tabs,
+     *         as an instance of the class {@link Histogram}. The histogram may not be null
+     * @param pendingActionWaitTimes
+     *         The histogram, which summarizes the times, pending actions have been waiting to be
+     *         executed, as an instance of the class {@link Histogram}. The histogram may not be
+     *         null
+     * @param pendingActionQueueDepth
+     *         The number of actions, which were waiting to be executed, when the snapshot was
+     *         taken, as an {@link Integer} value. The number must be at least 0
+     * @param maxPendingActionQueueDepth
+     *         The maximum number of actions, which have been waiting to be executed at the same
+     *         time, as an {@link Integer} value. The number must be at least 0
+     */
+    public TabSwitcherMetrics(@NonNull final long[] counters, @NonNull final long[] animationCounts,
+                              @NonNull final Histogram previewRenderTimes,
+                              @NonNull final Histogram pendingActionWaitTimes,
+                              final int pendingActionQueueDepth,
+                              final int maxPendingActionQueueDepth) {
+        Condition.INSTANCE.ensureNotNull(counters, "The counters may not be null");
+        Condition.INSTANCE.ensureTrue(counters.length == Counter.values().length,
+                "The counters must contain " + Counter.values().length + " elements");
+        Condition.INSTANCE.ensureNotNull(animationCounts, "The animation counts may not be null");
+        Condition.INSTANCE.ensureTrue(animationCounts.length == AnimationType.values().length,
+                "The animation counts must contain " + AnimationType.values().length +
+                        " elements");
+        Condition.INSTANCE
+                .ensureNotNull(previewRenderTimes, "The preview render times may not be null");
+        Condition.INSTANCE.ensureNotNull(pendingActionWaitTimes,
+                "The pending action wait times may not be null");
+        Condition.INSTANCE
+                .ensureAtLeast(pendingActionQueueDepth, 0, "The queue depth must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(maxPendingActionQueueDepth, 0,
+                "The max queue depth must be at least 0");
+        this.counters = Arrays.copyOf(counters, counters.length);
+        this.animationCounts = Arrays.copyOf(animationCounts, animationCounts.length);
+        this.previewRenderTimes = previewRenderTimes;
+        this.pendingActionWaitTimes = pendingActionWaitTimes;
+        this.pendingActionQueueDepth = pendingActionQueueDepth;
+        this.maxPendingActionQueueDepth = maxPendingActionQueueDepth;
+    }
+
+    /**
+     * Returns the value of a specific counter.
+     *
+     * @param counter
+     *         The counter, whose value should be returned, as a value of the enum {@link Counter}.
+     *         The counter may not be null
+     * @return The value of the given counter as a {@link Long} value
+     */
+    public final long getCount(@NonNull final Counter counter) {
+        Condition.INSTANCE.ensureNotNull(counter, "The counter may not be null");
+        return counters[counter.ordinal()];
+    }
+
+    /**
+     * Returns the number of animations of a specific type, which have been started.
+     *
+     * @param animationType
+     *         The type of the animations as a value of the enum {@link AnimationType}. The type
+     *         may not be null
+     * @return The number of animations of the given type, which have been started, as a {@link
+     * Long} value
+     */
+    public final long getAnimationCount(@NonNull final AnimationType animationType) {
+        Condition.INSTANCE.ensureNotNull(animationType, "The animation type may not be null");
+        return animationCounts[animationType.ordinal()];
+    }
+
+    /**
+     * Returns the histogram, which summarizes the times needed to render preview images of tabs.
+     *
+     * @return The histogram, which summarizes the times needed to render preview images of tabs,
+     * as an instance of the class {@link Histogram}. The histogram may not be null
+     */
+    @NonNull
+    public final Histogram getPreviewRenderTimes() {
+        return previewRenderTimes;
+    }
+
+    /**
+     * Returns the histogram, which summarizes the times, pending actions have been waiting to be
+     * executed.
+     *
+     * @return The histogram, which summarizes the times, pending actions have been waiting to be
+     * executed, as an instance of the class {@link Histogram}. The histogram may not be null
+     */
+    @NonNull
+    public final Histogram getPendingActionWaitTimes() {
+        return pendingActionWaitTimes;
+    }
+
+    /**
+     * Returns the number of actions, which were waiting to be executed, when the snapshot was
+     * taken.
+     *
+     * @return The number of actions, which were waiting to be executed, as an {@link Integer}
+     * value
+     */
+    public final int getPendingActionQueueDepth() {
+        return pendingActionQueueDepth;
+    }
+
+    /**
+     * Returns the maximum number of actions, which have been waiting to be executed at the same
+     * time.
+     *
+     * @return The maximum number of actions, which have been waiting to be executed at the same
+     * time, as an {@link Integer} value
+     */
+    public final int getMaxPendingActionQueueDepth() {
+        return maxPendingActionQueueDepth;
+    }
+
+    @Override
+    public final String toString() {
+        StringBuilder builder = new StringBuilder("TabSwitcherMetrics [");
+
+        for (Counter counter : Counter.values()) {
+            builder.append(counter.name().toLowerCase(Locale.US)).append("=")
+                    .append(counters[counter.ordinal()]).append(", ");
+        }
+
+        for (AnimationType animationType : AnimationType.values()) {
+            builder.append(animationType.name().toLowerCase(Locale.US)).append("_animations=")
+                    .append(animationCounts[animationType.ordinal()]).append(", ");
+        }
+
+        builder.append("previewRenderTimes=").append(previewRenderTimes)
+                .append(", pendingActionWaitTimes=").append(pendingActionWaitTimes)
+                .append(", pendingActionQueueDepth=").append(pendingActionQueueDepth)
+                .append(", maxPendingActionQueueDepth=").append(maxPendingActionQueueDepth)
+                .append("]");
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.drawable;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+import de.mrapp.android.tabswitcher.Layout;
+import de.mrapp.android.tabswitcher.R;
+import de.mrapp.android.tabswitcher.TabSwitcher;
+import de.mrapp.util.Condition;
+
+/**
+ * A drawable, which allows to display performance statistics of a {@link TabSwitcher} as an
+ * overlay. The statistics are updated by using the drawable's setter methods. Drawing the drawable
+ * does not allocate any objects.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class PerformanceOverlayDrawable extends Drawable {
+
+    /**
+     * The time in nanoseconds, which must have passed between two consecutive frames, in order to
+     * consider the tab switcher to have been idle in between.
+     */
+    private static final long IDLE_THRESHOLD = 500000000L;
+
+    /**
+     * The number of bytes per megabyte.
+     */
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    /**
+     * The maximum number of characters per line.
+     */
+    private static final int MAX_LINE_LENGTH = 96;
+
+    /**
+     * The number of lines, which are displayed by the overlay.
+     */
+    private static final int LINE_COUNT = 6;
+
+    /**
+     * The padding of the overlay in pixels.
+     */
+    private final int padding;
+
+    /**
+     * The paint, which is used to draw the overlay's background.
+     */
+    private final Paint backgroundPaint;
+
+    /**
+     * The paint, which is used to draw the overlay's text.
+     */
+    private final Paint textPaint;
+
+    /**
+     * The builder, which is used to create the text of a single line.
+     */
+    private final StringBuilder lineBuilder;
+
+    /**
+     * The buffer, the characters of a single line are copied to in order to draw them.
+     */
+    private final char[] lineBuffer;
+
+    /**
+     * The time in nanoseconds, when the previous frame has been drawn, or 0, if no frame has been
+     * drawn yet.
+     */
+    private long previousFrameTime;
+
+    /**
+     * The duration of the most recent frame in nanoseconds or -1, if the duration is unknown.
+     */
+    private long frameDuration;
+
+    /**
+     * The layout, which is currently used by the tab switcher, or null, if no layout is used.
+     */
+    private Layout layout;
+
+    /**
+     * The number of views, which are currently used to visualize tabs.
+     */
+    private int tabViewCount;
+
+    /**
+     * The number of views, which have been inflated ahead of time, but are not used yet.
+     */
+    private int prewarmedTabViewCount;
+
+    /**
+     * The number of views, which are currently associated with tabs.
+     */
+    private int contentViewCount;
+
+    /**
+     * The number of previews, which are currently cached, or -1, if previews are not used.
+     */
+    private int cachedPreviewCount;
+
+    /**
+     * The approximate size of the cached previews in bytes.
+     */
+    private long cachedPreviewSize;
+
+    /**
+     * The number of previews, which are currently rendered.
+     */
+    private int pendingPreviewCount;
+
+    /**
+     * The number of times, cached previews have been used.
+     */
+    private long previewCacheHits;
+
+    /**
+     * The number of times, previews have not been cached.
+     */
+    private long previewCacheMisses;
+
+    /**
+     * The number of actions, which are currently pending.
+     */
+    private int pendingActionCount;
+
+    /**
+     * Appends a value, which is given in tenths, with one decimal place to the current line.
+     *
+     * @param tenths
+     *         The value, which should be appended, in tenths as a {@link Long} value
+     */
+    private void appendDecimal(final long tenths) {
+        lineBuilder.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * Draws the current line.
+     *
+     * @param canvas
+     *         The canvas, the line should be drawn onto, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param x
+     *         The horizontal position of the line in pixels as a {@link Float} value
+     * @param y
+     *         The vertical position of the line's baseline in pixels as a {@link Float} value
+     */
+    private void drawLine(@NonNull final Canvas canvas, final float x, final float y) {
+        int length = Math.min(lineBuilder.length(), lineBuffer.length);
+        lineBuilder.getChars(0, length, lineBuffer, 0);
+        canvas.drawText(lineBuffer, 0, length, x, y, textPaint);
+        lineBuilder.setLength(0);
+    }
+
+    /**
+     * Creates a new drawable, which allows to display performance statistics of a {@link
+     * TabSwitcher} as an overlay.
+     *
+     * @param context
+     *         The context, which should be used by the drawable, as an instance of the class {@link
+     *         Context}. The context may not be null
+     */
+    public PerformanceOverlayDrawable(@NonNull final Context context) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Resources resources = context.getResources();
+        padding = resources.getDimensionPixelSize(R.dimen.performance_overlay_padding);
+        backgroundPaint = new Paint();
+        backgroundPaint.setColor(
+                ContextCompat.getColor(context, R.color.performance_overlay_background_color));
+        textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        textPaint.setColor(ContextCompat.getColor(context, R.color.performance_overlay_text_color));
+        textPaint.setTextSize(
+                resources.getDimensionPixelSize(R.dimen.performance_overlay_font_size));
+        textPaint.setTypeface(Typeface.MONOSPACE);
+        lineBuilder = new StringBuilder(MAX_LINE_LENGTH);
+        lineBuffer = new char[MAX_LINE_LENGTH];
+        previousFrameTime = 0;
+        frameDuration = -1;
+        layout = null;
+        cachedPreviewCount = -1;
+    }
+
+    /**
+     * Sets the layout, which is currently used by the tab switcher.
+     *
+     * @param layout
+     *         The layout, which should be set, as a value of the enum {@link Layout} or null, if
+     *         no layout is used
+     */
+    public final void setLayout(@Nullable final Layout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Sets the number of views, which are currently used to visualize tabs.
+     *
+     * @param tabViewCount
+     *         The number of views, which are currently used to visualize tabs, as an {@link
+     *         Integer} value. The number must be at least 0
+     * @param prewarmedTabViewCount
+     *         The number of views, which have been inflated ahead of time, but are not used yet, as
+     *         an {@link Integer} value. The number must be at least 0
+     */
+    public final void setTabViewCount(final int tabViewCount, final int prewarmedTabViewCount) {
+        Condition.INSTANCE.ensureAtLeast(tabViewCount, 0, "The number must be at least 0");
+        Condition.INSTANCE
+                .ensureAtLeast(prewarmedTabViewCount, 0, "The number must be at least 0");
+        this.tabViewCount = tabViewCount;
+        this.prewarmedTabViewCount = prewarmedTabViewCount;
+    }
+
+    /**
+     * Sets the number of views, which are currently associated with tabs.
+     *
+     * @param contentViewCount
+     *         The number of views, which are currently associated with tabs, as an {@link Integer}
+     *         value. The number must be at least 0
+     */
+    public final void setContentViewCount(final int contentViewCount) {
+        Condition.INSTANCE.ensureAtLeast(contentViewCount, 0, "The number must be at least 0");
+        this.contentViewCount = contentViewCount;
+    }
+
+    /**
+     * Sets the statistics of the previews of tabs.
+     *
+     * @param cachedPreviewCount
+     *         The number of previews, which are currently cached, as an {@link Integer} value or
+     *         -1, if previews are not used
+     * @param cachedPreviewSize
+     *         The approximate size of the cached previews in bytes as a {@link Long} value
+     * @param pendingPreviewCount
+     *         The number of previews, which are currently rendered, as an {@link Integer} value
+     */
+    public final void setPreviewStatistics(final int cachedPreviewCount,
+                                           final long cachedPreviewSize,
+                                           final int pendingPreviewCount) {
+        this.cachedPreviewCount = cachedPreviewCount;
+        this.cachedPreviewSize = cachedPreviewSize;
+        this.pendingPreviewCount = pendingPreviewCount;
+    }
+
+    /**
+     * Sets the number of times, previews have been, or have not been, cached when they were
+     * requested.
+     *
+     * @param hits
+     *         The number of times, cached previews have been used, as a {@link Long} value
+     * @param misses
+     *         The number of times, previews have not been cached, as a {@link Long} value
+     */
+    public final void setPreviewCacheStatistics(final long hits, final long misses) {
+        this.previewCacheHits = hits;
+        this.previewCacheMisses = misses;
+    }
+
+    /**
+     * Sets the number of actions, which are currently pending.
+     *
+     * @param pendingActionCount
+     *         The number of actions, which are currently pending, as an {@link Integer} value
+     */
+    public final void setPendingActionCount(final int pendingActionCount) {
+        this.pendingActionCount = pendingActionCount;
+    }
+
+    @Override
+    public final void draw(@NonNull final Canvas canvas) {
+        long time = System.nanoTime();
+        frameDuration = previousFrameTime != 0 && time - previousFrameTime < IDLE_THRESHOLD ?
+                time - previousFrameTime : -1;
+        previousFrameTime = time;
+        Rect bounds = getBounds();
+        float lineHeight = textPaint.getFontSpacing();
+        float x = bounds.left + padding;
+        float y = bounds.top + padding - textPaint.ascent();
+        canvas.drawRect(bounds.left, bounds.top, bounds.right,
+                bounds.top + 2 * padding + LINE_COUNT * lineHeight, backgroundPaint);
+        lineBuilder.append("Layout: ").append(layout != null ? layout.name() : "-");
+        drawLine(canvas, x, y);
+        lineBuilder.append("Frame: ");
+
+        if (frameDuration != -1) {
+            appendDecimal(frameDuration / 100000L);
+            lineBuilder.append(" ms");
+        } else {
+            lineBuilder.append("idle");
+        }
+
+        drawLine(canvas, x, y += lineHeight);
+        lineBuilder.append("Tab views: ").append(tabViewCount).append(" (prewarmed ")
+                .append(prewarmedTabViewCount).append(')');
+        drawLine(canvas, x, y += lineHeight);
+        lineBuilder.append("Content views: ").append(contentViewCount);
+        drawLine(canvas, x, y += lineHeight);
+        lineBuilder.append("Previews: ");
+
+        if (cachedPreviewCount != -1) {
+            long requests = previewCacheHits + previewCacheMisses;
+            lineBuilder.append(cachedPreviewCount).append(" cached (");
+            appendDecimal(cachedPreviewSize * 10 / BYTES_PER_MEGABYTE);
+            lineBuilder.append(" MB), hit rate ");
+
+            if (requests > 0) {
+                lineBuilder.append(previewCacheHits * 100 / requests).append('%');
+            } else {
+                lineBuilder.append('-');
+            }
+
+            lineBuilder.append(", pending ").append(pendingPreviewCount);
+        } else {
+            lineBuilder.append('-');
+        }
+
+        drawLine(canvas, x, y += lineHeight);
+        lineBuilder.append("Pending actions: ").append(pendingActionCount);
+        drawLine(canvas, x, y + lineHeight);
+    }
+
+    @Override
+    public final void setAlpha(final int alpha) {
+        backgroundPaint.setAlpha(alpha);
+        textPaint.setAlpha(alpha);
+    }
+
+    @Override
+    public final void setColorFilter(@Nullable final ColorFilter colorFilter) {
+        backgroundPaint.setColorFilter(colorFilter);
+        textPaint.setColorFilter(colorFilter);
+    }
+
+    @Override
+    public final int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+}
@@ -16,6 +16,7 @@ package de.mrapp.android.tabswitcher.gesture;
 import android.view.MotionEvent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -71,63 +72,35 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
     }
 
     /**
-     * An iterator, which allows to iterate the event handlers of a {@link TouchEventDispatcher}.
+     * A sorted map, which contains the event handlers, touch events can be dispatched to. The
+     * handlers are sorted by decreasing priority.
      */
-    private class EventHandlerIterator implements Iterator<AbstractTouchEventHandler> {
-
-        /**
-         * The iterator, which allows to iterate the priorities of the event handlers.
-         */
-        private Iterator<Integer> priorityIterator;
-
-        /**
-         * The iterator, which allows to iterate the event handlers with the current priority.
-         */
-        private Iterator<AbstractTouchEventHandler> eventHandlerIterator;
-
-        /**
-         * Creates a new iterator, which allows to iterate the event handlers of a {@link
-         * TouchEventDispatcher}.
-         */
-        EventHandlerIterator() {
-            priorityIterator = eventHandlers.keySet().iterator();
-
-            if (priorityIterator.hasNext()) {
-                int key = priorityIterator.next();
-                ListenerList<AbstractTouchEventHandler> handlers = eventHandlers.get(key);
-                eventHandlerIterator = handlers.iterator();
-            } else {
-                eventHandlerIterator = null;
-            }
-        }
-
-        @Override
-        public boolean hasNext() {
-            return (eventHandlerIterator != null && eventHandlerIterator.hasNext()) ||
-                    priorityIterator.hasNext();
-        }
+    private final SortedMap<Integer, ListenerList<AbstractTouchEventHandler>> eventHandlers;
 
-        @Override
-        public AbstractTouchEventHandler next() {
-            if (eventHandlerIterator.hasNext()) {
-                return eventHandlerIterator.next();
-            } else if (priorityIterator.hasNext()) {
-                int key = priorityIterator.next();
-                ListenerList<AbstractTouchEventHandler> handlers = eventHandlers.get(key);
-                eventHandlerIterator = handlers.iterator();
-                return next();
-            }
+    /**
+     * The spatial index, which is used to find the event handlers, whose touchable areas contain
+     * the position of a touch event.
+     */
+    private final TouchableAreaIndex touchableAreaIndex;
 
-            return null;
-        }
+    /**
+     * An array, which contains the event handlers, touch events can be dispatched to, sorted by
+     * decreasing priority, or null, if the array must be rebuilt, because event handlers have been
+     * added or removed.
+     */
+    private AbstractTouchEventHandler[] dispatchTable;
 
-    }
+    /**
+     * True, if the spatial index is used to find the event handlers, whose touchable areas contain
+     * the position of a touch event, false otherwise.
+     */
+    private boolean indexed;
 
     /**
-     * A sorted map, which contains the event handlers, touch events can be dispatched to. The
-     * handlers are sorted by decreasing priority.
+     * True, if the spatial index corresponds to the current dispatch table and touchable areas,
+     * false otherwise.
      */
-    private final SortedMap<Integer, ListenerList<AbstractTouchEventHandler>> eventHandlers;
+    private boolean indexUpToDate;
 
     /**
      * A list, which contains the event handlers, which are currently active.
@@ -171,12 +144,60 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
         }
     }
 
+    /**
+     * Returns an array, which contains the event handlers, touch events can be dispatched to,
+     * sorted by decreasing priority. The array is only rebuilt, if event handlers have been added
+     * or removed since it was last requested.
+     *
+     * @return An array, which contains the event handlers, as an array of the type {@link
+     * AbstractTouchEventHandler}. The array may not be null
+     */
+    @NonNull
+    private AbstractTouchEventHandler[] getDispatchTable() {
+        if (dispatchTable == null) {
+            List<AbstractTouchEventHandler> handlers = new ArrayList<>();
+
+            for (ListenerList<AbstractTouchEventHandler> listenerList : eventHandlers.values()) {
+                for (AbstractTouchEventHandler handler : listenerList) {
+                    handlers.add(handler);
+                }
+            }
+
+            dispatchTable = handlers.toArray(new AbstractTouchEventHandler[handlers.size()]);
+            indexUpToDate = false;
+        }
+
+        return dispatchTable;
+    }
+
+    /**
+     * Rebuilds the spatial index from the current touchable areas of the event handlers, which are
+     * contained by a specific dispatch table. If the dispatch table contains too many event
+     * handlers, no index is used.
+     *
+     * @param handlers
+     *         The dispatch table as an array of the type {@link AbstractTouchEventHandler}. The
+     *         array may not be null
+     */
+    private void rebuildTouchableAreaIndex(@NonNull final AbstractTouchEventHandler[] handlers) {
+        indexed = handlers.length <= TouchableAreaIndex.MAX_EVENT_HANDLERS;
+        indexUpToDate = true;
+
+        if (indexed) {
+            touchableAreaIndex.rebuild(handlers);
+        }
+    }
+
     /**
      * Creates a new dispatcher, which allows to dispatch touch events to multiple event handlers in
      * the order of their priority.
      */
     public TouchEventDispatcher() {
         this.eventHandlers = new TreeMap<>(Collections.reverseOrder());
+        this.touchableAreaIndex = new TouchableAreaIndex();
+        this.dispatchTable = null;
+        this.indexed = false;
+        this.indexUpToDate = false;
         this.activeEventHandlers = new ArrayList<>();
         this.draggingEventHandler = null;
         this.callback = null;
@@ -193,6 +214,17 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
         this.callback = callback;
     }
 
+    /**
+     * Marks the touchable areas of the event handlers as changed. This causes the spatial index,
+     * which is used to find the event handlers, whose touchable areas contain the position of a
+     * touch event, to be rebuilt, when the next touch event is dispatched. This method must be
+     * called, whenever an input of the touchable areas has been changed, e.g. the size or the
+     * padding of the view, which dispatches touch events.
+     */
+    public final void invalidateTouchableAreas() {
+        indexUpToDate = false;
+    }
+
     /**
      * Adds a specific event handler to the dispatcher.
      *
@@ -211,6 +243,7 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
         }
 
         handlers.add(handler);
+        dispatchTable = null;
         notifyOnAddedEventHandler(handler);
     }
 
@@ -233,6 +266,7 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
 
                 if (handler.equals(eventHandler)) {
                     iterator.remove();
+                    dispatchTable = null;
                     notifyOnRemovedEventHandler(eventHandler);
                 }
             }
@@ -300,13 +334,21 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
         }
 
         if (!result) {
-            Iterator<AbstractTouchEventHandler> iterator = iterator();
-            AbstractTouchEventHandler handler;
+            AbstractTouchEventHandler[] handlers = getDispatchTable();
+
+            if (!indexUpToDate) {
+                rebuildTouchableAreaIndex(handlers);
+            }
+
+            long candidates = indexed ? touchableAreaIndex.query(event.getX(), event.getY()) : 0;
             int handledPriority = Integer.MIN_VALUE;
 
-            while ((handler = iterator.next()) != null &&
-                    handler.getPriority() >= handledPriority) {
-                if (handler.isInsideTouchableArea(event)) {
+            for (int i = 0; i < handlers.length && handlers[i].getPriority() >= handledPriority;
+                 i++) {
+                AbstractTouchEventHandler handler = handlers[i];
+
+                if ((!indexed || (candidates & (1L << i)) != 0) &&
+                        handler.isInsideTouchableArea(event)) {
                     boolean handled = handler.handleTouchEvent(event);
 
                     if (handled && !handler.isReset()) {
@@ -335,7 +377,7 @@ public class TouchEventDispatcher implements Iterable<AbstractTouchEventHandler>
 
     @Override
     public final Iterator<AbstractTouchEventHandler> iterator() {
-        return new EventHandlerIterator();
+        return Arrays.asList(getDispatchTable()).iterator();
     }
 
 }
\ No newline at end of file
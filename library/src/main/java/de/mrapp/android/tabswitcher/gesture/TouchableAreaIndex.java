@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.gesture;
+
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A spatial index, which allows to find the event handlers, whose touchable areas may contain a
+ * specific position, without checking the touchable areas of all event handlers. The index divides
+ * the bounding box of all restricted touchable areas into a uniform grid and stores a bit mask per
+ * cell, which references the event handlers, whose touchable areas intersect the cell. Event
+ * handlers, whose touchable areas are not restricted, are candidates at any position.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+class TouchableAreaIndex {
+
+    /**
+     * The maximum number of event handlers, which can be indexed.
+     */
+    static final int MAX_EVENT_HANDLERS = Long.SIZE;
+
+    /**
+     * The number of rows and columns of the grid.
+     */
+    private static final int GRID_SIZE = 8;
+
+    /**
+     * An array, which contains the bit masks of the cells of the grid.
+     */
+    private final long[] cells;
+
+    /**
+     * An array, which contains copies of the touchable areas of the indexed event handlers. The
+     * rectangles are reused, whenever the index is rebuilt.
+     */
+    private final RectF[] areas;
+
+    /**
+     * A bit mask, which references the event handlers, whose touchable areas are not restricted.
+     */
+    private long unrestricted;
+
+    /**
+     * A bit mask, which references all event handlers, whose touchable areas are restricted.
+     */
+    private long restricted;
+
+    /**
+     * The bounding box of all restricted touchable areas.
+     */
+    private final RectF bounds;
+
+    /**
+     * Returns the index of the column or row, which corresponds to a specific coordinate.
+     *
+     * @param coordinate
+     *         The coordinate as a {@link Float} value
+     * @param start
+     *         The start of the bounding box along the corresponding axis as a {@link Float} value
+     * @param size
+     *         The size of the bounding box along the corresponding axis as a {@link Float} value
+     * @return The index of the column or row as an {@link Integer} value
+     */
+    private static int getCell(final float coordinate, final float start, final float size) {
+        if (size <= 0) {
+            return 0;
+        }
+
+        int cell = (int) ((coordinate - start) / size * GRID_SIZE);
+        return Math.max(0, Math.min(GRID_SIZE - 1, cell));
+    }
+
+    /**
+     * Creates a new spatial index, which allows to find the event handlers, whose touchable areas
+     * may contain a specific position.
+     */
+    TouchableAreaIndex() {
+        this.cells = new long[GRID_SIZE * GRID_SIZE];
+        this.areas = new RectF[MAX_EVENT_HANDLERS];
+        this.bounds = new RectF();
+
+        for (int i = 0; i < areas.length; i++) {
+            areas[i] = new RectF();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the current touchable areas of specific event handlers.
+     *
+     * @param eventHandlers
+     *         An array, which contains the event handlers, which should be indexed, as an array of
+     *         the type {@link AbstractTouchEventHandler}. The array may not be null and must not
+     *         contain more than {@link #MAX_EVENT_HANDLERS} event handlers. The index of an event
+     *         handler in the array corresponds to its bit in the masks, which are returned by the
+     *         method {@link #query(float, float)}
+     */
+    final void rebuild(@NonNull final AbstractTouchEventHandler[] eventHandlers) {
+        Condition.INSTANCE.ensureNotNull(eventHandlers, "The array may not be null");
+        Condition.INSTANCE.ensureAtMaximum(eventHandlers.length, MAX_EVENT_HANDLERS,
+                "The array may not contain more than " + MAX_EVENT_HANDLERS + " event handlers");
+        unrestricted = 0;
+        restricted = 0;
+        bounds.setEmpty();
+
+        for (int i = 0; i < eventHandlers.length; i++) {
+            RectF area = eventHandlers[i].getTouchableArea();
+
+            if (area == null) {
+                unrestricted |= 1L << i;
+            } else {
+                areas[i].set(area);
+
+                if (restricted == 0) {
+                    bounds.set(area);
+                } else {
+                    bounds.set(Math.min(bounds.left, area.left), Math.min(bounds.top, area.top),
+                            Math.max(bounds.right, area.right),
+                            Math.max(bounds.bottom, area.bottom));
+                }
+
+                restricted |= 1L << i;
+            }
+        }
+
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = 0;
+        }
+
+        float width = bounds.width();
+        float height = bounds.height();
+
+        for (int i = 0; i < eventHandlers.length; i++) {
+            if ((restricted & (1L << i)) != 0) {
+                RectF area = areas[i];
+                int left = getCell(area.left, bounds.left, width);
+                int right = getCell(area.right, bounds.left, width);
+                int top = getCell(area.top, bounds.top, height);
+                int bottom = getCell(area.bottom, bounds.top, height);
+
+                for (int row = top; row <= bottom; row++) {
+                    for (int column = left; column <= right; column++) {
+                        cells[row * GRID_SIZE + column] |= 1L << i;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a bit mask, which references the event handlers, whose touchable areas may contain a
+     * specific position. The touchable areas of the referenced event handlers must still be
+     * checked exactly.
+     *
+     * @param x
+     *         The x-coordinate of the position as a {@link Float} value
+     * @param y
+     *         The y-coordinate of the position as a {@link Float} value
+     * @return A bit mask, which references the candidate event handlers, as a {@link Long} value
+     */
+    final long query(final float x, final float y) {
+        long result = unrestricted;
+
+        if (restricted != 0 && x >= bounds.left && x <= bounds.right && y >= bounds.top &&
+                y <= bounds.bottom) {
+            int column = getCell(x, bounds.left, bounds.width());
+            int row = getCell(y, bounds.top, bounds.height());
+            result |= cells[row * GRID_SIZE + column];
+        }
+
+        return result;
+    }
+
+}
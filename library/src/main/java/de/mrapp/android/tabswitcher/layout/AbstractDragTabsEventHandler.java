@@ -14,6 +14,7 @@
 package de.mrapp.android.tabswitcher.layout;
 
 import android.content.res.Resources;
+import android.os.Build;
 import android.view.MotionEvent;
 import android.view.ViewConfiguration;
 
@@ -213,6 +214,12 @@ public abstract class AbstractDragTabsEventHandler<CallbackType extends Abstract
      */
     private final float minSwipeVelocity;
 
+    /**
+     * The coalescer, which is used to handle drag events at most once per frame, or null, if the
+     * coalescing of drag events is not supported by the device.
+     */
+    private final DragEventCoalescer dragEventCoalescer;
+
     /**
      * The currently swiped tab item.
      */
@@ -259,6 +266,10 @@ public abstract class AbstractDragTabsEventHandler<CallbackType extends Abstract
         this.startOvershootThreshold = -Float.MAX_VALUE;
         this.endOvershootThreshold = Float.MAX_VALUE;
 
+        if (this.dragEventCoalescer != null) {
+            this.dragEventCoalescer.cancel();
+        }
+
         if (this.swipeDragHelper != null) {
             this.swipeDragHelper.reset();
         }
@@ -323,6 +334,28 @@ public abstract class AbstractDragTabsEventHandler<CallbackType extends Abstract
         }
     }
 
+    /**
+     * Creates and returns a coalescer, which allows to handle the drag events, which occur within
+     * a single frame, at once.
+     *
+     * @return The coalescer, which has been created, as an instance of the class {@link
+     * DragEventCoalescer}. The coalescer may not be null
+     */
+    @NonNull
+    private DragEventCoalescer createDragEventCoalescer() {
+        return new DragEventCoalescer(new DragEventCoalescer.Callback() {
+
+            @Override
+            public void onCoalescedDrag(final float dragPosition,
+                                        final float orthogonalPosition) {
+                if (!getTabSwitcher().isAnimationRunning() && isDraggingAllowed()) {
+                    handleDrag(dragPosition, orthogonalPosition);
+                }
+            }
+
+        });
+    }
+
     /**
      * Notifies the callback in order to calculate the positions of all tabs, depending on the
      * current drag distance.
@@ -511,6 +544,8 @@ public abstract class AbstractDragTabsEventHandler<CallbackType extends Abstract
         this.minFlingVelocity = configuration.getScaledMinimumFlingVelocity();
         this.maxFlingVelocity = configuration.getScaledMaximumFlingVelocity();
         this.minSwipeVelocity = resources.getDimensionPixelSize(R.dimen.min_swipe_velocity);
+        this.dragEventCoalescer = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN ?
+                createDragEventCoalescer() : null;
         resetDragging();
     }
 
@@ -732,11 +767,24 @@ public abstract class AbstractDragTabsEventHandler<CallbackType extends Abstract
             pressedItem = null;
         }
 
-        handleDrag(dragPosition, orthogonalPosition);
+        if (dragEventCoalescer != null && isDragging()) {
+            dragEventCoalescer.add(dragPosition, orthogonalPosition);
+        } else {
+            for (int i = 0; i < event.getHistorySize() && !isDragging(); i++) {
+                handleDrag(arithmetics.getHistoricalTouchPosition(Axis.DRAGGING_AXIS, event, i),
+                        arithmetics.getHistoricalTouchPosition(Axis.ORTHOGONAL_AXIS, event, i));
+            }
+
+            handleDrag(dragPosition, orthogonalPosition);
+        }
     }
 
     @Override
     public final void onUp(@Nullable final MotionEvent event) {
+        if (dragEventCoalescer != null && event != null) {
+            dragEventCoalescer.flush();
+        }
+
         if (dragState == DragState.SWIPE) {
             float swipeVelocity = 0;
 
@@ -17,13 +17,26 @@ import android.content.Context;
 import android.content.res.ColorStateList;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import androidx.annotation.CallSuper;
 import androidx.annotation.ColorInt;
+import androidx.annotation.LayoutRes;
 import androidx.annotation.MenuRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -35,15 +48,19 @@ import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabCloseListener;
 import de.mrapp.android.tabswitcher.TabSwitcher;
 import de.mrapp.android.tabswitcher.TabSwitcherDecorator;
-import de.mrapp.android.tabswitcher.iterator.AbstractItemIterator;
-import de.mrapp.android.tabswitcher.iterator.ItemIterator;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.android.tabswitcher.drawable.PerformanceOverlayDrawable;
 import de.mrapp.android.tabswitcher.model.AbstractItem;
 import de.mrapp.android.tabswitcher.model.Model;
+import de.mrapp.android.tabswitcher.model.PerformanceEventLog.EventType;
 import de.mrapp.android.tabswitcher.model.State;
 import de.mrapp.android.tabswitcher.model.TabItem;
 import de.mrapp.android.tabswitcher.model.TabSwitcherModel;
 import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
+import de.mrapp.android.tabswitcher.model.Tag;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
 import de.mrapp.android.util.logging.LogLevel;
+import de.mrapp.android.util.logging.Logger;
 import de.mrapp.android.util.view.AbstractViewRecycler;
 import de.mrapp.android.util.view.AttachedViewRecycler;
 import de.mrapp.util.Condition;
@@ -59,11 +76,140 @@ public abstract class AbstractTabRecyclerAdapter
         extends AbstractViewRecycler.Adapter<AbstractItem, Integer>
         implements Tab.Callback, Model.Listener {
 
+    /**
+     * A task, which inflates a specific number of views, which are used to visualize tabs, on a
+     * background thread and adds them to the pool of pre-warmed views on the UI thread. The task
+     * does only inflate the views' layout. All further setup, which depends on the state of the
+     * adapter, is done on the UI thread, when a view is taken from the pool.
+     */
+    private class PrewarmingTask implements Runnable {
+
+        /**
+         * The layout inflater, which is used to inflate the views.
+         */
+        private final LayoutInflater inflater;
+
+        /**
+         * The parent of the views, which are inflated.
+         */
+        private final ViewGroup parent;
+
+        /**
+         * The resource id of the layout, which is inflated.
+         */
+        private final int layoutResourceId;
+
+        /**
+         * The number of views, which should be inflated.
+         */
+        private final int count;
+
+        /**
+         * The handler, which is used to pass the inflated views to the UI thread.
+         */
+        private final Handler handler;
+
+        /**
+         * True, if the task has been canceled, false otherwise.
+         */
+        private volatile boolean canceled;
+
+        /**
+         * Creates a new task, which inflates a specific number of views, which are used to
+         * visualize tabs, on a background thread.
+         *
+         * @param inflater
+         *         The layout inflater, which should be used to inflate the views, as an instance of
+         *         the class {@link LayoutInflater}. The layout inflater may not be null
+         * @param parent
+         *         The parent of the views, which should be inflated, as an instance of the class
+         *         {@link ViewGroup} or null, if no parent is available
+         * @param count
+         *         The number of views, which should be inflated, as an {@link Integer} value
+         */
+        PrewarmingTask(@NonNull final LayoutInflater inflater, @Nullable final ViewGroup parent,
+                       final int count) {
+            this.inflater = inflater.cloneInContext(inflater.getContext());
+            this.parent = parent;
+            this.layoutResourceId = getTabViewLayout();
+            this.count = count;
+            this.handler = new Handler(Looper.getMainLooper());
+            this.canceled = false;
+        }
+
+        /**
+         * Cancels the task. Views, which are inflated afterwards, are discarded.
+         */
+        public void cancel() {
+            canceled = true;
+        }
+
+        @Override
+        public void run() {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+
+            for (int i = 0; i < count && !canceled; i++) {
+                final View view;
+
+                try {
+                    view = inflater.inflate(layoutResourceId, parent, false);
+                } catch (final RuntimeException e) {
+                    handler.post(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            Logger logger = new Logger(model.getLogLevel());
+                            logger.logWarn(AbstractTabRecyclerAdapter.class,
+                                    "Failed to inflate tab views ahead of time", e);
+                        }
+
+                    });
+
+                    break;
+                }
+
+                handler.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if (!canceled) {
+                            prewarmedTabViews.add(view);
+                        }
+                    }
+
+                });
+            }
+        }
+
+    }
+
+    /**
+     * The executor, which is used to inflate views ahead of time. It is shared by all adapters in
+     * order to use a single background thread, which is terminated when idle.
+     */
+    private static final Executor PREWARMING_EXECUTOR =
+            new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+
+    /**
+     * The state set, which is used to resolve the colors of a selected tab.
+     */
+    private static final int[] SELECTED_STATE_SET = new int[]{android.R.attr.state_selected};
+
+    /**
+     * The state set, which is used to resolve the colors of a tab, which is not selected.
+     */
+    private static final int[] EMPTY_STATE_SET = new int[]{};
+
     /**
      * The view type of a tab.
      */
     private static final int TAB_VIEW_TYPE = 0;
 
+    /**
+     * The name of the trace section, which spans the binding of a tab's view.
+     */
+    private static final String SHOW_VIEW_TRACE_SECTION = "TabSwitcher#showTabView";
+
     /**
      * The tab switcher, the tabs belong to.
      */
@@ -84,17 +230,192 @@ public abstract class AbstractTabRecyclerAdapter
      */
     private AttachedViewRecycler<AbstractItem, Integer> viewRecycler;
 
+    /**
+     * A queue, which contains views, which are used to visualize tabs, that have been inflated
+     * ahead of time and are not used yet.
+     */
+    private final Queue<View> prewarmedTabViews;
+
+    /**
+     * The task, which is currently used to inflate views ahead of time, or null, if no such task
+     * is running.
+     */
+    private PrewarmingTask prewarmingTask;
+
+    /**
+     * A map, which contains the snapshots of the resolved style properties of the tabs, which have
+     * been bound to views. The snapshots are removed, when a property of the corresponding tab is
+     * changed.
+     */
+    private final Map<Tab, TabStyleSnapshot> styleSnapshots;
+
+    /**
+     * A map, which contains the tab items, which correspond to the tabs, whose views are currently
+     * inflated.
+     */
+    private final Map<Tab, TabItem> boundTabItems;
+
+    /**
+     * Returns the snapshot of the resolved style properties of a specific tab. If no snapshot is
+     * available yet, a new one is created.
+     *
+     * @param tab
+     *         The tab, whose snapshot should be returned, as an instance of the class {@link Tab}.
+     *         The tab may not be null
+     * @return The snapshot of the given tab as an instance of the class {@link TabStyleSnapshot}.
+     * The snapshot may not be null
+     */
+    @NonNull
+    private TabStyleSnapshot getStyleSnapshot(@NonNull final Tab tab) {
+        TabStyleSnapshot snapshot = styleSnapshots.get(tab);
+
+        if (snapshot == null) {
+            snapshot = new TabStyleSnapshot(style, tab);
+            styleSnapshots.put(tab, snapshot);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Returns, whether two drawables are visually identical. This is the case, if they are the
+     * same instance or share their constant state, e.g. because they have been created by the
+     * same drawable cache.
+     *
+     * @param drawable1
+     *         The first drawable as an instance of the class {@link Drawable} or null
+     * @param drawable2
+     *         The second drawable as an instance of the class {@link Drawable} or null
+     * @return True, if the given drawables are visually identical, false otherwise
+     */
+    private static boolean isSameDrawable(@Nullable final Drawable drawable1,
+                                          @Nullable final Drawable drawable2) {
+        if (drawable1 == drawable2) {
+            return true;
+        } else if (drawable1 == null || drawable2 == null) {
+            return false;
+        }
+
+        Drawable.ConstantState constantState = drawable1.getConstantState();
+        return constantState != null && constantState == drawable2.getConstantState();
+    }
+
+    /**
+     * Applies the style properties of a tab to the views of the tab item, which corresponds to the
+     * tab. Only the properties, which differ from the ones, which have previously been applied to
+     * the views, are adapted.
+     *
+     * @param tabItem
+     *         The tab item, whose views should be adapted, as an instance of the class {@link
+     *         TabItem}. The tab item may not be null
+     */
+    private void bindStyle(@NonNull final TabItem tabItem) {
+        Tab tab = tabItem.getTab();
+        AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
+        TabStyleSnapshot snapshot = getStyleSnapshot(tab);
+        TabStyleSnapshot boundStyle = viewHolder.boundStyle;
+
+        if (boundStyle != snapshot) {
+            if (boundStyle == null || (boundStyle.getTitle() != snapshot.getTitle() &&
+                    !boundStyle.getTitle().equals(snapshot.getTitle()))) {
+                adaptTitle(tabItem, snapshot);
+            }
+
+            if (boundStyle == null || !isSameDrawable(boundStyle.getIcon(), snapshot.getIcon())) {
+                adaptIcon(tabItem, snapshot);
+            }
+
+            if (boundStyle == null ||
+                    boundStyle.isProgressBarShown() != snapshot.isProgressBarShown()) {
+                adaptProgressBarVisibility(tabItem, snapshot);
+            }
+
+            if (boundStyle == null ||
+                    boundStyle.getProgressBarColor() != snapshot.getProgressBarColor()) {
+                adaptProgressBarColor(tabItem, snapshot);
+            }
+
+            if (boundStyle == null || !isSameDrawable(boundStyle.getCloseButtonIcon(),
+                    snapshot.getCloseButtonIcon())) {
+                adaptCloseButtonIcon(tabItem, snapshot);
+            }
+
+            if (boundStyle == null ||
+                    boundStyle.getTitleTextColor() != snapshot.getTitleTextColor()) {
+                adaptTitleTextColor(tabItem, snapshot);
+            }
+
+            viewHolder.boundStyle = snapshot;
+        }
+
+        boolean selected = model.getSelectedTab() == tab;
+
+        if (!viewHolder.selectionBound || viewHolder.boundSelected != selected) {
+            adaptSelectionState(tabItem, selected);
+        }
+
+        ColorStateList colorStateList = snapshot.getBackgroundColor();
+        int[] stateSet = selected ? SELECTED_STATE_SET : EMPTY_STATE_SET;
+        int color = colorStateList.getColorForState(stateSet, colorStateList.getDefaultColor());
+
+        if (!viewHolder.backgroundColorBound || viewHolder.boundBackgroundColor != color) {
+            adaptBackgroundColor(tabItem, color);
+        }
+    }
+
+    /**
+     * Removes the snapshots of the resolved style properties of all tabs and applies the
+     * properties to all currently inflated tab items again.
+     *
+     * @param forceBackgroundColor
+     *         True, if the background color should be applied to the views regardless of whether
+     *         it has been changed, or not, false otherwise
+     */
+    private void bindAllStyles(final boolean forceBackgroundColor) {
+        styleSnapshots.clear();
+
+        for (TabItem tabItem : boundTabItems.values()) {
+            if (tabItem.isInflated()) {
+                if (forceBackgroundColor) {
+                    tabItem.getViewHolder().backgroundColorBound = false;
+                }
+
+                bindStyle(tabItem);
+            }
+        }
+    }
+
+    /**
+     * Removes the snapshot of the resolved style properties of a specific tab and applies the
+     * properties, which have been changed, to the tab's views, if they are currently inflated.
+     *
+     * @param tab
+     *         The tab, whose style properties have been changed, as an instance of the class {@link
+     *         Tab}. The tab may not be null
+     */
+    private void rebindStyle(@NonNull final Tab tab) {
+        styleSnapshots.remove(tab);
+        TabItem tabItem = getTabItem(tab);
+
+        if (tabItem != null) {
+            bindStyle(tabItem);
+        }
+    }
+
     /**
      * Adapts the title of a tab.
      *
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose title should be adapted, as an
      *         instance of the class {@link TabItem}. The tab item may not be null
+     * @param snapshot
+     *         The snapshot, which contains the title, as an instance of the class {@link
+     *         TabStyleSnapshot}. The snapshot may not be null
      */
-    private void adaptTitle(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
+    private void adaptTitle(@NonNull final TabItem tabItem,
+                            @NonNull final TabStyleSnapshot snapshot) {
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
-        viewHolder.titleTextView.setText(tab.getTitle());
+        viewHolder.titleTextView.setText(snapshot.getTitle());
     }
 
     /**
@@ -103,12 +424,14 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose icon should be adapted, as an
      *         instance of the class {@link TabItem}. The tab item may not be null
+     * @param snapshot
+     *         The snapshot, which contains the icon, as an instance of the class {@link
+     *         TabStyleSnapshot}. The snapshot may not be null
      */
-    private void adaptIcon(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
+    private void adaptIcon(@NonNull final TabItem tabItem,
+                           @NonNull final TabStyleSnapshot snapshot) {
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
-        Drawable icon = style.getTabIcon(tab);
-        viewHolder.iconImageView.setImageDrawable(icon);
+        viewHolder.iconImageView.setImageDrawable(snapshot.getIcon());
     }
 
     /**
@@ -134,12 +457,14 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose close button icon should be
      *         adapted, as an instance of the class {@link TabItem}. The tab item may not be null
+     * @param snapshot
+     *         The snapshot, which contains the close button icon, as an instance of the class
+     *         {@link TabStyleSnapshot}. The snapshot may not be null
      */
-    private void adaptCloseButtonIcon(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
-        Drawable icon = style.getTabCloseButtonIcon(tab);
+    private void adaptCloseButtonIcon(@NonNull final TabItem tabItem,
+                                      @NonNull final TabStyleSnapshot snapshot) {
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
-        viewHolder.closeButton.setImageDrawable(icon);
+        viewHolder.closeButton.setImageDrawable(snapshot.getCloseButtonIcon());
     }
 
     /**
@@ -148,16 +473,15 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose background should be adapted, as an
      *         instance of the class {@link TabItem}. The tab item may not be null
+     * @param color
+     *         The background color, which should be applied, as an {@link Integer} value
      */
-    private void adaptBackgroundColor(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
-        ColorStateList colorStateList = style.getTabBackgroundColor(tab);
-        int[] stateSet = model.getSelectedTab() == tab ? new int[]{android.R.attr.state_selected} :
-                new int[]{};
-        int color = colorStateList.getColorForState(stateSet, colorStateList.getDefaultColor());
+    private void adaptBackgroundColor(@NonNull final TabItem tabItem, @ColorInt final int color) {
         View view = tabItem.getView();
         Drawable background = view.getBackground();
         background.setColorFilter(color, PorterDuff.Mode.MULTIPLY);
+        tabItem.getViewHolder().boundBackgroundColor = color;
+        tabItem.getViewHolder().backgroundColorBound = true;
         onAdaptBackgroundColor(color, tabItem);
     }
 
@@ -167,12 +491,14 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose title should be adapted, as an
      *         instance of the class {@link TabItem}. The tab item may not be null
+     * @param snapshot
+     *         The snapshot, which contains the text color, as an instance of the class {@link
+     *         TabStyleSnapshot}. The snapshot may not be null
      */
-    private void adaptTitleTextColor(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
-        ColorStateList colorStateList = style.getTabTitleTextColor(tab);
+    private void adaptTitleTextColor(@NonNull final TabItem tabItem,
+                                     @NonNull final TabStyleSnapshot snapshot) {
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
-        viewHolder.titleTextView.setTextColor(colorStateList);
+        viewHolder.titleTextView.setTextColor(snapshot.getTitleTextColor());
     }
 
     /**
@@ -181,12 +507,16 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose progress bar should be adapted, as
      *         an instance of the class {@link TabItem}. The tab item may not be null
+     * @param snapshot
+     *         The snapshot, which specifies whether the progress bar is shown, as an instance of
+     *         the class {@link TabStyleSnapshot}. The snapshot may not be null
      */
-    private void adaptProgressBarVisibility(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
+    private void adaptProgressBarVisibility(@NonNull final TabItem tabItem,
+                                            @NonNull final TabStyleSnapshot snapshot) {
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
-        viewHolder.progressBar.setVisibility(tab.isProgressBarShown() ? View.VISIBLE : View.GONE);
-        viewHolder.iconImageView.setVisibility(tab.isProgressBarShown() ? View.GONE : View.VISIBLE);
+        boolean shown = snapshot.isProgressBarShown();
+        viewHolder.progressBar.setVisibility(shown ? View.VISIBLE : View.GONE);
+        viewHolder.iconImageView.setVisibility(shown ? View.GONE : View.VISIBLE);
     }
 
     /**
@@ -195,12 +525,14 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose progress bar should be adapted, as
      *         an instance of the class {@link TabItem}. The tab item may not be null
+     * @param snapshot
+     *         The snapshot, which contains the progress bar color, as an instance of the class
+     *         {@link TabStyleSnapshot}. The snapshot may not be null
      */
-    private void adaptProgressBarColor(@NonNull final TabItem tabItem) {
-        Tab tab = tabItem.getTab();
+    private void adaptProgressBarColor(@NonNull final TabItem tabItem,
+                                       @NonNull final TabStyleSnapshot snapshot) {
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
-        int color = style.getTabProgressBarColor(tab);
-        viewHolder.progressBar.setColor(color);
+        viewHolder.progressBar.setColor(snapshot.getProgressBarColor());
     }
 
     /**
@@ -209,29 +541,32 @@ public abstract class AbstractTabRecyclerAdapter
      * @param tabItem
      *         The tab item, which corresponds to the tab, whose selection state should be adapted,
      *         as an instance of the class {@link TabItem}. The tab item may not be null
+     * @param selected
+     *         True, if the tab is selected, false otherwise
      */
-    private void adaptSelectionState(@NonNull final TabItem tabItem) {
-        boolean selected = model.getSelectedTab() == tabItem.getTab();
+    private void adaptSelectionState(@NonNull final TabItem tabItem, final boolean selected) {
         tabItem.getView().setSelected(selected);
         AbstractTabViewHolder viewHolder = tabItem.getViewHolder();
         viewHolder.titleTextView.setSelected(selected);
         viewHolder.closeButton.setSelected(selected);
+        viewHolder.boundSelected = selected;
+        viewHolder.selectionBound = true;
     }
 
     /**
-     * Adapts the appearance of all currently inflated tabs, depending on whether they are currently
-     * selected, or not.
+     * Adapts the appearance of the tab at a specific index, depending on whether it is currently
+     * selected, or not. If the tab is not currently inflated, nothing is done.
+     *
+     * @param index
+     *         The index of the tab, whose appearance should be adapted, as an {@link Integer}
+     *         value or -1, if no tab should be adapted
      */
-    private void adaptAllSelectionStates() {
-        AbstractItemIterator iterator =
-                new ItemIterator.Builder(model, getViewRecyclerOrThrowException()).create();
-        AbstractItem item;
+    private void adaptSelectionState(final int index) {
+        if (index >= 0 && index < model.getCount()) {
+            TabItem tabItem = getTabItem(model.getTab(index));
 
-        while ((item = iterator.next()) != null) {
-            if (item.isInflated() && item instanceof TabItem) {
-                TabItem tabItem = (TabItem) item;
-                adaptSelectionState(tabItem);
-                adaptBackgroundColor(tabItem);
+            if (tabItem != null) {
+                bindStyle(tabItem);
             }
         }
     }
@@ -325,7 +660,9 @@ public abstract class AbstractTabRecyclerAdapter
     }
 
     /**
-     * Returns the tab item, which corresponds to a specific tab.
+     * Returns the tab item, which corresponds to a specific tab. As the tab item is retrieved from
+     * the tab items, whose views are currently inflated, its index may be outdated, if tabs have
+     * been added or removed in the meantime.
      *
      * @param tab
      *         The tab, whose tab item should be returned, as an instance of the class {@link Tab}.
@@ -335,19 +672,45 @@ public abstract class AbstractTabRecyclerAdapter
      */
     @Nullable
     protected final TabItem getTabItem(@NonNull final Tab tab) {
-        int index = model.indexOf(tab);
+        TabItem tabItem = boundTabItems.get(tab);
 
-        if (index != -1) {
-            TabItem tabItem = TabItem.create(model, getViewRecyclerOrThrowException(), index);
+        if (tabItem != null && tabItem.isInflated()) {
+            Tag tag = (Tag) tabItem.getView().getTag(R.id.tag_properties);
 
-            if (tabItem.isInflated()) {
-                return tabItem;
+            if (tag != null) {
+                tabItem.setTag(tag);
             }
+
+            return tabItem;
         }
 
         return null;
     }
 
+    /**
+     * Sets up a view, which is used to visualize tabs, after it has been inflated and creates the
+     * view holder, which holds references to its child views. This method must be called on the UI
+     * thread.
+     *
+     * @param view
+     *         The view, which has been inflated, as an instance of the class {@link View}. The view
+     *         may not be null
+     * @return The view holder, which has been created, as an instance of the class {@link
+     * AbstractTabViewHolder}. The view holder may not be null
+     */
+    @NonNull
+    private AbstractTabViewHolder setUpTabView(@NonNull final View view) {
+        AbstractTabViewHolder viewHolder = onCreateTabViewHolder();
+        onInflateTabView(view, viewHolder);
+        viewHolder.titleContainer = view.findViewById(R.id.tab_title_container);
+        viewHolder.titleTextView = view.findViewById(R.id.tab_title_text_view);
+        viewHolder.iconImageView = view.findViewById(R.id.tab_icon_image_view);
+        viewHolder.progressBar = view.findViewById(R.id.tab_progress_bar);
+        viewHolder.closeButton = view.findViewById(R.id.close_tab_button);
+        view.setTag(R.id.tag_view_holder, viewHolder);
+        return viewHolder;
+    }
+
     /**
      * Returns the view recycler, the adapter is bound to, or throws an {@link
      * IllegalStateException}, if no view recycler has been set.
@@ -378,25 +741,28 @@ public abstract class AbstractTabRecyclerAdapter
     }
 
     /**
-     * The method, which is invoked on implementing subclasses in order to inflate the view, which
-     * is used to visualize tabs.
+     * The method, which is invoked on implementing subclasses in order to retrieve the resource id
+     * of the layout of the views, which are used to visualize tabs. When views are inflated ahead
+     * of time, the layout is inflated on a background thread.
      *
-     * @param inflater
-     *         The layout inflater, which should be used, as an instance of the class {@link
-     *         LayoutInflater}. The layout inflater may not be null
-     * @param parent
-     *         The parent of the view, which should be inflated, as an instance of the class {@link
-     *         ViewGroup} or null, if no parent is available
+     * @return The resource id of the layout as an {@link Integer} value
+     */
+    @LayoutRes
+    protected abstract int getTabViewLayout();
+
+    /**
+     * The method, which is invoked on implementing subclasses in order to set up a view, which is
+     * used to visualize tabs, after its layout has been inflated. This method is always invoked on
+     * the UI thread, even if the layout has been inflated ahead of time.
+     *
+     * @param view
+     *         The view, which has been inflated, as an instance of the class {@link View}. The view
+     *         may not be null
      * @param viewHolder
-     *         The view holder, which should hold references to the child views of the view, which
-     *         should be inflated, as an instance of the class {@link AbstractTabViewHolder}. The
-     *         view holder may not be null
-     * @return The view, which has been inflated, as an instance of the class {@link View}. The view
-     * may not be null
+     *         The view holder, which should hold references to the child views of the view, as an
+     *         instance of the class {@link AbstractTabViewHolder}. The view holder may not be null
      */
-    @NonNull
-    protected abstract View onInflateTabView(@NonNull final LayoutInflater inflater,
-                                             @Nullable final ViewGroup parent,
+    protected abstract void onInflateTabView(@NonNull final View view,
                                              @NonNull final AbstractTabViewHolder viewHolder);
 
     /**
@@ -461,6 +827,10 @@ public abstract class AbstractTabRecyclerAdapter
         this.model = model;
         this.style = style;
         this.viewRecycler = null;
+        this.prewarmedTabViews = new LinkedList<>();
+        this.prewarmingTask = null;
+        this.styleSnapshots = new HashMap<>();
+        this.boundTabItems = new HashMap<>();
     }
 
     /**
@@ -476,6 +846,69 @@ public abstract class AbstractTabRecyclerAdapter
         this.viewRecycler = viewRecycler;
     }
 
+    /**
+     * Inflates a specific number of views, which are used to visualize tabs, on a background
+     * thread. The views are used instead of inflating views on the UI thread, when tabs become
+     * visible for the first time. Views, which have been inflated ahead of time previously and are
+     * not used yet, are taken into account.
+     *
+     * @param inflater
+     *         The layout inflater, which should be used to inflate the views, as an instance of the
+     *         class {@link LayoutInflater}. The layout inflater may not be null
+     * @param parent
+     *         The parent of the views, which should be inflated, as an instance of the class {@link
+     *         ViewGroup} or null, if no parent is available
+     * @param count
+     *         The number of views, which should be available, as an {@link Integer} value. The
+     *         number must be at least 0
+     */
+    public final void prewarmTabViews(@NonNull final LayoutInflater inflater,
+                                      @Nullable final ViewGroup parent, final int count) {
+        Condition.INSTANCE.ensureNotNull(inflater, "The layout inflater may not be null");
+        Condition.INSTANCE.ensureAtLeast(count, 0, "The count must be at least 0");
+        cancelPrewarming();
+        int missing = count - prewarmedTabViews.size();
+
+        if (missing > 0) {
+            prewarmingTask = new PrewarmingTask(inflater, parent, missing);
+            PREWARMING_EXECUTOR.execute(prewarmingTask);
+        }
+    }
+
+    /**
+     * Cancels inflating views ahead of time and discards all views, which have been inflated
+     * ahead of time, but are not used yet.
+     */
+    public final void clearPrewarmedTabViews() {
+        cancelPrewarming();
+        prewarmedTabViews.clear();
+    }
+
+    /**
+     * Updates the statistics, which are displayed by a specific performance overlay, to reflect the
+     * views, which are currently managed by the adapter. This method is invoked on every frame,
+     * while the overlay is shown. It must therefore not allocate any objects.
+     *
+     * @param overlay
+     *         The overlay, whose statistics should be updated, as an instance of the class {@link
+     *         PerformanceOverlayDrawable}. The overlay may not be null
+     */
+    @CallSuper
+    public void updatePerformanceOverlay(@NonNull final PerformanceOverlayDrawable overlay) {
+        overlay.setTabViewCount(boundTabItems.size(), prewarmedTabViews.size());
+        overlay.setPreviewStatistics(-1, 0, 0);
+    }
+
+    /**
+     * Cancels the task, which is currently used to inflate views ahead of time, if any.
+     */
+    private void cancelPrewarming() {
+        if (prewarmingTask != null) {
+            prewarmingTask.cancel();
+            prewarmingTask = null;
+        }
+    }
+
     @Override
     public void onLogLevelChanged(@NonNull final LogLevel logLevel) {
 
@@ -500,7 +933,11 @@ public abstract class AbstractTabRecyclerAdapter
     public final void onSelectionChanged(final int previousIndex, final int index,
                                          @Nullable final Tab selectedTab,
                                          final boolean switcherHidden) {
-        adaptAllSelectionStates();
+        if (previousIndex != index) {
+            adaptSelectionState(previousIndex);
+        }
+
+        adaptSelectionState(index);
     }
 
     @Override
@@ -510,7 +947,8 @@ public abstract class AbstractTabRecyclerAdapter
                                  final boolean switcherVisibilityChanged,
                                  @NonNull final Animation animation) {
         if (selectionChanged) {
-            adaptAllSelectionStates();
+            adaptSelectionState(previousSelectedTabIndex);
+            adaptSelectionState(selectedTabIndex);
         }
     }
 
@@ -520,7 +958,8 @@ public abstract class AbstractTabRecyclerAdapter
                                      final boolean selectionChanged,
                                      @NonNull final Animation animation) {
         if (selectionChanged) {
-            adaptAllSelectionStates();
+            // The selection only changes, if no tab has been selected before
+            adaptSelectionState(selectedTabIndex);
         }
     }
 
@@ -529,15 +968,18 @@ public abstract class AbstractTabRecyclerAdapter
                                    final int previousSelectedTabIndex, final int selectedTabIndex,
                                    final boolean selectionChanged,
                                    @NonNull final Animation animation) {
+        styleSnapshots.remove(tab);
+
         if (selectionChanged) {
-            adaptAllSelectionStates();
+            // The previously selected tab is the one, which has been removed
+            adaptSelectionState(selectedTabIndex);
         }
     }
 
     @Override
     public final void onAllTabsRemoved(@NonNull final Tab[] tabs,
                                        @NonNull final Animation animation) {
-
+        styleSnapshots.clear();
     }
 
     @Override
@@ -552,29 +994,13 @@ public abstract class AbstractTabRecyclerAdapter
 
     @Override
     public final void onTabIconChanged(@Nullable final Drawable icon) {
-        ItemIterator iterator =
-                new ItemIterator.Builder(model, getViewRecyclerOrThrowException()).create();
-        AbstractItem item;
-
-        while ((item = iterator.next()) != null) {
-            if (item.isInflated() && item instanceof TabItem) {
-                adaptIcon((TabItem) item);
-            }
-        }
+        bindAllStyles(false);
     }
 
     @CallSuper
     @Override
     public void onTabBackgroundColorChanged(@Nullable final ColorStateList colorStateList) {
-        ItemIterator iterator =
-                new ItemIterator.Builder(model, getViewRecyclerOrThrowException()).create();
-        AbstractItem item;
-
-        while ((item = iterator.next()) != null) {
-            if (item.isInflated() && item instanceof TabItem) {
-                adaptBackgroundColor((TabItem) item);
-            }
-        }
+        bindAllStyles(true);
     }
 
     @Override
@@ -584,41 +1010,17 @@ public abstract class AbstractTabRecyclerAdapter
 
     @Override
     public final void onTabTitleColorChanged(@Nullable final ColorStateList colorStateList) {
-        ItemIterator iterator =
-                new ItemIterator.Builder(model, getViewRecyclerOrThrowException()).create();
-        AbstractItem item;
-
-        while ((item = iterator.next()) != null) {
-            if (item.isInflated() && item instanceof TabItem) {
-                adaptTitleTextColor((TabItem) item);
-            }
-        }
+        bindAllStyles(false);
     }
 
     @Override
     public final void onTabCloseButtonIconChanged(@Nullable final Drawable icon) {
-        ItemIterator iterator =
-                new ItemIterator.Builder(model, getViewRecyclerOrThrowException()).create();
-        AbstractItem item;
-
-        while ((item = iterator.next()) != null) {
-            if (item.isInflated() && item instanceof TabItem) {
-                adaptCloseButtonIcon((TabItem) item);
-            }
-        }
+        bindAllStyles(false);
     }
 
     @Override
     public final void onTabProgressBarColorChanged(@ColorInt final int color) {
-        ItemIterator iterator =
-                new ItemIterator.Builder(model, getViewRecyclerOrThrowException()).create();
-        AbstractItem item;
-
-        while ((item = iterator.next()) != null) {
-            if (item.isInflated() && item instanceof TabItem) {
-                adaptProgressBarColor((TabItem) item);
-            }
-        }
+        bindAllStyles(false);
     }
 
     @Override
@@ -660,24 +1062,17 @@ public abstract class AbstractTabRecyclerAdapter
 
     @Override
     public final void onTitleChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptTitle(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @Override
     public final void onIconChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptIcon(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @Override
     public final void onCloseableChanged(@NonNull final Tab tab) {
+        styleSnapshots.remove(tab);
         TabItem tabItem = getTabItem(tab);
 
         if (tabItem != null) {
@@ -687,20 +1082,12 @@ public abstract class AbstractTabRecyclerAdapter
 
     @Override
     public final void onCloseButtonIconChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptCloseButtonIcon(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @Override
     public final void onBackgroundColorChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptBackgroundColor(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @Override
@@ -710,29 +1097,17 @@ public abstract class AbstractTabRecyclerAdapter
 
     @Override
     public final void onTitleTextColorChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptTitleTextColor(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @Override
     public final void onProgressBarVisibilityChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptProgressBarVisibility(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @Override
     public final void onProgressBarColorChanged(@NonNull final Tab tab) {
-        TabItem tabItem = getTabItem(tab);
-
-        if (tabItem != null) {
-            adaptProgressBarColor(tabItem);
-        }
+        rebindStyle(tab);
     }
 
     @CallSuper
@@ -754,14 +1129,17 @@ public abstract class AbstractTabRecyclerAdapter
                               final int viewType, @NonNull final Integer... params) {
         if (viewType == TAB_VIEW_TYPE) {
             TabItem tabItem = (TabItem) item;
-            AbstractTabViewHolder viewHolder = onCreateTabViewHolder();
-            View view = onInflateTabView(inflater, parent, viewHolder);
-            viewHolder.titleContainer = view.findViewById(R.id.tab_title_container);
-            viewHolder.titleTextView = view.findViewById(R.id.tab_title_text_view);
-            viewHolder.iconImageView = view.findViewById(R.id.tab_icon_image_view);
-            viewHolder.progressBar = view.findViewById(R.id.tab_progress_bar);
-            viewHolder.closeButton = view.findViewById(R.id.close_tab_button);
-            view.setTag(R.id.tag_view_holder, viewHolder);
+            View view = prewarmedTabViews.poll();
+
+            if (view == null) {
+                view = inflater.inflate(getTabViewLayout(), parent, false);
+                model.getMetricsRecorder().increment(Counter.TAB_VIEW_INFLATIONS);
+                model.getMetricsRecorder().getEventLog().record(EventType.TAB_VIEW_INFLATED);
+            } else {
+                model.getMetricsRecorder().increment(Counter.PREWARMED_TAB_VIEWS);
+            }
+
+            AbstractTabViewHolder viewHolder = setUpTabView(view);
             tabItem.setViewHolder(viewHolder);
             item.setView(view);
             view.setTag(R.id.tag_properties, item.getTag());
@@ -788,17 +1166,23 @@ public abstract class AbstractTabRecyclerAdapter
                 view.setTag(R.id.tag_properties, tabItem.getTag());
             }
 
-            Tab tab = tabItem.getTab();
-            tab.addCallback(this);
-            adaptTitle(tabItem);
-            adaptIcon(tabItem);
-            adaptProgressBarVisibility(tabItem);
-            adaptCloseButtonVisibility(tabItem);
-            adaptCloseButtonIcon(tabItem);
-            adaptBackgroundColor(tabItem);
-            adaptTitleTextColor(tabItem);
-            adaptSelectionState(tabItem);
-            onShowTabView(view, tabItem, params);
+            if (!inflated) {
+                model.getMetricsRecorder().increment(Counter.TAB_VIEW_REUSES);
+                model.getMetricsRecorder().getEventLog().record(EventType.TAB_VIEW_RECYCLED);
+            }
+
+            boolean traced = TraceHelper.beginSection(SHOW_VIEW_TRACE_SECTION);
+
+            try {
+                Tab tab = tabItem.getTab();
+                tab.addCallback(this);
+                boundTabItems.put(tab, tabItem);
+                adaptCloseButtonVisibility(tabItem);
+                bindStyle(tabItem);
+                onShowTabView(view, tabItem, params);
+            } finally {
+                TraceHelper.endSection(traced);
+            }
         } else {
             throw new IllegalArgumentException("Unknown item type");
         }
@@ -811,7 +1195,9 @@ public abstract class AbstractTabRecyclerAdapter
             TabItem tabItem = (TabItem) item;
             Tab tab = tabItem.getTab();
             tab.removeCallback(this);
+            boundTabItems.remove(tab);
             view.setTag(R.id.tag_properties, null);
+            model.getMetricsRecorder().getEventLog().record(EventType.TAB_VIEW_REMOVED);
         } else {
             throw new IllegalArgumentException("Unknown item type");
         }
@@ -21,6 +21,7 @@ import android.content.res.ColorStateList;
 import android.content.res.Resources;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.view.ContextThemeWrapper;
 import android.view.LayoutInflater;
 import android.view.Menu;
@@ -31,6 +32,9 @@ import android.view.animation.Animation;
 import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Transformation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import androidx.annotation.CallSuper;
 import androidx.annotation.ColorInt;
 import androidx.annotation.MenuRes;
@@ -40,10 +44,14 @@ import androidx.appcompat.widget.Toolbar;
 import androidx.appcompat.widget.Toolbar.OnMenuItemClickListener;
 import androidx.core.util.Pair;
 import de.mrapp.android.tabswitcher.AddTabButtonListener;
+import de.mrapp.android.tabswitcher.AnimationType;
+import de.mrapp.android.tabswitcher.HardwareLayerPolicy;
+import de.mrapp.android.tabswitcher.Layout;
 import de.mrapp.android.tabswitcher.R;
 import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabSwitcher;
 import de.mrapp.android.tabswitcher.TabSwitcherDecorator;
+import de.mrapp.android.tabswitcher.drawable.PerformanceOverlayDrawable;
 import de.mrapp.android.tabswitcher.gesture.AbstractTouchEventHandler;
 import de.mrapp.android.tabswitcher.gesture.PullDownGestureEventHandler;
 import de.mrapp.android.tabswitcher.gesture.SwipeGestureEventHandler;
@@ -55,10 +63,12 @@ import de.mrapp.android.tabswitcher.layout.Arithmetics.Axis;
 import de.mrapp.android.tabswitcher.model.AbstractItem;
 import de.mrapp.android.tabswitcher.model.AddTabItem;
 import de.mrapp.android.tabswitcher.model.Model;
+import de.mrapp.android.tabswitcher.model.PerformanceEventLog.EventType;
 import de.mrapp.android.tabswitcher.model.State;
 import de.mrapp.android.tabswitcher.model.TabItem;
 import de.mrapp.android.tabswitcher.model.TabSwitcherModel;
 import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
 import de.mrapp.android.util.ViewUtil;
 import de.mrapp.android.util.logging.LogLevel;
 import de.mrapp.android.util.logging.Logger;
@@ -138,24 +148,111 @@ public abstract class AbstractTabSwitcherLayout
     }
 
     /**
-     * A animation listener, which increases the number of running animations, when the observed
-     * animation is started, and decreases the number of accordingly, when the animation is
-     * finished. The listener allows to encapsulate another animation listener, which is notified
-     * when the animation has been started, canceled or ended.
+     * A animation listener, which registers the observed animation as a running animation, when
+     * the listener is created, and unregisters it, when the animation is finished. The listener
+     * allows to encapsulate another animation listener, which is notified when the animation has
+     * been started, canceled or ended.
      */
     protected class AnimationListenerWrapper extends AnimatorListenerAdapter {
 
+        /**
+         * The type of the observed animation.
+         */
+        private final AnimationType animationType;
+
         /**
          * The encapsulated listener.
          */
         private final AnimatorListener listener;
 
         /**
-         * Decreases the number of running animations and executes the next pending action, if no
-         * running animations remain.
+         * The cookie of the asynchronous trace section, which spans the observed animation, or 0,
+         * if no trace section has been begun.
+         */
+        private int traceCookie;
+
+        /**
+         * The time in nanoseconds, the observed animation has been started at, or -1, if the end of
+         * the animation has already been recorded.
+         */
+        private long startTime;
+
+        /**
+         * True, if a frame timing session has been started for the observed animation and not
+         * ended yet, false otherwise.
+         */
+        private boolean frameTimingStarted;
+
+        /**
+         * The animator of the observed animation or null, if the animation has not been started
+         * yet.
+         */
+        private Animator animator;
+
+        /**
+         * The runnable, which starts the observed animation after a delay, or null, if the
+         * animation is not started with a delay or if it has already been started.
+         */
+        private Runnable delayedStart;
+
+        /**
+         * True, if the observed animation has already been ended or canceled, false otherwise.
+         */
+        private boolean ended;
+
+        /**
+         * Fast-forwards the observed animation to its final state. If the animation is started
+         * with a delay, it is started immediately.
+         *
+         * @return True, if the animation has been ended, false otherwise
+         */
+        private boolean fastForward() {
+            if (delayedStart != null) {
+                getTabSwitcher().removeCallbacks(delayedStart);
+                delayedStart.run();
+            }
+
+            if (!ended && animator != null) {
+                animator.end();
+            }
+
+            return ended;
+        }
+
+        /**
+         * Unregisters the observed animation and notifies the callback, if no running animations
+         * remain. As an animation, which is canceled, is ended as well, this method has no effect,
+         * when invoked multiple times.
          */
         private void endAnimation() {
-            if (--runningAnimations == 0) {
+            if (ended) {
+                return;
+            }
+
+            ended = true;
+
+            if (frameTimingStarted) {
+                frameTimingStarted = false;
+
+                if (frameTimingRecorder != null) {
+                    frameTimingRecorder.onAnimationEnded(animationType);
+                }
+            }
+
+            TraceHelper.endAsyncSection(ANIMATION_TRACE_SECTIONS[animationType.ordinal()],
+                    traceCookie);
+            traceCookie = 0;
+
+            if (startTime != -1) {
+                getModel().getMetricsRecorder().getEventLog()
+                        .record(EventType.ANIMATION_ENDED, System.nanoTime() - startTime,
+                                animationType.ordinal());
+                startTime = -1;
+            }
+
+            runningAnimations.remove(this);
+
+            if (runningAnimations.isEmpty()) {
                 notifyOnAnimationsEnded();
             }
         }
@@ -170,13 +267,48 @@ public abstract class AbstractTabSwitcherLayout
          *         AnimatorListener} or null, if no listener should be encapsulated
          */
         public AnimationListenerWrapper(@Nullable final AnimatorListener listener) {
+            this(AnimationType.OTHER, listener);
+        }
+
+        /**
+         * Creates a new animation listener, which increases the number of running animations, when
+         * the observed animation is started, and decreases the number of accordingly, when the
+         * animation is finished.
+         *
+         * @param animationType
+         *         The type of the observed animation as a value of the enum {@link AnimationType}.
+         *         The type may not be null
+         * @param listener
+         *         The listener, which should be encapsulated, as an instance of the type {@link
+         *         AnimatorListener} or null, if no listener should be encapsulated
+         */
+        public AnimationListenerWrapper(@NonNull final AnimationType animationType,
+                                        @Nullable final AnimatorListener listener) {
+            Condition.INSTANCE.ensureNotNull(animationType, "The animation type may not be null");
+            this.animationType = animationType;
             this.listener = listener;
-            runningAnimations++;
+            runningAnimations.add(this);
+            this.startTime = System.nanoTime();
+            getModel().getMetricsRecorder().recordAnimation(animationType);
+            getModel().getMetricsRecorder().getEventLog()
+                    .record(EventType.ANIMATION_STARTED, -1, animationType.ordinal());
+            this.frameTimingStarted = false;
+            this.animator = null;
+            this.delayedStart = null;
+            this.ended = false;
+            this.traceCookie = TraceHelper
+                    .beginAsyncSection(ANIMATION_TRACE_SECTIONS[animationType.ordinal()]);
         }
 
         @Override
         public void onAnimationStart(final Animator animation) {
             super.onAnimationStart(animation);
+            animator = animation;
+
+            if (!frameTimingStarted && frameTimingRecorder != null) {
+                frameTimingStarted = true;
+                frameTimingRecorder.onAnimationStarted(animationType);
+            }
 
             if (listener != null) {
                 listener.onAnimationStart(animation);
@@ -370,6 +502,33 @@ public abstract class AbstractTabSwitcherLayout
 
     }
 
+    /**
+     * The maximum number of passes, which are performed when fast-forwarding running animations.
+     */
+    private static final int MAX_END_ANIMATION_PASSES = 32;
+
+    /**
+     * The name of the trace section, which spans the inflation of the layout.
+     */
+    private static final String INFLATE_LAYOUT_TRACE_SECTION = "TabSwitcher#inflateLayout";
+
+    /**
+     * The name of the trace section, which spans the detachment of the layout.
+     */
+    private static final String DETACH_LAYOUT_TRACE_SECTION = "TabSwitcher#detachLayout";
+
+    /**
+     * The name of the trace section, which spans the calculation of the tabs' positions while
+     * dragging.
+     */
+    private static final String DRAG_TRACE_SECTION = "TabSwitcher#onDrag";
+
+    /**
+     * The names of the asynchronous trace sections, which span animations, indexed by the ordinal
+     * of the corresponding {@link AnimationType}.
+     */
+    private static final String[] ANIMATION_TRACE_SECTIONS = createAnimationTraceSections();
+
     /**
      * The tab switcher, the layout belongs to.
      */
@@ -411,9 +570,22 @@ public abstract class AbstractTabSwitcherLayout
     private Callback callback;
 
     /**
-     * The number of animations, which are currently running.
+     * The recorder, which is used to record the frame timings of animations, or null, if frame
+     * timings cannot be recorded on the device.
      */
-    private int runningAnimations;
+    private final FrameTimingRecorder frameTimingRecorder;
+
+    /**
+     * A list, which contains the listeners, which observe the animations, which are currently
+     * running or waiting to be started.
+     */
+    private final List<AnimationListenerWrapper> runningAnimations;
+
+    /**
+     * True, if running animations are currently fast-forwarded to their final state, false
+     * otherwise.
+     */
+    private boolean endingAnimations;
 
     /**
      * The animation, which is used to fling the tabs.
@@ -425,6 +597,24 @@ public abstract class AbstractTabSwitcherLayout
      */
     private int firstVisibleIndex;
 
+    /**
+     * Creates and returns the names of the asynchronous trace sections, which span animations.
+     *
+     * @return An array, which contains the names of the trace sections, indexed by the ordinal of
+     * the corresponding {@link AnimationType}, as a {@link String} array. The array may not be null
+     */
+    @NonNull
+    private static String[] createAnimationTraceSections() {
+        AnimationType[] animationTypes = AnimationType.values();
+        String[] sections = new String[animationTypes.length];
+
+        for (AnimationType animationType : animationTypes) {
+            sections[animationType.ordinal()] = "TabSwitcher#animation:" + animationType.name();
+        }
+
+        return sections;
+    }
+
     /**
      * Registers the layout as the callback of all touch event handlers.
      */
@@ -533,6 +723,7 @@ public abstract class AbstractTabSwitcherLayout
      * Adapts the log level.
      */
     private void adaptLogLevel() {
+        logger.setLogLevel(getModel().getLogLevel());
         getTabViewRecycler().setLogLevel(getModel().getLogLevel());
         getContentViewRecycler().setLogLevel(getModel().getLogLevel());
     }
@@ -798,10 +989,11 @@ public abstract class AbstractTabSwitcherLayout
     }
 
     /**
-     * Notifies the callback, that all animations have been ended.
+     * Notifies the callback, that all animations have been ended, unless running animations are
+     * currently fast-forwarded by using the method {@link #endAnimations()}.
      */
     private void notifyOnAnimationsEnded() {
-        if (callback != null) {
+        if (!endingAnimations && callback != null) {
             callback.onAnimationsEnded();
         }
     }
@@ -850,6 +1042,33 @@ public abstract class AbstractTabSwitcherLayout
         return style;
     }
 
+    /**
+     * Creates and returns an animation listener, which renders a specific view into a hardware
+     * layer while it is animated, depending on the tab switcher's hardware layer policy.
+     *
+     * @param view
+     *         The view, which is animated, as an instance of the class {@link View}. The view may
+     *         not be null
+     * @param listener
+     *         The listener, which should be encapsulated, as an instance of the type {@link
+     *         AnimatorListener} or null, if no listener should be encapsulated
+     * @return The listener, which has been created, as an instance of the type {@link
+     * AnimatorListener} or the given listener, which may be null, if no hardware layer should be
+     * used
+     */
+    @Nullable
+    protected final AnimatorListener createHardwareLayerListener(
+            @NonNull final View view, @Nullable final AnimatorListener listener) {
+        HardwareLayerPolicy policy = getTabSwitcher().getHardwareLayerPolicy();
+
+        if (policy == HardwareLayerPolicy.ALWAYS || (policy == HardwareLayerPolicy.PHONE_ONLY &&
+                getTabSwitcher().getLayout() != Layout.TABLET)) {
+            return new HardwareLayerListener(view, listener);
+        }
+
+        return listener;
+    }
+
     /**
      * Returns the space between tabs, which are part of a stack.
      *
@@ -871,6 +1090,20 @@ public abstract class AbstractTabSwitcherLayout
         return logger;
     }
 
+    /**
+     * Returns, whether log messages with a specific log level are written by the logger, or not.
+     * This method should be used to avoid the creation of log messages, which would be discarded
+     * anyway.
+     *
+     * @param logLevel
+     *         The log level, which should be checked, as a value of the enum LogLevel. The log
+     *         level may not be null
+     * @return True, if log messages with the given log level are written, false otherwise
+     */
+    protected final boolean isLoggable(@NonNull final LogLevel logLevel) {
+        return logLevel.getRank() >= getModel().getLogLevel().getRank();
+    }
+
     /**
      * Returns the context, which is used by the layout.
      *
@@ -888,7 +1121,7 @@ public abstract class AbstractTabSwitcherLayout
      * @return The index of the first visible tab as an {@link Integer} value or -1, if no tabs is
      * visible
      */
-    protected final int getFirstVisibleIndex() {
+    public final int getFirstVisibleIndex() {
         return firstVisibleIndex;
     }
 
@@ -1147,8 +1380,11 @@ public abstract class AbstractTabSwitcherLayout
         Resources resources = tabSwitcher.getResources();
         this.stackedTabSpacing = resources.getDimensionPixelSize(R.dimen.stacked_tab_spacing);
         this.logger = new Logger(model.getLogLevel());
+        this.frameTimingRecorder = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN ?
+                new FrameTimingRecorder(tabSwitcher, model.getFrameTimingListeners()) : null;
         this.callback = null;
-        this.runningAnimations = 0;
+        this.runningAnimations = new ArrayList<>();
+        this.endingAnimations = false;
         this.flingAnimation = null;
         this.firstVisibleIndex = -1;
     }
@@ -1217,6 +1453,29 @@ public abstract class AbstractTabSwitcherLayout
      */
     protected abstract AbstractTabRecyclerAdapter getTabRecyclerAdapter();
 
+    /**
+     * The method, which is invoked on implementing subclasses in order to remove all previously
+     * rendered previews of tabs from the cache.
+     */
+    public abstract void clearCachedPreviews();
+
+    /**
+     * The method, which is invoked on implementing subclasses in order to remove the previously
+     * rendered preview of a specific tab from the cache.
+     *
+     * @param tab
+     *         The tab, whose preview should be removed, as an instance of the class {@link Tab}.
+     *         The tab may not be null
+     */
+    public abstract void clearCachedPreview(@NonNull Tab tab);
+
+    /**
+     * The method, which is invoked on implementing subclasses, when the amount of memory, which may
+     * be used to bind the content of the tabs, which are adjacent to the selected tab, ahead of
+     * time, or the size of the tab switcher has been changed.
+     */
+    public abstract void adaptNeighborPrebinding();
+
     /**
      * The method, which is invoked on implementing subclasses in order to inflate and update the
      * view, which is used to visualize a specific item.
@@ -1395,19 +1654,31 @@ public abstract class AbstractTabSwitcherLayout
      *         True, if only the tabs should be inflated, false otherwise
      */
     public final void inflateLayout(final boolean tabsOnly) {
-        int themeResourceId = style.getThemeHelper().getThemeResourceId(tabSwitcher.getLayout());
-        LayoutInflater inflater =
-                LayoutInflater.from(new ContextThemeWrapper(getContext(), themeResourceId));
-        onInflateLayout(inflater, tabsOnly);
-        registerEventHandlerCallbacks();
-        adaptDecorator();
-        adaptLogLevel();
+        boolean traced = TraceHelper.beginSection(INFLATE_LAYOUT_TRACE_SECTION);
+
+        try {
+            int themeResourceId =
+                    style.getThemeHelper().getThemeResourceId(tabSwitcher.getLayout());
+            LayoutInflater inflater =
+                    LayoutInflater.from(new ContextThemeWrapper(getContext(), themeResourceId));
+            onInflateLayout(inflater, tabsOnly);
+            registerEventHandlerCallbacks();
+            adaptDecorator();
+            adaptLogLevel();
+
+            if (!tabSwitcher.isSwitcherShown()) {
+                getTabRecyclerAdapter().prewarmTabViews(inflater, getTabContainer(),
+                        tabSwitcher.getPrewarmedTabViewCount());
+            }
 
-        if (!tabsOnly) {
-            adaptToolbarVisibility();
-            adaptToolbarTitle();
-            adaptToolbarNavigationIcon();
-            inflateToolbarMenu();
+            if (!tabsOnly) {
+                adaptToolbarVisibility();
+                adaptToolbarTitle();
+                adaptToolbarNavigationIcon();
+                inflateToolbarMenu();
+            }
+        } finally {
+            TraceHelper.endSection(traced);
         }
     }
 
@@ -1422,17 +1693,28 @@ public abstract class AbstractTabSwitcherLayout
      */
     @Nullable
     public final Pair<Integer, Float> detachLayout(final boolean tabsOnly) {
-        Pair<Integer, Float> pair = onDetachLayout(tabsOnly);
-        getTabViewRecycler().removeAll();
-        getTabViewRecycler().clearCache();
-        unregisterEventHandlerCallbacks();
-        touchEventDispatcher.removeEventHandler(getDragHandler());
-
-        if (!tabsOnly) {
-            getTabSwitcher().removeAllViews();
-        }
+        boolean traced = TraceHelper.beginSection(DETACH_LAYOUT_TRACE_SECTION);
 
-        return pair;
+        try {
+            Pair<Integer, Float> pair = onDetachLayout(tabsOnly);
+            getTabRecyclerAdapter().clearPrewarmedTabViews();
+            getTabViewRecycler().removeAll();
+            getTabViewRecycler().clearCache();
+            unregisterEventHandlerCallbacks();
+            touchEventDispatcher.removeEventHandler(getDragHandler());
+
+            if (!tabsOnly) {
+                getTabSwitcher().removeAllViews();
+
+                if (frameTimingRecorder != null) {
+                    frameTimingRecorder.reset();
+                }
+            }
+
+            return pair;
+        } finally {
+            TraceHelper.endSection(traced);
+        }
     }
 
     /**
@@ -1446,9 +1728,106 @@ public abstract class AbstractTabSwitcherLayout
         this.callback = callback;
     }
 
+    /**
+     * Updates the statistics, which are displayed by a specific performance overlay, to reflect the
+     * views, which are currently managed by the layout. This method is invoked on every frame,
+     * while the overlay is shown. It does therefore not allocate any objects.
+     *
+     * @param overlay
+     *         The overlay, whose statistics should be updated, as an instance of the class {@link
+     *         PerformanceOverlayDrawable}. The overlay may not be null
+     */
+    public final void updatePerformanceOverlay(@NonNull final PerformanceOverlayDrawable overlay) {
+        AbstractTabRecyclerAdapter tabRecyclerAdapter = getTabRecyclerAdapter();
+
+        if (tabRecyclerAdapter != null) {
+            tabRecyclerAdapter.updatePerformanceOverlay(overlay);
+        }
+
+        overlay.setContentViewCount(getModel().getContentRecyclerAdapter().getShownViewCount());
+    }
+
+    /**
+     * Starts an animation after a specific delay. Unlike the start delay of an animator, the delay
+     * is handled by the layout. This allows the method {@link #endAnimations()} to start the
+     * animation immediately. The animation must be observed by the given listener, which must be
+     * created before invoking this method, and it must be started without a start delay.
+     *
+     * @param listener
+     *         The listener, which observes the animation, as an instance of the class {@link
+     *         AnimationListenerWrapper}. The listener may not be null
+     * @param delay
+     *         The delay, after which the animation should be started, in milliseconds as a {@link
+     *         Long} value. The delay must be at least 0
+     * @param start
+     *         The runnable, which starts the animation, as an instance of the type {@link
+     *         Runnable}. The runnable may not be null
+     */
+    protected final void startAnimationDelayed(@NonNull final AnimationListenerWrapper listener,
+                                               final long delay, @NonNull final Runnable start) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        Condition.INSTANCE.ensureAtLeast(delay, 0, "The delay must be at least 0");
+        Condition.INSTANCE.ensureNotNull(start, "The runnable may not be null");
+
+        if (delay > 0) {
+            listener.delayedStart = new Runnable() {
+
+                @Override
+                public void run() {
+                    listener.delayedStart = null;
+                    start.run();
+                }
+
+            };
+
+            getTabSwitcher().postDelayed(listener.delayedStart, delay);
+        } else {
+            start.run();
+        }
+    }
+
+    /**
+     * Fast-forwards all running animations to their final state. Animations, which have been
+     * registered, but not started yet, are started immediately and fast-forwarded as well. As
+     * listeners of the ended animations may start further animations, these are fast-forwarded
+     * too. The callback is not notified about the end of the animations, while this method is
+     * executed. Instead, the caller is responsible for continuing with its pending work, if this
+     * method returns true.
+     *
+     * @return True, if all animations have been ended, false otherwise
+     */
+    public final boolean endAnimations() {
+        if (endingAnimations) {
+            return false;
+        }
+
+        endingAnimations = true;
+
+        try {
+            onCancelFling();
+            boolean progress = true;
+            int passes = 0;
+
+            while (progress && !runningAnimations.isEmpty() &&
+                    passes < MAX_END_ANIMATION_PASSES) {
+                progress = false;
+
+                for (AnimationListenerWrapper listener : new ArrayList<>(runningAnimations)) {
+                    progress |= listener.fastForward();
+                }
+
+                passes++;
+            }
+        } finally {
+            endingAnimations = false;
+        }
+
+        return !isAnimationRunning();
+    }
+
     @Override
     public final boolean isAnimationRunning() {
-        return runningAnimations > 0 || flingAnimation != null;
+        return !runningAnimations.isEmpty() || flingAnimation != null;
     }
 
     @Nullable
@@ -1566,22 +1945,33 @@ public abstract class AbstractTabSwitcherLayout
     @Override
     public final DragState onDrag(@NonNull final DragState dragState, final float dragDistance) {
         if (dragDistance != 0) {
-            if (dragState == DragState.DRAG_TO_END) {
-                calculatePositionsWhenDraggingToEnd(dragDistance);
-            } else {
-                calculatePositionsWhenDraggingToStart(dragDistance);
-            }
+            boolean traced = TraceHelper.beginSection(DRAG_TRACE_SECTION);
 
-            secondLayoutPass(new ItemIterator.Builder(getTabSwitcher(), getTabViewRecycler()));
+            try {
+                if (dragState == DragState.DRAG_TO_END) {
+                    calculatePositionsWhenDraggingToEnd(dragDistance);
+                } else {
+                    calculatePositionsWhenDraggingToStart(dragDistance);
+                }
+
+                secondLayoutPass(
+                        new ItemIterator.Builder(getTabSwitcher(), getTabViewRecycler()));
+            } finally {
+                TraceHelper.endSection(traced);
+            }
         }
 
         DragState overshoot = isOvershootingAtEnd(dragState,
                 new ItemIterator.Builder(getTabSwitcher(), getTabViewRecycler()).create()) ?
                 DragState.OVERSHOOT_END :
                 (isOvershootingAtStart() ? DragState.OVERSHOOT_START : null);
-        getLogger().logVerbose(getClass(),
-                "Dragging using a distance of " + dragDistance + " pixels. Drag state is " +
-                        dragState + ", overshoot is " + overshoot);
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Dragging using a distance of " + dragDistance + " pixels. Drag state is " +
+                            dragState + ", overshoot is " + overshoot);
+        }
+
         return overshoot;
     }
 
@@ -1623,8 +2013,11 @@ public abstract class AbstractTabSwitcherLayout
         if (item instanceof TabItem) {
             TabItem tabItem = (TabItem) item;
             getModel().selectTab(tabItem.getTab());
-            getLogger().logVerbose(getClass(), "Clicked tab at index " +
-                    (tabItem.getIndex() - (getModel().isAddTabButtonShown() ? 1 : 0)));
+
+            if (isLoggable(LogLevel.VERBOSE)) {
+                getLogger().logVerbose(getClass(), "Clicked tab at index " +
+                        (tabItem.getIndex() - (getModel().isAddTabButtonShown() ? 1 : 0)));
+            }
         } else if (item instanceof AddTabItem) {
             AddTabButtonListener listener = getModel().getAddTabButtonListener();
 
@@ -1645,9 +2038,12 @@ public abstract class AbstractTabSwitcherLayout
             flingAnimation.setDuration(duration);
             flingAnimation.setInterpolator(new DecelerateInterpolator());
             getTabSwitcher().startAnimation(flingAnimation);
-            logger.logVerbose(getClass(),
-                    "Started fling animation using a distance of " + distance +
-                            " pixels and a duration of " + duration + " milliseconds");
+
+            if (isLoggable(LogLevel.VERBOSE)) {
+                logger.logVerbose(getClass(),
+                        "Started fling animation using a distance of " + distance +
+                                " pixels and a duration of " + duration + " milliseconds");
+            }
         }
     }
 
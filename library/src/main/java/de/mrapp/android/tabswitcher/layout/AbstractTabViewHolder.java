@@ -55,4 +55,34 @@ public abstract class AbstractTabViewHolder {
      */
     public ImageButton closeButton;
 
+    /**
+     * The snapshot of the style properties, which have been applied to the views, or null, if no
+     * properties have been applied yet.
+     */
+    TabStyleSnapshot boundStyle;
+
+    /**
+     * The background color, which has been applied to the view. The color is only valid, if
+     * {@link #backgroundColorBound} is true.
+     */
+    int boundBackgroundColor;
+
+    /**
+     * True, if the background color {@link #boundBackgroundColor} has been applied to the view,
+     * false, if the background color must be applied the next time the view is bound.
+     */
+    boolean backgroundColorBound;
+
+    /**
+     * The selection state, which has been applied to the views. The selection state is only
+     * valid, if {@link #selectionBound} is true.
+     */
+    boolean boundSelected;
+
+    /**
+     * True, if the selection state {@link #boundSelected} has been applied to the views, false, if
+     * the selection state has not been applied yet.
+     */
+    boolean selectionBound;
+
 }
\ No newline at end of file
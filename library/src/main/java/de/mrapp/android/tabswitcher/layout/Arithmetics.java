@@ -109,6 +109,24 @@ public interface Arithmetics {
      */
     float getTouchPosition(@NonNull Axis axis, @NonNull MotionEvent event);
 
+    /**
+     * Returns a historical position of a touch event on a specific axis. Historical positions are
+     * positions, which occurred between the given touch event and the previous one, but have been
+     * batched into the given event.
+     *
+     * @param axis
+     *         The axis as a value of the enum {@link Axis}. The axis may not be null
+     * @param event
+     *         The touch event, whose historical position should be returned, as an instance of the
+     *         class {@link MotionEvent}. The motion event may not be null
+     * @param index
+     *         The index of the historical position as an {@link Integer} value. The index must be
+     *         at least 0 and less than the history size of the given touch event
+     * @return The historical position of the given touch event on the given axis as a {@link
+     * Float} value
+     */
+    float getHistoricalTouchPosition(@NonNull Axis axis, @NonNull MotionEvent event, int index);
+
     /**
      * Returns the position of a specific item on a specific axis.
      *
@@ -15,12 +15,14 @@ package de.mrapp.android.tabswitcher.layout;
 
 import android.content.Context;
 import android.os.Bundle;
-import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import de.mrapp.android.tabswitcher.Animation;
@@ -29,7 +31,11 @@ import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabSwitcher;
 import de.mrapp.android.tabswitcher.TabSwitcherDecorator;
 import de.mrapp.android.tabswitcher.TabSwitcherListener;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.android.tabswitcher.model.MetricsRecorder;
+import de.mrapp.android.tabswitcher.model.PerformanceEventLog.EventType;
 import de.mrapp.android.tabswitcher.model.Restorable;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
 import de.mrapp.android.util.view.AbstractViewRecycler;
 import de.mrapp.util.Condition;
 
@@ -44,11 +50,35 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
         implements Restorable, TabSwitcherListener {
 
     /**
-     * The name of the extra, which is used to store the saved instance states of previously removed
-     * associated views within a bundle.
+     * The name of the directory within the cache directory, the saved instance states of
+     * previously removed associated views are written to, if they exceed the maximum size. Each
+     * adapter uses a unique sub directory.
      */
-    private static final String SAVED_INSTANCE_STATES_EXTRA =
-            ContentRecyclerAdapter.class.getName() + "::SavedInstanceStates";
+    private static final String SAVED_INSTANCE_STATES_DIRECTORY = "tab_switcher_states";
+
+    /**
+     * The name of the parameter, which specifies the key of a tab's saved instance state. Unlike
+     * the tab's hash code, the key is retained, when the tab is restored.
+     */
+    private static final String SAVED_STATE_KEY_PARAMETER =
+            ContentRecyclerAdapter.class.getName() + "::savedStateKey";
+
+    /**
+     * The name of the parameter, which specifies the name of the store, the key, which is
+     * specified by the parameter {@link #SAVED_STATE_KEY_PARAMETER}, has been obtained from.
+     */
+    private static final String SAVED_STATE_STORE_PARAMETER =
+            ContentRecyclerAdapter.class.getName() + "::savedStateStore";
+
+    /**
+     * The name of the trace section, which spans the inflation of a view by the decorator.
+     */
+    private static final String INFLATE_VIEW_TRACE_SECTION = "TabSwitcher#inflateContentView";
+
+    /**
+     * The name of the trace section, which spans the application of the decorator to a view.
+     */
+    private static final String SHOW_VIEW_TRACE_SECTION = "TabSwitcher#showContentView";
 
     /**
      * The tab switcher, which contains the tabs, the associated views, which are inflated by the
@@ -62,13 +92,24 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
     private final TabSwitcherDecorator decorator;
 
     /**
-     * A sparse array, which manages the saved instance states of previously removed associated
-     * views.
+     * The store, which manages the saved instance states of previously removed associated views.
+     */
+    private final SavedStateStore savedInstanceStates;
+
+    /**
+     * The recorder, which is used to collect the performance metrics of the tab switcher.
+     */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * A set, which contains the tabs, whose associated views are currently shown.
      */
-    private SparseArray<Bundle> savedInstanceStates;
+    private final Set<Tab> shownTabs;
 
     /**
-     * Puts the parameter {@link Tab#WAS_SHOWN_PARAMETER} into a specific bundle. If the bundle is
+     * Puts the parameter {@link Tab#WAS_SHOWN_PARAMETER} into a specific bundle. If the bundle
+     * does not specify the key of a saved instance state, which has been obtained from the store,
+     * which is used by the adapter, a new key is put into the bundle as well. If the bundle is
      * null, a new bundle is created.
      *
      * @param parameters
@@ -86,9 +127,51 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
         }
 
         result.putBoolean(Tab.WAS_SHOWN_PARAMETER, true);
+
+        if (getSavedStateKey(result) == -1) {
+            result.putInt(SAVED_STATE_KEY_PARAMETER, savedInstanceStates.obtainKey());
+            result.putString(SAVED_STATE_STORE_PARAMETER, savedInstanceStates.getName());
+        }
+
         return result;
     }
 
+    /**
+     * Returns the key of the saved instance state, which is specified by a specific bundle.
+     *
+     * @param parameters
+     *         The bundle, which contains the parameters of a tab, as an instance of the class
+     *         {@link Bundle} or null
+     * @return The key of the saved instance state as an {@link Integer} value or -1, if the bundle
+     * does not specify a key, which has been obtained from the store, which is used by the adapter
+     */
+    private int getSavedStateKey(@Nullable final Bundle parameters) {
+        if (parameters != null && savedInstanceStates.getName()
+                .equals(parameters.getString(SAVED_STATE_STORE_PARAMETER))) {
+            return parameters.getInt(SAVED_STATE_KEY_PARAMETER, -1);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Reads the saved state of a specific tab ahead of time on a background thread, if it has
+     * been written to a file, in order to avoid doing so on the UI thread, when the tab is shown.
+     *
+     * @param tab
+     *         The tab, whose saved state should be read, as an instance of the class {@link Tab}
+     *         or null, if no saved state should be read
+     */
+    private void prefetchSavedState(@Nullable final Tab tab) {
+        if (tab != null) {
+            int key = getSavedStateKey(tab.getParameters());
+
+            if (key != -1) {
+                savedInstanceStates.prefetch(key);
+            }
+        }
+    }
+
     /**
      * Creates a new view recycler adapter, which allows to inflate views, which are associated with
      * the tabs of a {@link TabSwitcher}, by encapsulating a {@link TabSwitcherDecorator}.
@@ -100,15 +183,36 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
      * @param decorator
      *         The decorator, which should be used to inflate the associated views, as an instance
      *         of the class {@link TabSwitcherDecorator}. The decorator may not be null
+     * @param metricsRecorder
+     *         The recorder, which should be used to collect the performance metrics of the tab
+     *         switcher, as an instance of the class {@link MetricsRecorder}. The recorder may not
+     *         be null
      */
     public ContentRecyclerAdapter(@NonNull final TabSwitcher tabSwitcher,
-                                  @NonNull final TabSwitcherDecorator decorator) {
+                                  @NonNull final TabSwitcherDecorator decorator,
+                                  @NonNull final MetricsRecorder metricsRecorder) {
         Condition.INSTANCE.ensureNotNull(tabSwitcher, "The tab switcher may not be null");
         Condition.INSTANCE.ensureNotNull(decorator, "The decorator may not be null");
+        Condition.INSTANCE.ensureNotNull(metricsRecorder, "The metrics recorder may not be null");
         this.tabSwitcher = tabSwitcher;
         tabSwitcher.addListener(this);
         this.decorator = decorator;
-        this.savedInstanceStates = new SparseArray<>();
+        this.metricsRecorder = metricsRecorder;
+        this.shownTabs = new HashSet<>();
+        this.savedInstanceStates =
+                new SavedStateStore(tabSwitcher.getContext(), SAVED_INSTANCE_STATES_DIRECTORY);
+        this.savedInstanceStates.setMaxSize(tabSwitcher.getMaxSavedStateSize());
+    }
+
+    /**
+     * Removes the saved states of all tabs, including those, which have been written to files, and
+     * stops observing the tab switcher. This method must be called, when the adapter is not used
+     * anymore, e.g. when the decorator has been replaced or the activity is finishing.
+     */
+    public final void destroy() {
+        tabSwitcher.removeListener(this);
+        shownTabs.clear();
+        savedInstanceStates.destroy();
     }
 
     /**
@@ -120,7 +224,11 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
      */
     public void clearSavedState(@NonNull final Tab tab) {
         Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
-        savedInstanceStates.remove(tab.hashCode());
+        int key = getSavedStateKey(tab.getParameters());
+
+        if (key != -1) {
+            savedInstanceStates.remove(key);
+        }
     }
 
     /**
@@ -130,15 +238,47 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
         savedInstanceStates.clear();
     }
 
+    /**
+     * Sets the maximum total size of the saved states of tabs, which are kept in memory. If the
+     * size is exceeded, states are written to files immediately.
+     *
+     * @param maxSize
+     *         The maximum size, which should be set, in bytes as a {@link Long} value. The size
+     *         must be at least 0 or -1, if the size should not be restricted
+     */
+    public final void setMaxSavedStateSize(final long maxSize) {
+        savedInstanceStates.setMaxSize(maxSize);
+    }
+
+    /**
+     * Returns the number of views, which are currently shown by the adapter.
+     *
+     * @return The number of views, which are currently shown by the adapter, as an {@link Integer}
+     * value
+     */
+    public final int getShownViewCount() {
+        return shownTabs.size();
+    }
+
     @NonNull
     @Override
     public final View onInflateView(@NonNull final LayoutInflater inflater,
                                     @Nullable final ViewGroup parent, @NonNull final Tab item,
                                     final int viewType, @NonNull final Void... params) {
         int index = tabSwitcher.indexOf(item);
-        View view = decorator.inflateView(inflater, parent, item, index);
+        boolean traced = TraceHelper.beginSection(INFLATE_VIEW_TRACE_SECTION);
+        View view;
+
+        try {
+            view = decorator.inflateView(inflater, parent, item, index);
+        } finally {
+            TraceHelper.endSection(traced);
+        }
+
         view.setLayoutParams(new FrameLayout.LayoutParams(FrameLayout.LayoutParams.MATCH_PARENT,
                 FrameLayout.LayoutParams.MATCH_PARENT));
+        metricsRecorder.increment(Counter.CONTENT_VIEW_INFLATIONS);
+        metricsRecorder.getEventLog().record(EventType.CONTENT_VIEW_INFLATED);
         return view;
     }
 
@@ -149,21 +289,40 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
         int index = tabSwitcher.indexOf(item);
         Bundle savedInstanceState = null;
         Bundle parameters = item.getParameters();
+        int key = getSavedStateKey(parameters);
 
-        if (parameters != null && parameters.getBoolean(Tab.WAS_SHOWN_PARAMETER, false)) {
-            savedInstanceState = savedInstanceStates.get(item.hashCode());
+        if (key != -1) {
+            savedInstanceState = savedInstanceStates.get(key);
         }
 
         item.setParameters(setWasShownParameter(parameters));
-        decorator.applyDecorator(context, tabSwitcher, view, item, index, savedInstanceState,
-                inflated);
+        shownTabs.add(item);
+        metricsRecorder.increment(Counter.DECORATOR_SHOW_CALLS);
+        boolean traced = TraceHelper.beginSection(SHOW_VIEW_TRACE_SECTION);
+        long startTime = System.nanoTime();
+
+        try {
+            decorator.applyDecorator(context, tabSwitcher, view, item, index, savedInstanceState,
+                    inflated);
+        } finally {
+            TraceHelper.endSection(traced);
+        }
+
+        metricsRecorder.getEventLog()
+                .record(EventType.DECORATOR_BOUND, System.nanoTime() - startTime, -1);
     }
 
     @Override
     public final void onRemoveView(@NonNull final View view, @NonNull final Tab item) {
+        shownTabs.remove(item);
+        metricsRecorder.getEventLog().record(EventType.CONTENT_VIEW_REMOVED);
         int index = tabSwitcher.indexOf(item);
         Bundle outState = decorator.saveInstanceState(view, item, index);
-        savedInstanceStates.put(item.hashCode(), outState);
+        int key = getSavedStateKey(item.getParameters());
+
+        if (key != -1) {
+            savedInstanceStates.put(key, outState);
+        }
     }
 
     @Override
@@ -179,15 +338,12 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
 
     @Override
     public final void saveInstanceState(@NonNull final Bundle outState) {
-        outState.putSparseParcelableArray(SAVED_INSTANCE_STATES_EXTRA, savedInstanceStates);
+        savedInstanceStates.saveInstanceState(outState);
     }
 
     @Override
     public final void restoreInstanceState(@Nullable final Bundle savedInstanceState) {
-        if (savedInstanceState != null) {
-            savedInstanceStates =
-                    savedInstanceState.getSparseParcelableArray(SAVED_INSTANCE_STATES_EXTRA);
-        }
+        savedInstanceStates.restoreInstanceState(savedInstanceState);
     }
 
     @Override
@@ -204,7 +360,17 @@ public class ContentRecyclerAdapter extends AbstractViewRecycler.Adapter<Tab, Vo
     public final void onSelectionChanged(@NonNull final TabSwitcher tabSwitcher,
                                          final int selectedTabIndex,
                                          @Nullable final Tab selectedTab) {
+        if (selectedTabIndex != -1) {
+            prefetchSavedState(selectedTab);
 
+            if (selectedTabIndex > 0) {
+                prefetchSavedState(tabSwitcher.getTab(selectedTabIndex - 1));
+            }
+
+            if (selectedTabIndex + 1 < tabSwitcher.getCount()) {
+                prefetchSavedState(tabSwitcher.getTab(selectedTabIndex + 1));
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.layout;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A coalescer, which allows to merge the drag events, which occur within a single display frame,
+ * by using a {@link Choreographer}. Only the most recent positions are passed to a callback once
+ * per frame. This prevents the positions of tabs from being calculated multiple times per frame on
+ * devices, whose touch screens report events at a higher rate than the display is refreshed.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public class DragEventCoalescer implements Choreographer.FrameCallback {
+
+    /**
+     * Defines the interface, a class, which should be notified about coalesced drag events, must
+     * implement.
+     */
+    public interface Callback {
+
+        /**
+         * The method, which is invoked, when the drag events, which occurred within a frame, should
+         * be handled.
+         *
+         * @param dragPosition
+         *         The most recent position of the pointer on the dragging axis in pixels as a
+         *         {@link Float} value
+         * @param orthogonalPosition
+         *         The most recent position of the pointer on the orthogonal axis in pixels as a
+         *         {@link Float} value
+         */
+        void onCoalescedDrag(float dragPosition, float orthogonalPosition);
+
+    }
+
+    /**
+     * The callback, which is notified about coalesced drag events.
+     */
+    private final Callback callback;
+
+    /**
+     * The most recent position of the pointer on the dragging axis.
+     */
+    private float dragPosition;
+
+    /**
+     * The most recent position of the pointer on the orthogonal axis.
+     */
+    private float orthogonalPosition;
+
+    /**
+     * True, if a drag event is pending and the coalescer is registered at the choreographer, false
+     * otherwise.
+     */
+    private boolean pending;
+
+    /**
+     * Creates a new coalescer, which allows to merge the drag events, which occur within a single
+     * display frame.
+     *
+     * @param callback
+     *         The callback, which should be notified about coalesced drag events, as an instance
+     *         of the type {@link Callback}. The callback may not be null
+     */
+    public DragEventCoalescer(@NonNull final Callback callback) {
+        Condition.INSTANCE.ensureNotNull(callback, "The callback may not be null");
+        this.callback = callback;
+        this.pending = false;
+    }
+
+    /**
+     * Adds a drag event. The callback is notified about the most recent positions, when the next
+     * frame is rendered.
+     *
+     * @param dragPosition
+     *         The position of the pointer on the dragging axis in pixels as a {@link Float} value
+     * @param orthogonalPosition
+     *         The position of the pointer on the orthogonal axis in pixels as a {@link Float}
+     *         value
+     */
+    public final void add(final float dragPosition, final float orthogonalPosition) {
+        this.dragPosition = dragPosition;
+        this.orthogonalPosition = orthogonalPosition;
+
+        if (!pending) {
+            pending = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Notifies the callback about a pending drag event immediately, instead of waiting for the
+     * next frame.
+     */
+    public final void flush() {
+        if (pending) {
+            cancel();
+            callback.onCoalescedDrag(dragPosition, orthogonalPosition);
+        }
+    }
+
+    /**
+     * Discards a pending drag event.
+     */
+    public final void cancel() {
+        if (pending) {
+            pending = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    /**
+     * Returns, whether a drag event is pending, or not.
+     *
+     * @return True, if a drag event is pending, false otherwise
+     */
+    public final boolean isPending() {
+        return pending;
+    }
+
+    @Override
+    public final void doFrame(final long frameTimeNanos) {
+        if (pending) {
+            pending = false;
+            callback.onCoalescedDrag(dragPosition, orthogonalPosition);
+        }
+    }
+
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.layout;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.WindowManager;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.tabswitcher.AnimationType;
+import de.mrapp.android.tabswitcher.FrameTimingListener;
+import de.mrapp.android.tabswitcher.FrameTimingSummary;
+import de.mrapp.android.tabswitcher.TabSwitcher;
+import de.mrapp.util.Condition;
+import de.mrapp.util.datastructure.ListenerList;
+
+/**
+ * A recorder, which allows to record the durations of the frames, which are rendered while the
+ * animations of a {@link TabSwitcher} are running, by using a {@link Choreographer}. The frame
+ * timings are recorded separately for each {@link AnimationType}. When all animations of a
+ * specific type have been ended, a summary is passed to the registered {@link
+ * FrameTimingListener}s. Frame timings are only recorded, if at least one listener is registered
+ * at the time the first animation of a type is started.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public class FrameTimingRecorder implements Choreographer.FrameCallback {
+
+    /**
+     * The default refresh rate of the display, which is used if the actual refresh rate cannot be
+     * determined.
+     */
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    /**
+     * The factor, the frame interval is multiplied with in order to determine whether a frame is
+     * janky, i.e. whether at least one vsync has been missed.
+     */
+    private static final float JANK_THRESHOLD_FACTOR = 1.5f;
+
+    /**
+     * The initial capacity of the arrays, which are used to store frame times.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * A session, which records the frame timings of all animations of a specific type, which
+     * overlap in time.
+     */
+    private static class Session {
+
+        /**
+         * The number of animations of the session's type, which are currently running.
+         */
+        private int runningAnimations;
+
+        /**
+         * True, if frame timings are recorded for the session, false otherwise.
+         */
+        private boolean recording;
+
+        /**
+         * The time, the session has been started at, in nanoseconds.
+         */
+        private long startTime;
+
+        /**
+         * The timestamp of the last frame, which has been observed by the session, in nanoseconds
+         * or 0, if no frame has been observed yet.
+         */
+        private long lastFrameTime;
+
+        /**
+         * An array, which contains the frame times, which have been recorded so far.
+         */
+        private long[] frameTimes = new long[INITIAL_CAPACITY];
+
+        /**
+         * The number of frame times, which have been recorded so far.
+         */
+        private int frameCount;
+
+        /**
+         * The number of janky frames, which have been recorded so far.
+         */
+        private int jankyFrameCount;
+
+        /**
+         * Resets the session.
+         */
+        private void reset() {
+            recording = false;
+            startTime = 0;
+            lastFrameTime = 0;
+            frameCount = 0;
+            jankyFrameCount = 0;
+        }
+
+    }
+
+    /**
+     * The tab switcher, whose animations are observed.
+     */
+    private final TabSwitcher tabSwitcher;
+
+    /**
+     * A list, which contains the listeners, which should be notified about recorded frame timings.
+     */
+    private final ListenerList<FrameTimingListener> listeners;
+
+    /**
+     * An array, which contains the sessions of all animation types, indexed by their ordinal.
+     */
+    private final Session[] sessions;
+
+    /**
+     * The frame interval of the display in nanoseconds.
+     */
+    private final long frameInterval;
+
+    /**
+     * The number of sessions, which are currently recording frame timings.
+     */
+    private int recordingSessions;
+
+    /**
+     * True, if the recorder is currently registered at the choreographer, false otherwise.
+     */
+    private boolean frameCallbackPosted;
+
+    /**
+     * Returns the frame interval of the default display.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @return The frame interval of the default display in nanoseconds as a {@link Long} value
+     */
+    private static long obtainFrameInterval(@NonNull final Context context) {
+        WindowManager windowManager =
+                (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        float refreshRate = DEFAULT_REFRESH_RATE;
+
+        if (windowManager != null) {
+            Display display = windowManager.getDefaultDisplay();
+
+            if (display != null && display.getRefreshRate() > 0) {
+                refreshRate = display.getRefreshRate();
+            }
+        }
+
+        return Math.round(1000000000d / refreshRate);
+    }
+
+    /**
+     * Returns the value of a specific percentile from an array of sorted values.
+     *
+     * @param sortedValues
+     *         An array, which contains the sorted values, as a {@link Long} array. The array may
+     *         not be null
+     * @param count
+     *         The number of values in the array, which should be taken into account, as an {@link
+     *         Integer} value. The number must be at least 1
+     * @param percentile
+     *         The percentile, which should be returned, as an {@link Integer} value between 1 and
+     *         100
+     * @return The value of the given percentile as a {@link Long} value
+     */
+    private static long getPercentile(@NonNull final long[] sortedValues, final int count,
+                                      final int percentile) {
+        int rank = (int) Math.ceil(percentile / 100d * count);
+        return sortedValues[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /**
+     * Adds a frame time to a specific session.
+     *
+     * @param session
+     *         The session, the frame time should be added to, as an instance of the class {@link
+     *         Session}. The session may not be null
+     * @param frameTime
+     *         The frame time, which should be added, in nanoseconds as a {@link Long} value
+     */
+    private void addFrameTime(@NonNull final Session session, final long frameTime) {
+        if (session.frameCount == session.frameTimes.length) {
+            session.frameTimes = Arrays.copyOf(session.frameTimes, session.frameCount * 2);
+        }
+
+        session.frameTimes[session.frameCount++] = frameTime;
+
+        if (frameTime > frameInterval * JANK_THRESHOLD_FACTOR) {
+            session.jankyFrameCount++;
+        }
+    }
+
+    /**
+     * Finishes a specific session and notifies the listeners about the frame timings, which have
+     * been recorded.
+     *
+     * @param animationType
+     *         The type of the animations, the session corresponds to, as a value of the enum {@link
+     *         AnimationType}. The type may not be null
+     * @param session
+     *         The session, which should be finished, as an instance of the class {@link Session}.
+     *         The session may not be null
+     */
+    private void finishSession(@NonNull final AnimationType animationType,
+                               @NonNull final Session session) {
+        long totalDuration = System.nanoTime() - session.startTime;
+        int frameCount = session.frameCount;
+        long medianFrameTime = 0;
+        long percentile95FrameTime = 0;
+        long maxFrameTime = 0;
+
+        if (frameCount > 0) {
+            long[] sortedFrameTimes = Arrays.copyOf(session.frameTimes, frameCount);
+            Arrays.sort(sortedFrameTimes);
+            medianFrameTime = getPercentile(sortedFrameTimes, frameCount, 50);
+            percentile95FrameTime = getPercentile(sortedFrameTimes, frameCount, 95);
+            maxFrameTime = sortedFrameTimes[frameCount - 1];
+        }
+
+        FrameTimingSummary summary =
+                new FrameTimingSummary(animationType, frameCount, session.jankyFrameCount,
+                        medianFrameTime, percentile95FrameTime, maxFrameTime, totalDuration);
+        session.reset();
+        recordingSessions--;
+
+        if (recordingSessions == 0) {
+            removeFrameCallback();
+        }
+
+        for (FrameTimingListener listener : listeners) {
+            listener.onFrameTimingRecorded(tabSwitcher, summary);
+        }
+    }
+
+    /**
+     * Registers the recorder at the choreographer, if it is not registered yet.
+     */
+    private void postFrameCallback() {
+        if (!frameCallbackPosted) {
+            frameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Unregisters the recorder from the choreographer, if it is currently registered.
+     */
+    private void removeFrameCallback() {
+        if (frameCallbackPosted) {
+            frameCallbackPosted = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    /**
+     * Creates a new recorder, which allows to record the durations of the frames, which are
+     * rendered while the animations of a {@link TabSwitcher} are running.
+     *
+     * @param tabSwitcher
+     *         The tab switcher, whose animations should be observed, as an instance of the class
+     *         {@link TabSwitcher}. The tab switcher may not be null
+     * @param listeners
+     *         A list, which contains the listeners, which should be notified about recorded frame
+     *         timings, as an instance of the class ListenerList. The list may not be null
+     */
+    public FrameTimingRecorder(@NonNull final TabSwitcher tabSwitcher,
+                               @NonNull final ListenerList<FrameTimingListener> listeners) {
+        Condition.INSTANCE.ensureNotNull(tabSwitcher, "The tab switcher may not be null");
+        Condition.INSTANCE.ensureNotNull(listeners, "The listeners may not be null");
+        this.tabSwitcher = tabSwitcher;
+        this.listeners = listeners;
+        this.sessions = new Session[AnimationType.values().length];
+        this.frameInterval = obtainFrameInterval(tabSwitcher.getContext());
+        this.recordingSessions = 0;
+        this.frameCallbackPosted = false;
+
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i] = new Session();
+        }
+    }
+
+    /**
+     * The method, which must be invoked, when an animation of a specific type has been started.
+     *
+     * @param animationType
+     *         The type of the animation, which has been started, as a value of the enum {@link
+     *         AnimationType}. The type may not be null
+     */
+    public final void onAnimationStarted(@NonNull final AnimationType animationType) {
+        Session session = sessions[animationType.ordinal()];
+
+        if (session.runningAnimations++ == 0 && !listeners.isEmpty()) {
+            session.recording = true;
+            session.startTime = System.nanoTime();
+            recordingSessions++;
+            postFrameCallback();
+        }
+    }
+
+    /**
+     * The method, which must be invoked, when an animation of a specific type has been ended or
+     * canceled.
+     *
+     * @param animationType
+     *         The type of the animation, which has been ended, as a value of the enum {@link
+     *         AnimationType}. The type may not be null
+     */
+    public final void onAnimationEnded(@NonNull final AnimationType animationType) {
+        Session session = sessions[animationType.ordinal()];
+
+        if (session.runningAnimations > 0 && --session.runningAnimations == 0 &&
+                session.recording) {
+            finishSession(animationType, session);
+        }
+    }
+
+    /**
+     * Discards all frame timings, which have been recorded so far, without notifying the
+     * listeners, and unregisters the recorder from the choreographer.
+     */
+    public final void reset() {
+        removeFrameCallback();
+        recordingSessions = 0;
+
+        for (Session session : sessions) {
+            session.runningAnimations = 0;
+            session.reset();
+        }
+    }
+
+    @Override
+    public final void doFrame(final long frameTimeNanos) {
+        frameCallbackPosted = false;
+
+        for (Session session : sessions) {
+            if (session.recording) {
+                if (session.lastFrameTime != 0) {
+                    addFrameTime(session, frameTimeNanos - session.lastFrameTime);
+                }
+
+                session.lastFrameTime = frameTimeNanos;
+            }
+        }
+
+        if (recordingSessions > 0) {
+            postFrameCallback();
+        }
+    }
+
+}
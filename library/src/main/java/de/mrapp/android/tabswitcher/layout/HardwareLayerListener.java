@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.layout;
+
+import android.animation.Animator;
+import android.animation.Animator.AnimatorListener;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.tabswitcher.R;
+import de.mrapp.util.Condition;
+
+/**
+ * An animation listener, which renders a view into a hardware layer while it is animated and
+ * restores its previous layer type afterwards. If multiple animations affect the same view at the
+ * same time, the previous layer type is restored, when the last one has been finished. All events
+ * are passed to an encapsulated listener.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class HardwareLayerListener implements AnimatorListener {
+
+    /**
+     * The state of a view, which is rendered into a hardware layer.
+     */
+    private static class LayerState {
+
+        /**
+         * The layer type of the view, before the hardware layer has been enabled.
+         */
+        private final int previousLayerType;
+
+        /**
+         * The number of animations, which currently require the hardware layer.
+         */
+        private int count;
+
+        /**
+         * Creates a new state of a view, which is rendered into a hardware layer.
+         *
+         * @param previousLayerType
+         *         The layer type of the view, before the hardware layer has been enabled, as an
+         *         {@link Integer} value
+         */
+        LayerState(final int previousLayerType) {
+            this.previousLayerType = previousLayerType;
+            this.count = 0;
+        }
+
+    }
+
+    /**
+     * The view, which is animated.
+     */
+    private final View view;
+
+    /**
+     * The encapsulated listener.
+     */
+    private final AnimatorListener listener;
+
+    /**
+     * True, if the hardware layer has been enabled by this listener and has not been released
+     * yet, false otherwise.
+     */
+    private boolean enabled;
+
+    /**
+     * Enables the hardware layer of the view, if not already enabled by another animation.
+     */
+    private void enableLayer() {
+        if (!enabled) {
+            enabled = true;
+            LayerState state = (LayerState) view.getTag(R.id.tag_hardware_layer);
+
+            if (state == null) {
+                state = new LayerState(view.getLayerType());
+                view.setTag(R.id.tag_hardware_layer, state);
+
+                if (state.previousLayerType != View.LAYER_TYPE_HARDWARE) {
+                    view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+                }
+            }
+
+            state.count++;
+        }
+    }
+
+    /**
+     * Restores the previous layer type of the view, if no other animation requires the hardware
+     * layer anymore.
+     */
+    private void releaseLayer() {
+        if (enabled) {
+            enabled = false;
+            LayerState state = (LayerState) view.getTag(R.id.tag_hardware_layer);
+
+            if (state != null && --state.count <= 0) {
+                view.setTag(R.id.tag_hardware_layer, null);
+
+                if (state.previousLayerType != View.LAYER_TYPE_HARDWARE) {
+                    view.setLayerType(state.previousLayerType, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new animation listener, which renders a view into a hardware layer while it is
+     * animated.
+     *
+     * @param view
+     *         The view, which is animated, as an instance of the class {@link View}. The view may
+     *         not be null
+     * @param listener
+     *         The listener, which should be encapsulated, as an instance of the type {@link
+     *         AnimatorListener} or null, if no listener should be encapsulated
+     */
+    public HardwareLayerListener(@NonNull final View view,
+                                 @Nullable final AnimatorListener listener) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+        this.view = view;
+        this.listener = listener;
+        this.enabled = false;
+    }
+
+    @Override
+    public final void onAnimationStart(final Animator animation) {
+        enableLayer();
+
+        if (listener != null) {
+            listener.onAnimationStart(animation);
+        }
+    }
+
+    @Override
+    public final void onAnimationEnd(final Animator animation) {
+        releaseLayer();
+
+        if (listener != null) {
+            listener.onAnimationEnd(animation);
+        }
+    }
+
+    @Override
+    public final void onAnimationCancel(final Animator animation) {
+        releaseLayer();
+
+        if (listener != null) {
+            listener.onAnimationCancel(animation);
+        }
+    }
+
+    @Override
+    public final void onAnimationRepeat(final Animator animation) {
+        if (listener != null) {
+            listener.onAnimationRepeat(animation);
+        }
+    }
+
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.layout;
+
+import android.animation.Animator;
+import android.animation.Animator.AnimatorListener;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.tabswitcher.layout.Arithmetics.Axis;
+import de.mrapp.android.tabswitcher.model.AbstractItem;
+import de.mrapp.util.Condition;
+
+/**
+ * A driver, which allows to animate the positions of several items along a specific axis by using
+ * a single animator, which updates the positions of all items on each frame. Compared to starting
+ * a separate animator for each item, this reduces the number of animators, which must be
+ * allocated, and the number of listeners, which must be notified on each frame.
+ * <p>
+ * The listener, which is passed for an item, is notified when the animation of that item is
+ * started, ended or canceled, similar to a {@link android.view.ViewPropertyAnimator}. The animator,
+ * which is passed to the listener, is the shared animator. When the shared animator is ended
+ * prematurely, e.g. by calling {@link Animator#end()}, all items are moved to their target
+ * positions immediately.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public abstract class PositionAnimationDriver {
+
+    /**
+     * The duration of a single iteration of the shared animator in milliseconds. As the animator
+     * is repeated infinitely until all items have been animated, this value is arbitrary.
+     */
+    private static final long ITERATION_DURATION = 1000;
+
+    /**
+     * The animation of a single item.
+     */
+    private static class Entry {
+
+        /**
+         * The item, whose position is animated.
+         */
+        private final AbstractItem item;
+
+        /**
+         * The position, the item is moved to.
+         */
+        private final float targetPosition;
+
+        /**
+         * The time, the animation of the item starts at, in milliseconds.
+         */
+        private final long startTime;
+
+        /**
+         * The duration of the animation in milliseconds.
+         */
+        private final long duration;
+
+        /**
+         * The interpolator, which is used by the animation.
+         */
+        private final Interpolator interpolator;
+
+        /**
+         * The listener, which is notified about the progress of the animation.
+         */
+        private final AnimatorListener listener;
+
+        /**
+         * The position of the item at the time the animation has been started.
+         */
+        private float startPosition;
+
+        /**
+         * True, if the animation of the item has already been started, false otherwise.
+         */
+        private boolean started;
+
+        /**
+         * Creates a new animation of a single item.
+         *
+         * @param item
+         *         The item, whose position should be animated, as an instance of the class {@link
+         *         AbstractItem}. The item may not be null
+         * @param targetPosition
+         *         The position, the item should be moved to, in pixels as a {@link Float} value
+         * @param startTime
+         *         The time, the animation should start at, in milliseconds as a {@link Long} value
+         * @param duration
+         *         The duration of the animation in milliseconds as a {@link Long} value
+         * @param interpolator
+         *         The interpolator, which should be used, as an instance of the type {@link
+         *         Interpolator}. The interpolator may not be null
+         * @param listener
+         *         The listener, which should be notified about the progress of the animation, as
+         *         an instance of the type {@link AnimatorListener} or null, if no listener should
+         *         be notified
+         */
+        Entry(@NonNull final AbstractItem item, final float targetPosition, final long startTime,
+              final long duration, @NonNull final Interpolator interpolator,
+              @Nullable final AnimatorListener listener) {
+            this.item = item;
+            this.targetPosition = targetPosition;
+            this.startTime = startTime;
+            this.duration = duration;
+            this.interpolator = interpolator;
+            this.listener = listener;
+            this.started = false;
+        }
+
+    }
+
+    /**
+     * The arithmetics, which are used to retrieve and set the positions of items.
+     */
+    private final Arithmetics arithmetics;
+
+    /**
+     * The axis, the positions of items are animated on.
+     */
+    private final Axis axis;
+
+    /**
+     * A list, which contains the animations of the items, which are currently animated.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * The shared animator, which is currently running, or null, if no items are animated.
+     */
+    private ValueAnimator animator;
+
+    /**
+     * True, if the shared animator is currently being ended, false otherwise.
+     */
+    private boolean ending;
+
+    /**
+     * Starts the animation of a specific item, if it has not been started yet.
+     *
+     * @param entry
+     *         The animation of the item as an instance of the class {@link Entry}. The animation
+     *         may not be null
+     */
+    private void startEntry(@NonNull final Entry entry) {
+        if (!entry.started) {
+            entry.started = true;
+            entry.startPosition = arithmetics.getPosition(axis, entry.item);
+
+            if (entry.listener != null) {
+                entry.listener.onAnimationStart(animator);
+            }
+        }
+    }
+
+    /**
+     * Cancels the animation of a single item. Like an {@link Animator}, which is canceled, the
+     * listener of the animation is notified about its start, if it has not been started yet,
+     * followed by its cancellation and its end.
+     *
+     * @param entry
+     *         The animation, which should be canceled, as an instance of the class {@link Entry}.
+     *         The animation may not be null
+     * @param animation
+     *         The animator, which should be passed to the listener, as an instance of the class
+     *         {@link Animator}. The animator may not be null
+     */
+    private void cancelEntry(@NonNull final Entry entry, @NonNull final Animator animation) {
+        startEntry(entry);
+
+        if (entry.listener != null) {
+            entry.listener.onAnimationCancel(animation);
+            entry.listener.onAnimationEnd(animation);
+        }
+    }
+
+    /**
+     * Updates the positions of all items, depending on the current animation time. Items, whose
+     * animations have been finished, are removed.
+     *
+     * @param currentTime
+     *         The current animation time in milliseconds as a {@link Long} value
+     */
+    private void update(final long currentTime) {
+        int i = 0;
+
+        while (i < entries.size()) {
+            Entry entry = entries.get(i);
+
+            if (currentTime >= entry.startTime) {
+                startEntry(entry);
+                float fraction = entry.duration > 0 ?
+                        Math.min(1, (currentTime - entry.startTime) / (float) entry.duration) : 1;
+                float interpolatedFraction = entry.interpolator.getInterpolation(fraction);
+                arithmetics.setPosition(axis, entry.item, entry.startPosition +
+                        (entry.targetPosition - entry.startPosition) * interpolatedFraction);
+
+                if (fraction >= 1) {
+                    entries.remove(i);
+
+                    if (entry.listener != null) {
+                        entry.listener.onAnimationEnd(animator);
+                    }
+
+                    continue;
+                }
+            }
+
+            i++;
+        }
+    }
+
+    /**
+     * Creates and returns a listener, which allows to update the positions of all items on each
+     * frame.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * ValueAnimator.AnimatorUpdateListener}. The listener may not be null
+     */
+    @NonNull
+    private ValueAnimator.AnimatorUpdateListener createUpdateListener() {
+        return new ValueAnimator.AnimatorUpdateListener() {
+
+            @Override
+            public void onAnimationUpdate(final ValueAnimator animation) {
+                if (animation == animator && !ending) {
+                    update(AnimationUtils.currentAnimationTimeMillis());
+
+                    if (entries.isEmpty()) {
+                        ending = true;
+                        animation.end();
+                    }
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a listener, which allows to finish or cancel the animations of all
+     * remaining items, when the shared animator has been ended or canceled.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * AnimatorListener}. The listener may not be null
+     */
+    @NonNull
+    private AnimatorListener createAnimatorListener() {
+        return new AnimatorListenerAdapter() {
+
+            /**
+             * True, if the shared animator has been canceled, false otherwise.
+             */
+            private boolean canceled;
+
+            @Override
+            public void onAnimationCancel(final Animator animation) {
+                super.onAnimationCancel(animation);
+                canceled = true;
+            }
+
+            @Override
+            public void onAnimationEnd(final Animator animation) {
+                super.onAnimationEnd(animation);
+
+                if (animation == animator) {
+                    List<Entry> remainingEntries = new ArrayList<>(entries);
+                    entries.clear();
+                    animator = null;
+                    ending = false;
+
+                    for (Entry entry : remainingEntries) {
+                        if (canceled) {
+                            cancelEntry(entry, animation);
+                        } else {
+                            startEntry(entry);
+                            arithmetics.setPosition(axis, entry.item, entry.targetPosition);
+
+                            if (entry.listener != null) {
+                                entry.listener.onAnimationEnd(animation);
+                            }
+                        }
+                    }
+                }
+            }
+
+        };
+    }
+
+    /**
+     * The method, which is invoked on implementing subclasses in order to create the listener,
+     * which should be registered at the shared animator, when it is started.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * AnimatorListener}. The listener may not be null
+     */
+    @NonNull
+    protected abstract AnimatorListener onCreateAnimatorListener();
+
+    /**
+     * Creates a new driver, which allows to animate the positions of several items along a
+     * specific axis by using a single animator.
+     *
+     * @param arithmetics
+     *         The arithmetics, which should be used to retrieve and set the positions of items, as
+     *         an instance of the type {@link Arithmetics}. The arithmetics may not be null
+     * @param axis
+     *         The axis, the positions of items should be animated on, as a value of the enum
+     *         {@link Axis}. The axis may not be null
+     */
+    public PositionAnimationDriver(@NonNull final Arithmetics arithmetics,
+                                   @NonNull final Axis axis) {
+        Condition.INSTANCE.ensureNotNull(arithmetics, "The arithmetics may not be null");
+        Condition.INSTANCE.ensureNotNull(axis, "The axis may not be null");
+        this.arithmetics = arithmetics;
+        this.axis = axis;
+        this.entries = new ArrayList<>();
+        this.animator = null;
+        this.ending = false;
+    }
+
+    /**
+     * Animates the position of a specific item. If the item is already animated by the driver,
+     * the previous animation is canceled.
+     *
+     * @param item
+     *         The item, whose position should be animated, as an instance of the class {@link
+     *         AbstractItem}. The item may not be null
+     * @param position
+     *         The position, the item should be moved to, in pixels as a {@link Float} value
+     * @param duration
+     *         The duration of the animation in milliseconds as a {@link Long} value. The duration
+     *         must be at least 0
+     * @param delay
+     *         The delay of the animation in milliseconds as a {@link Long} value. The delay must
+     *         be at least 0
+     * @param interpolator
+     *         The interpolator, which should be used, as an instance of the type {@link
+     *         Interpolator}. The interpolator may not be null
+     * @param listener
+     *         The listener, which should be notified about the progress of the animation, as an
+     *         instance of the type {@link AnimatorListener} or null, if no listener should be
+     *         notified
+     */
+    public final void animate(@NonNull final AbstractItem item, final float position,
+                              final long duration, final long delay,
+                              @NonNull final Interpolator interpolator,
+                              @Nullable final AnimatorListener listener) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+        Condition.INSTANCE.ensureAtLeast(duration, 0, "The duration must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(delay, 0, "The delay must be at least 0");
+        Condition.INSTANCE.ensureNotNull(interpolator, "The interpolator may not be null");
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+
+            if (entry.item.getView() == item.getView()) {
+                entries.remove(i);
+                cancelEntry(entry, animator);
+                break;
+            }
+        }
+
+        long startTime = AnimationUtils.currentAnimationTimeMillis() + delay;
+        entries.add(new Entry(item, position, startTime, duration, interpolator, listener));
+
+        if (animator == null) {
+            animator = ValueAnimator.ofFloat(0, 1);
+            animator.setDuration(ITERATION_DURATION);
+            animator.setRepeatCount(ValueAnimator.INFINITE);
+            animator.setInterpolator(new LinearInterpolator());
+            animator.addListener(createAnimatorListener());
+            animator.addListener(onCreateAnimatorListener());
+            animator.addUpdateListener(createUpdateListener());
+            animator.start();
+        }
+    }
+
+    /**
+     * Returns, whether items are currently animated by the driver, or not.
+     *
+     * @return True, if items are currently animated by the driver, false otherwise
+     */
+    public final boolean isRunning() {
+        return animator != null;
+    }
+
+}
@@ -0,0 +1,812 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.layout;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Parcel;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.tabswitcher.model.Restorable;
+import de.mrapp.util.Condition;
+
+/**
+ * A store, which allows to keep the saved states of tabs. The total size of the states, which are
+ * kept in memory, is measured by their parcel size and can be limited. If the limit is exceeded,
+ * the states, which have not been accessed for the longest time, are compressed and written to
+ * files in a directory, which is unique to the store and located in the cache directory. Only the
+ * states, which are kept in memory, the keys of the states, which have been written to files, and
+ * the name of the directory are stored, when saving the store's state. The files contain the raw
+ * bytes of parcels, which are only guaranteed to be readable by the same build of the platform.
+ * Therefore, each file starts with a header, which contains the version of the file format and the
+ * fingerprint of the build. Files with a different header are ignored. Reading a state from a file
+ * requires I/O and decompression. In order to avoid doing so on the UI thread, states can be read
+ * ahead of time on a background thread by using the method {@link #prefetch(int)}.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class SavedStateStore implements Restorable {
+
+    /**
+     * The name of the extra, which is used to store the states, which are kept in memory, within a
+     * bundle.
+     */
+    private static final String STATES_EXTRA = SavedStateStore.class.getName() + "::States";
+
+    /**
+     * The name of the extra, which is used to store the keys of the states, which have been
+     * written to files, within a bundle.
+     */
+    private static final String SPILLED_KEYS_EXTRA =
+            SavedStateStore.class.getName() + "::SpilledKeys";
+
+    /**
+     * The name of the extra, which is used to store the name of the directory, states are written
+     * to, within a bundle.
+     */
+    private static final String DIRECTORY_NAME_EXTRA =
+            SavedStateStore.class.getName() + "::DirectoryName";
+
+    /**
+     * The name of the extra, which is used to store the key, which is returned by the next call
+     * of the method {@link #obtainKey()}, within a bundle.
+     */
+    private static final String NEXT_KEY_EXTRA = SavedStateStore.class.getName() + "::NextKey";
+
+    /**
+     * The version of the format of the files, states are written to. It must be increased, when
+     * the format is changed.
+     */
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    /**
+     * The suffix of the files, states are written to.
+     */
+    private static final String FILE_SUFFIX = ".state";
+
+    /**
+     * The executor, which is used to write and delete files. It is shared by all stores in order
+     * to use a single background thread, which is terminated when idle.
+     */
+    private static final Executor IO_EXECUTOR =
+            new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+
+    /**
+     * The parent directory of the directories, the states of the individual stores are written
+     * to.
+     */
+    private final File parentDirectory;
+
+    /**
+     * The directory, states are written to.
+     */
+    private File directory;
+
+    /**
+     * The class loader, which is used to read states from files.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * A map, which contains the states, which are kept in memory, ordered from the least to the
+     * most recently accessed one.
+     */
+    private final LinkedHashMap<Integer, Bundle> states;
+
+    /**
+     * A sparse array, which contains the sizes of the states, which are kept in memory.
+     */
+    private final SparseIntArray sizes;
+
+    /**
+     * A set, which contains the keys of the states, which have been written to files.
+     */
+    private final Set<Integer> spilledKeys;
+
+    /**
+     * A map, which contains the data of states, which are about to be written to files. It must
+     * only be accessed, while synchronized on the map.
+     */
+    private final Map<Integer, byte[]> pendingWrites;
+
+    /**
+     * A map, which contains the raw bytes of states, which have been written to files and have been
+     * read again ahead of time, but have not been accessed yet.
+     */
+    private final Map<Integer, byte[]> prefetchedData;
+
+    /**
+     * A map, which contains the tokens, which identify the currently running prefetch operations.
+     * The result of a prefetch operation is discarded, if its token is not contained anymore.
+     */
+    private final Map<Integer, Object> prefetchTokens;
+
+    /**
+     * The handler, which is used to pass prefetched states to the UI thread.
+     */
+    private final Handler handler;
+
+    /**
+     * The total size of the states, which are kept in memory, in bytes.
+     */
+    private long totalSize;
+
+    /**
+     * The maximum total size of the states, which are kept in memory, in bytes or -1, if the size
+     * is not restricted.
+     */
+    private long maxSize;
+
+    /**
+     * The key, which is returned by the next call of the method {@link #obtainKey()}.
+     */
+    private int nextKey;
+
+    /**
+     * Returns the size of a specific state, when written to a parcel.
+     *
+     * @param state
+     *         The state, whose size should be returned, as an instance of the class {@link Bundle}.
+     *         The state may not be null
+     * @return The size of the given state in bytes as an {@link Integer} value
+     */
+    private static int measure(@NonNull final Bundle state) {
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            parcel.writeBundle(state);
+            return parcel.dataSize();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Converts a specific state into raw bytes.
+     *
+     * @param state
+     *         The state, which should be converted, as an instance of the class {@link Bundle}. The
+     *         state may not be null
+     * @return The raw bytes as a {@link Byte} array or null, if the state contains objects, which
+     * cannot be converted, e.g. binders or file descriptors
+     */
+    @Nullable
+    private static byte[] marshall(@NonNull final Bundle state) {
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            parcel.writeBundle(state);
+            return parcel.marshall();
+        } catch (RuntimeException e) {
+            return null;
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Converts specific raw bytes into a state.
+     *
+     * @param data
+     *         The raw bytes, which should be converted, as a {@link Byte} array. The array may not
+     *         be null
+     * @return The state, which has been created, as an instance of the class {@link Bundle} or
+     * null, if the raw bytes are invalid
+     */
+    @Nullable
+    private Bundle unmarshall(@NonNull final byte[] data) {
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            parcel.unmarshall(data, 0, data.length);
+            parcel.setDataPosition(0);
+            return parcel.readBundle(classLoader);
+        } catch (RuntimeException e) {
+            return null;
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Returns the file, the state, which corresponds to a specific key, is written to.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @return The file as an instance of the class {@link File}. The file may not be null
+     */
+    @NonNull
+    private File getFile(final int key) {
+        return getFile(directory, key);
+    }
+
+    /**
+     * Returns the file within a specific directory, the state, which corresponds to a specific
+     * key, is written to.
+     *
+     * @param directory
+     *         The directory as an instance of the class {@link File}. The directory may not be
+     *         null
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @return The file as an instance of the class {@link File}. The file may not be null
+     */
+    @NonNull
+    private static File getFile(@NonNull final File directory, final int key) {
+        return new File(directory, key + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns, whether the header, which is read from a specific stream, matches the header, which
+     * is written by the current build of the platform, or not.
+     *
+     * @param inputStream
+     *         The stream, the header should be read from, as an instance of the class {@link
+     *         DataInputStream}. The stream may not be null
+     * @return True, if the header matches, false otherwise
+     * @throws IOException
+     *         The exception, which is thrown, if the header could not be read
+     */
+    private static boolean readHeader(@NonNull final DataInputStream inputStream)
+            throws IOException {
+        return inputStream.readInt() == FILE_FORMAT_VERSION &&
+                Build.FINGERPRINT.equals(inputStream.readUTF());
+    }
+
+    /**
+     * Deletes a specific directory, including all files it contains.
+     *
+     * @param directory
+     *         The directory, which should be deleted, as an instance of the class {@link File}.
+     *         The directory may not be null
+     */
+    private static void deleteDirectory(@NonNull final File directory) {
+        File[] files = directory.listFiles();
+
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+
+        directory.delete();
+    }
+
+    /**
+     * Compresses the state, which corresponds to a specific key, and writes it to a file on a
+     * background thread.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @param data
+     *         The raw bytes of the state as a {@link Byte} array. The array may not be null
+     */
+    private void writeAsync(final int key, @NonNull final byte[] data) {
+        final File directory = this.directory;
+
+        synchronized (pendingWrites) {
+            pendingWrites.put(key, data);
+        }
+
+        IO_EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                File file = getFile(directory, key);
+
+                try {
+                    directory.mkdirs();
+                    DataOutputStream outputStream = new DataOutputStream(
+                            new GZIPOutputStream(new FileOutputStream(file)));
+
+                    try {
+                        outputStream.writeInt(FILE_FORMAT_VERSION);
+                        outputStream.writeUTF(Build.FINGERPRINT);
+                        outputStream.write(data);
+                    } finally {
+                        outputStream.close();
+                    }
+                } catch (IOException e) {
+                    // The state is lost, the tab is shown without a saved state
+                    file.delete();
+                }
+
+                synchronized (pendingWrites) {
+                    if (pendingWrites.get(key) == data) {
+                        pendingWrites.remove(key);
+                    }
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Reads the state, which corresponds to a specific key, from a file.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @return The raw bytes of the state as a {@link Byte} array or null, if the state could not
+     * be read
+     */
+    @Nullable
+    private byte[] read(final int key) {
+        byte[] prefetched = prefetchedData.remove(key);
+
+        if (prefetched != null) {
+            return prefetched;
+        }
+
+        return readFile(directory, key);
+    }
+
+    /**
+     * Reads the state, which corresponds to a specific key, from a file or returns the data, which
+     * is about to be written to the file. This method may be called on a background thread.
+     *
+     * @param directory
+     *         The directory, the file is located in, as an instance of the class {@link File}. The
+     *         directory may not be null
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @return The raw bytes of the state as a {@link Byte} array or null, if the state could not
+     * be read or if it has been written by a different build of the platform
+     */
+    @Nullable
+    private byte[] readFile(@NonNull final File directory, final int key) {
+        synchronized (pendingWrites) {
+            byte[] data = pendingWrites.get(key);
+
+            if (data != null) {
+                return data;
+            }
+        }
+
+        try {
+            DataInputStream inputStream = new DataInputStream(
+                    new GZIPInputStream(new FileInputStream(getFile(directory, key))));
+
+            try {
+                if (!readHeader(inputStream)) {
+                    return null;
+                }
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int count;
+
+                while ((count = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, count);
+                }
+
+                return outputStream.toByteArray();
+            } finally {
+                inputStream.close();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the files of specific states on a background thread.
+     *
+     * @param keys
+     *         A collection, which contains the keys of the states, whose files should be deleted,
+     *         or null, if all files, except for those of the currently spilled states, should be
+     *         deleted
+     */
+    private void deleteAsync(@Nullable final Set<Integer> keys) {
+        final File directory = this.directory;
+        final Set<Integer> retainedKeys = keys == null ? new HashSet<>(spilledKeys) : null;
+
+        if (keys != null) {
+            synchronized (pendingWrites) {
+                for (Integer key : keys) {
+                    pendingWrites.remove(key);
+                }
+            }
+        }
+
+        IO_EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                if (keys != null) {
+                    for (Integer key : keys) {
+                        getFile(directory, key).delete();
+                    }
+                } else {
+                    File[] files = directory.listFiles();
+
+                    if (files != null) {
+                        for (File file : files) {
+                            String name = file.getName();
+
+                            if (name.endsWith(FILE_SUFFIX) && !retainedKeys.contains(
+                                    parseKey(name))) {
+                                file.delete();
+                            }
+                        }
+                    }
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Returns the key, which corresponds to a specific file name.
+     *
+     * @param name
+     *         The file name as a {@link String}. The file name may not be null
+     * @return The key, which corresponds to the given file name, as an {@link Integer} value or
+     * null, if the file name is invalid
+     */
+    @Nullable
+    private static Integer parseKey(@NonNull final String name) {
+        try {
+            return Integer.valueOf(name.substring(0, name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the states, which have not been accessed for the longest time, to files, until the
+     * total size of the states, which are kept in memory, does not exceed the maximum size. The
+     * most recently accessed state is always kept in memory.
+     */
+    private void trim() {
+        if (maxSize != -1 && totalSize > maxSize) {
+            List<Integer> keys = new ArrayList<>(states.keySet());
+
+            for (int i = 0; i < keys.size() - 1 && totalSize > maxSize; i++) {
+                int key = keys.get(i);
+                byte[] data = marshall(states.get(key));
+
+                if (data != null) {
+                    states.remove(key);
+                    totalSize -= sizes.get(key);
+                    sizes.delete(key);
+                    spilledKeys.add(key);
+                    writeAsync(key, data);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new store, which allows to keep the saved states of tabs.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param name
+     *         The name of the directory within the cache directory, which should contain the
+     *         directories of the individual stores, as a {@link String}. The name may neither be
+     *         null, nor empty
+     */
+    public SavedStateStore(@NonNull final Context context, @NonNull final String name) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Condition.INSTANCE.ensureNotEmpty(name, "The name may not be empty");
+        this.parentDirectory = new File(context.getCacheDir(), name);
+        this.directory = new File(parentDirectory, UUID.randomUUID().toString());
+        this.classLoader = context.getClassLoader();
+        this.states = new LinkedHashMap<>(16, 0.75f, true);
+        this.sizes = new SparseIntArray();
+        this.spilledKeys = new HashSet<>();
+        this.pendingWrites = new HashMap<>();
+        this.prefetchedData = new HashMap<>();
+        this.prefetchTokens = new HashMap<>();
+        this.handler = new Handler(Looper.getMainLooper());
+        this.totalSize = 0;
+        this.maxSize = -1;
+        this.nextKey = 0;
+    }
+
+    /**
+     * Returns the name of the store. It corresponds to the name of the directory, states are
+     * written to, and is unique to the store. The name is retained, when the store's state is
+     * restored.
+     *
+     * @return The name of the store as a {@link String}. The name may neither be null, nor empty
+     */
+    @NonNull
+    public final String getName() {
+        return directory.getName();
+    }
+
+    /**
+     * Returns a new key, which has not been returned by the store before. Unlike hash codes, the
+     * keys remain valid, when the store's state is restored, as the next key is stored as well.
+     *
+     * @return The key, which has been returned, as an {@link Integer} value
+     */
+    public final int obtainKey() {
+        return nextKey++;
+    }
+
+    /**
+     * Sets the maximum total size of the states, which are kept in memory.
+     *
+     * @param maxSize
+     *         The maximum size, which should be set, in bytes as a {@link Long} value. The size
+     *         must be at least 0 or -1, if the size should not be restricted
+     */
+    public final void setMaxSize(final long maxSize) {
+        if (maxSize != -1) {
+            Condition.INSTANCE.ensureAtLeast(maxSize, 0, "The maximum size must be at least 0");
+        }
+
+        this.maxSize = maxSize;
+        trim();
+    }
+
+    /**
+     * Returns the maximum total size of the states, which are kept in memory.
+     *
+     * @return The maximum total size of the states, which are kept in memory, in bytes as a {@link
+     * Long} value or -1, if the size is not restricted
+     */
+    public final long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the total size of the states, which are currently kept in memory.
+     *
+     * @return The total size of the states, which are currently kept in memory, in bytes as a
+     * {@link Long} value
+     */
+    public final long getSize() {
+        return totalSize;
+    }
+
+    /**
+     * Stores the state, which corresponds to a specific key.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @param state
+     *         The state, which should be stored, as an instance of the class {@link Bundle} or
+     *         null, if the state should be removed
+     */
+    public final void put(final int key, @Nullable final Bundle state) {
+        remove(key);
+
+        if (state != null) {
+            int size = measure(state);
+            states.put(key, state);
+            sizes.put(key, size);
+            totalSize += size;
+            trim();
+        }
+    }
+
+    /**
+     * Returns the state, which corresponds to a specific key. If the state has been written to a
+     * file, it is read and kept in memory again.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     * @return The state, which corresponds to the given key, as an instance of the class {@link
+     * Bundle} or null, if no such state is available
+     */
+    @Nullable
+    public final Bundle get(final int key) {
+        Bundle state = states.get(key);
+
+        if (state == null && spilledKeys.contains(key)) {
+            byte[] data = read(key);
+            remove(key);
+
+            if (data != null) {
+                state = unmarshall(data);
+                put(key, state);
+            }
+        }
+
+        return state;
+    }
+
+    /**
+     * Reads the state, which corresponds to a specific key, ahead of time on a background thread,
+     * if it has been written to a file. This avoids reading and decompressing the file on the UI
+     * thread, when the state is accessed afterwards by using the method {@link #get(int)}. If the
+     * state is kept in memory, or if it is already being read, this method does not have any
+     * effect.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     */
+    public final void prefetch(final int key) {
+        if (spilledKeys.contains(key) && !prefetchedData.containsKey(key) &&
+                !prefetchTokens.containsKey(key)) {
+            final File directory = this.directory;
+            final Object token = new Object();
+            prefetchTokens.put(key, token);
+            IO_EXECUTOR.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    final byte[] data = readFile(directory, key);
+                    handler.post(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            if (prefetchTokens.get(key) == token) {
+                                prefetchTokens.remove(key);
+
+                                if (data != null) {
+                                    prefetchedData.put(key, data);
+                                }
+                            }
+                        }
+
+                    });
+                }
+
+            });
+        }
+    }
+
+    /**
+     * Removes the state, which corresponds to a specific key.
+     *
+     * @param key
+     *         The key of the state as an {@link Integer} value
+     */
+    public final void remove(final int key) {
+        if (states.remove(key) != null) {
+            totalSize -= sizes.get(key);
+            sizes.delete(key);
+        }
+
+        prefetchedData.remove(key);
+        prefetchTokens.remove(key);
+
+        if (spilledKeys.remove(key)) {
+            Set<Integer> keys = new HashSet<>();
+            keys.add(key);
+            deleteAsync(keys);
+        }
+    }
+
+    /**
+     * Removes all states.
+     */
+    public final void clear() {
+        states.clear();
+        sizes.clear();
+        totalSize = 0;
+        prefetchedData.clear();
+        prefetchTokens.clear();
+
+        if (!spilledKeys.isEmpty()) {
+            Set<Integer> keys = new HashSet<>(spilledKeys);
+            spilledKeys.clear();
+            deleteAsync(keys);
+        }
+    }
+
+    /**
+     * Removes all states and deletes the directory, states are written to. This method should be
+     * called, when the store is not used anymore and its state will not be restored.
+     */
+    public final void destroy() {
+        clear();
+        final File directory = this.directory;
+        IO_EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                deleteDirectory(directory);
+            }
+
+        });
+    }
+
+    @Override
+    public final void saveInstanceState(@NonNull final Bundle outState) {
+        SparseArray<Bundle> array = new SparseArray<>(states.size());
+
+        for (Map.Entry<Integer, Bundle> entry : states.entrySet()) {
+            array.put(entry.getKey(), entry.getValue());
+        }
+
+        int[] keys = new int[spilledKeys.size()];
+        int i = 0;
+
+        for (Integer key : spilledKeys) {
+            keys[i++] = key;
+        }
+
+        outState.putSparseParcelableArray(STATES_EXTRA, array);
+        outState.putIntArray(SPILLED_KEYS_EXTRA, keys);
+        outState.putString(DIRECTORY_NAME_EXTRA, directory.getName());
+        outState.putInt(NEXT_KEY_EXTRA, nextKey);
+    }
+
+    @Override
+    public final void restoreInstanceState(@Nullable final Bundle savedInstanceState) {
+        if (savedInstanceState != null) {
+            states.clear();
+            sizes.clear();
+            totalSize = 0;
+            spilledKeys.clear();
+            prefetchedData.clear();
+            prefetchTokens.clear();
+            SparseArray<Bundle> array = savedInstanceState.getSparseParcelableArray(STATES_EXTRA);
+            int[] keys = savedInstanceState.getIntArray(SPILLED_KEYS_EXTRA);
+            String directoryName = savedInstanceState.getString(DIRECTORY_NAME_EXTRA);
+
+            if (directoryName != null && !directoryName.equals(directory.getName())) {
+                destroy();
+                directory = new File(parentDirectory, directoryName);
+            }
+
+            nextKey = Math.max(nextKey, savedInstanceState.getInt(NEXT_KEY_EXTRA, 0));
+
+            if (keys != null) {
+                for (int key : keys) {
+                    spilledKeys.add(key);
+                }
+            }
+
+            if (array != null) {
+                for (int i = 0; i < array.size(); i++) {
+                    Bundle state = array.valueAt(i);
+                    int size = measure(state);
+                    states.put(array.keyAt(i), state);
+                    sizes.put(array.keyAt(i), size);
+                    totalSize += size;
+                }
+            }
+
+            deleteAsync(null);
+            trim();
+        }
+    }
+
+}
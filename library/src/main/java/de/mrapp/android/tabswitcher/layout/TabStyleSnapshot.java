@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.layout;
+
+import android.content.res.ColorStateList;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.tabswitcher.Tab;
+import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
+import de.mrapp.util.Condition;
+
+/**
+ * A snapshot of the resolved visual properties of a tab. A snapshot is created once per tab and
+ * reused whenever a view is bound to the tab, until one of its properties is changed. By comparing
+ * it to the snapshot, which has previously been bound to a recycled view, only the properties,
+ * which differ, must be applied to the view.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class TabStyleSnapshot {
+
+    /**
+     * The title of the tab.
+     */
+    private final CharSequence title;
+
+    /**
+     * The icon of the tab.
+     */
+    private final Drawable icon;
+
+    /**
+     * True, if the tab is closeable, false otherwise.
+     */
+    private final boolean closeable;
+
+    /**
+     * The icon of the tab's close button.
+     */
+    private final Drawable closeButtonIcon;
+
+    /**
+     * The background color of the tab.
+     */
+    private final ColorStateList backgroundColor;
+
+    /**
+     * The text color of the tab's title.
+     */
+    private final ColorStateList titleTextColor;
+
+    /**
+     * True, if the tab's progress bar is shown, false otherwise.
+     */
+    private final boolean progressBarShown;
+
+    /**
+     * The color of the tab's progress bar.
+     */
+    private final int progressBarColor;
+
+    /**
+     * Creates a new snapshot of the resolved visual properties of a specific tab.
+     *
+     * @param style
+     *         The style, which should be used to resolve the properties, as an instance of the
+     *         class {@link TabSwitcherStyle}. The style may not be null
+     * @param tab
+     *         The tab, whose properties should be resolved, as an instance of the class {@link
+     *         Tab}. The tab may not be null
+     */
+    public TabStyleSnapshot(@NonNull final TabSwitcherStyle style, @NonNull final Tab tab) {
+        Condition.INSTANCE.ensureNotNull(style, "The style may not be null");
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        this.title = tab.getTitle();
+        this.icon = style.getTabIcon(tab);
+        this.closeable = tab.isCloseable();
+        this.closeButtonIcon = style.getTabCloseButtonIcon(tab);
+        this.backgroundColor = style.getTabBackgroundColor(tab);
+        this.titleTextColor = style.getTabTitleTextColor(tab);
+        this.progressBarShown = tab.isProgressBarShown();
+        this.progressBarColor = style.getTabProgressBarColor(tab);
+    }
+
+    /**
+     * Returns the title of the tab.
+     *
+     * @return The title of the tab as an instance of the type {@link CharSequence}. The title may
+     * not be null
+     */
+    @NonNull
+    public final CharSequence getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the icon of the tab.
+     *
+     * @return The icon of the tab as an instance of the class {@link Drawable} or null, if no icon
+     * is set
+     */
+    @Nullable
+    public final Drawable getIcon() {
+        return icon;
+    }
+
+    /**
+     * Returns, whether the tab is closeable, or not.
+     *
+     * @return True, if the tab is closeable, false otherwise
+     */
+    public final boolean isCloseable() {
+        return closeable;
+    }
+
+    /**
+     * Returns the icon of the tab's close button.
+     *
+     * @return The icon of the tab's close button as an instance of the class {@link Drawable}
+     */
+    public final Drawable getCloseButtonIcon() {
+        return closeButtonIcon;
+    }
+
+    /**
+     * Returns the background color of the tab.
+     *
+     * @return The background color of the tab as an instance of the class {@link ColorStateList}
+     */
+    public final ColorStateList getBackgroundColor() {
+        return backgroundColor;
+    }
+
+    /**
+     * Returns the text color of the tab's title.
+     *
+     * @return The text color of the tab's title as an instance of the class {@link
+     * ColorStateList}
+     */
+    public final ColorStateList getTitleTextColor() {
+        return titleTextColor;
+    }
+
+    /**
+     * Returns, whether the tab's progress bar is shown, or not.
+     *
+     * @return True, if the tab's progress bar is shown, false otherwise
+     */
+    public final boolean isProgressBarShown() {
+        return progressBarShown;
+    }
+
+    /**
+     * Returns the color of the tab's progress bar.
+     *
+     * @return The color of the tab's progress bar as an {@link Integer} value
+     */
+    @ColorInt
+    public final int getProgressBarColor() {
+        return progressBarColor;
+    }
+
+}
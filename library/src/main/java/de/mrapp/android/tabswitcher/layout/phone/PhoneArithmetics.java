@@ -228,6 +228,20 @@ public class PhoneArithmetics extends AbstractArithmetics {
         }
     }
 
+    @Override
+    public final float getHistoricalTouchPosition(@NonNull final Axis axis,
+                                                  @NonNull final MotionEvent event,
+                                                  final int index) {
+        Condition.INSTANCE.ensureNotNull(axis, "The axis may not be null");
+        Condition.INSTANCE.ensureNotNull(event, "The motion event may not be null");
+
+        if (getOrientationInvariantAxis(axis) == Axis.DRAGGING_AXIS) {
+            return event.getHistoricalY(index);
+        } else {
+            return event.getHistoricalX(index);
+        }
+    }
+
     @Override
     public final float getPosition(@NonNull final Axis axis, @NonNull final AbstractItem item) {
         Condition.INSTANCE.ensureNotNull(axis, "The axis may not be null");
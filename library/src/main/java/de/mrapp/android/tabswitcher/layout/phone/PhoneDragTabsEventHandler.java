@@ -76,6 +76,15 @@ public class PhoneDragTabsEventHandler
          */
         void onTiltOnEndOvershoot(float angle);
 
+        /**
+         * The method, which is invoked in order to retrieve the index of the first visible tab.
+         * The index is used to restrict the search for the focused tab to the visible tabs.
+         *
+         * @return The index of the first visible tab as an {@link Integer} value or -1, if no
+         * tab is visible
+         */
+        int getFirstVisibleIndex();
+
     }
 
     /**
@@ -182,28 +191,101 @@ public class PhoneDragTabsEventHandler
         this.maxEndOvershootAngle = resources.getInteger(R.integer.max_end_overshoot_angle);
     }
 
+    /**
+     * Returns, whether a specific item can be focused, or not.
+     *
+     * @param item
+     *         The item, which should be checked, as an instance of the class {@link AbstractItem}
+     *         or null
+     * @return True, if the given item can be focused, false otherwise
+     */
+    private boolean isItemFocusable(@Nullable final AbstractItem item) {
+        return item != null && (item.getTag().getState() == State.FLOATING ||
+                item.getTag().getState() == State.STACKED_START_ATOP);
+    }
+
+    /**
+     * Returns the offset, which must be added to the position of an item in order to obtain the
+     * position of its view on the dragging axis.
+     *
+     * @return The offset in pixels as a {@link Float} value
+     */
+    private float getViewPositionOffset() {
+        Toolbar[] toolbars = getTabSwitcher().getToolbars();
+        float toolbarHeight = getTabSwitcher().getLayout() != Layout.PHONE_LANDSCAPE &&
+                getTabSwitcher().areToolbarsShown() && toolbars != null ?
+                toolbars[TabSwitcher.PRIMARY_TOOLBAR_INDEX].getHeight() - tabInset : 0;
+        return toolbarHeight +
+                getArithmetics().getTabSwitcherPadding(Axis.DRAGGING_AXIS, Gravity.START);
+    }
+
+    /**
+     * Returns the item, which corresponds to the view, which is focused when clicking/dragging at
+     * a specific position, by iterating all items.
+     *
+     * @param iterator
+     *         The iterator, which should be used to iterate the items, as an instance of the class
+     *         {@link AbstractItemIterator}. The iterator may not be null
+     * @param position
+     *         The position on the dragging axis in pixels as a {@link Float} value
+     * @param offset
+     *         The offset, which must be added to the position of an item, in pixels as a {@link
+     *         Float} value
+     * @return The item, which corresponds to the focused view, as an instance of the class {@link
+     * AbstractItem} or null, if no view is focused
+     */
+    @Nullable
+    private AbstractItem findFocusedItem(@NonNull final AbstractItemIterator iterator,
+                                         final float position, final float offset) {
+        AbstractItem tabItem;
+
+        while ((tabItem = iterator.next()) != null) {
+            if (isItemFocusable(tabItem) &&
+                    getArithmetics().getPosition(Axis.DRAGGING_AXIS, tabItem) + offset <=
+                            position) {
+                return tabItem;
+            }
+        }
+
+        return null;
+    }
+
     @Override
     @Nullable
     protected final AbstractItem getFocusedItem(final float position) {
         AbstractItemIterator iterator =
                 new ItemIterator.Builder(getTabSwitcher(), viewRecycler).create();
-        AbstractItem tabItem;
+        float offset = getViewPositionOffset();
+        int count = iterator.getCount();
+        int start = getCallback() != null ? getCallback().getFirstVisibleIndex() : -1;
 
-        while ((tabItem = iterator.next()) != null) {
-            if (tabItem.getTag().getState() == State.FLOATING ||
-                    tabItem.getTag().getState() == State.STACKED_START_ATOP) {
-                Toolbar[] toolbars = getTabSwitcher().getToolbars();
-                float toolbarHeight = getTabSwitcher().getLayout() != Layout.PHONE_LANDSCAPE &&
-                        getTabSwitcher().areToolbarsShown() && toolbars != null ?
-                        toolbars[TabSwitcher.PRIMARY_TOOLBAR_INDEX].getHeight() - tabInset : 0;
-                float viewPosition =
-                        getArithmetics().getPosition(Axis.DRAGGING_AXIS, tabItem) + toolbarHeight +
-                                getArithmetics()
-                                        .getTabSwitcherPadding(Axis.DRAGGING_AXIS, Gravity.START);
-
-                if (viewPosition <= position) {
-                    return tabItem;
-                }
+        if (start < 0 || start >= count || !isItemFocusable(iterator.getItem(start)) ||
+                (start > 0 && isItemFocusable(iterator.getItem(start - 1)))) {
+            return findFocusedItem(iterator, position, offset);
+        }
+
+        // The focusable items start at the first visible index and their positions decrease with
+        // increasing indices. Any item, which follows them, is stacked or hidden.
+        int low = start;
+        int high = count;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            AbstractItem item = iterator.getItem(mid);
+
+            if (!isItemFocusable(item) ||
+                    getArithmetics().getPosition(Axis.DRAGGING_AXIS, item) + offset <= position) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        if (low < count) {
+            AbstractItem item = iterator.getItem(low);
+
+            if (isItemFocusable(item)) {
+                return item;
             }
         }
 
@@ -19,12 +19,16 @@ import android.graphics.PorterDuff;
 import android.graphics.Rect;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout.LayoutParams;
 import android.widget.ImageView;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -35,10 +39,13 @@ import de.mrapp.android.tabswitcher.R;
 import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabPreviewListener;
 import de.mrapp.android.tabswitcher.TabSwitcher;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.android.tabswitcher.drawable.PerformanceOverlayDrawable;
 import de.mrapp.android.tabswitcher.iterator.ItemIterator;
 import de.mrapp.android.tabswitcher.layout.AbstractTabRecyclerAdapter;
 import de.mrapp.android.tabswitcher.layout.AbstractTabViewHolder;
 import de.mrapp.android.tabswitcher.model.AbstractItem;
+import de.mrapp.android.tabswitcher.model.MetricsRecorder;
 import de.mrapp.android.tabswitcher.model.TabItem;
 import de.mrapp.android.tabswitcher.model.TabSwitcherModel;
 import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
@@ -66,7 +73,7 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
     /**
      * The data binder, which allows to render previews of tabs.
      */
-    private final AbstractDataBinder<Bitmap, Tab, ImageView, TabItem> dataBinder;
+    private final PreviewDataBinder dataBinder;
 
     /**
      * The inset of tabs in pixels.
@@ -83,6 +90,12 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
      */
     private final int tabTitleContainerHeight;
 
+    /**
+     * A map, which contains the views, which are associated with tabs, that have been inflated and
+     * bound ahead of time, but are not part of the view hierarchy yet.
+     */
+    private final Map<Tab, View> preboundContentViews;
+
     /**
      * Inflates the view, which is associated with a tab, and adds it to the view hierarchy.
      *
@@ -97,8 +110,13 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
 
         if (view == null) {
             ViewGroup parent = viewHolder.contentContainer;
-            Pair<View, ?> pair = tabViewRecycler.inflate(tab, parent);
-            view = pair.first;
+            view = preboundContentViews.remove(tab);
+
+            if (view == null) {
+                Pair<View, ?> pair = tabViewRecycler.inflate(tab, parent);
+                view = pair.first;
+            }
+
             LayoutParams layoutParams =
                     new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT);
             Rect padding = getPadding();
@@ -126,6 +144,12 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
         PhoneTabViewHolder viewHolder = (PhoneTabViewHolder) tabItem.getViewHolder();
         viewHolder.borderView
                 .setVisibility(getModel().isSwitcherShown() ? View.VISIBLE : View.GONE);
+        MetricsRecorder metricsRecorder = getModel().getMetricsRecorder();
+
+        if (metricsRecorder.isEnabled()) {
+            metricsRecorder.increment(dataBinder.isCached(tab) ? Counter.PREVIEW_CACHE_HITS :
+                    Counter.PREVIEW_CACHE_MISSES);
+        }
 
         if (viewHolder.content != null) {
             tabViewRecycler.getAdapter().onRemoveView(viewHolder.content, tab);
@@ -251,7 +275,9 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
         super(tabSwitcher, model, style);
         Condition.INSTANCE.ensureNotNull(tabViewRecycler, "The tab view recycler may not be null");
         this.tabViewRecycler = tabViewRecycler;
-        this.dataBinder = new PreviewDataBinder(tabSwitcher, tabViewRecycler, model);
+        this.preboundContentViews = new HashMap<>();
+        this.dataBinder = new PreviewDataBinder(tabSwitcher, tabViewRecycler, model,
+                model.getMetricsRecorder(), preboundContentViews);
         this.dataBinder.addListener(this);
         Resources resources = tabSwitcher.getResources();
         this.tabInset = resources.getDimensionPixelSize(R.dimen.tab_inset);
@@ -268,6 +294,82 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
         dataBinder.clearCache();
     }
 
+    /**
+     * Removes the previously rendered preview of a specific tab from the cache.
+     *
+     * @param tab
+     *         The tab, whose preview should be removed, as an instance of the class {@link Tab}.
+     *         The tab may not be null
+     */
+    public final void clearCachedPreview(@NonNull final Tab tab) {
+        dataBinder.removeCachedPreview(tab);
+    }
+
+    /**
+     * Inflates and binds the views, which are associated with specific tabs, ahead of time, in
+     * order to be able to show them without delay. Views, which have previously been bound ahead
+     * of time, but are not associated with any of the given tabs, are released. In order to keep
+     * the amount of work low, at most one view is inflated per invocation. If the views of all
+     * given tabs have already been bound, nothing is allocated.
+     *
+     * @param tabs
+     *         A list, which contains the tabs, whose views should be bound ahead of time, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @return True, if views remain to be bound ahead of time, false otherwise
+     */
+    public final boolean prebindContentViews(@NonNull final List<Tab> tabs) {
+        Condition.INSTANCE.ensureNotNull(tabs, "The list may not be null");
+        int preboundCount = 0;
+
+        for (int i = 0; i < tabs.size(); i++) {
+            if (preboundContentViews.containsKey(tabs.get(i))) {
+                preboundCount++;
+            }
+        }
+
+        if (preboundCount < preboundContentViews.size()) {
+            Iterator<Map.Entry<Tab, View>> iterator = preboundContentViews.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Tab tab = iterator.next().getKey();
+
+                if (!tabs.contains(tab)) {
+                    iterator.remove();
+                    tabViewRecycler.remove(tab);
+                }
+            }
+        }
+
+        boolean bound = false;
+
+        for (int i = 0; i < tabs.size(); i++) {
+            Tab tab = tabs.get(i);
+
+            if (!preboundContentViews.containsKey(tab) && tabViewRecycler.getView(tab) == null) {
+                if (bound) {
+                    return true;
+                }
+
+                Pair<View, ?> pair = tabViewRecycler.inflate(tab, (ViewGroup) null);
+                preboundContentViews.put(tab, pair.first);
+                bound = true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Releases all views, which have been inflated and bound ahead of time.
+     */
+    public final void clearPreboundContentViews() {
+        for (Tab tab : preboundContentViews.keySet()) {
+            tabViewRecycler.remove(tab);
+        }
+
+        preboundContentViews.clear();
+    }
+
     @Override
     protected final void onAdaptBackgroundColor(@ColorInt final int color,
                                                 @NonNull final TabItem tabItem) {
@@ -276,12 +378,14 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
         border.setColorFilter(color, PorterDuff.Mode.MULTIPLY);
     }
 
-    @NonNull
     @Override
-    protected final View onInflateTabView(@NonNull final LayoutInflater inflater,
-                                          @Nullable final ViewGroup parent,
+    protected final int getTabViewLayout() {
+        return R.layout.phone_tab;
+    }
+
+    @Override
+    protected final void onInflateTabView(@NonNull final View view,
                                           @NonNull final AbstractTabViewHolder viewHolder) {
-        View view = inflater.inflate(R.layout.phone_tab, parent, false);
         Drawable backgroundDrawable =
                 ContextCompat.getDrawable(getModel().getContext(), R.drawable.phone_tab_background);
         ViewUtil.setBackground(view, backgroundDrawable);
@@ -296,7 +400,6 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
         Drawable borderDrawable =
                 ContextCompat.getDrawable(getModel().getContext(), R.drawable.phone_tab_border);
         ViewUtil.setBackground(((PhoneTabViewHolder) viewHolder).borderView, borderDrawable);
-        return view;
     }
 
     @Override
@@ -333,6 +436,13 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
         return Layout.PHONE_PORTRAIT;
     }
 
+    @Override
+    public final void updatePerformanceOverlay(@NonNull final PerformanceOverlayDrawable overlay) {
+        super.updatePerformanceOverlay(overlay);
+        overlay.setPreviewStatistics(dataBinder.getCachedPreviewCount(),
+                dataBinder.getCachedPreviewSize(), dataBinder.getPendingRenderCount());
+    }
+
     @Override
     public final void onRemoveView(@NonNull final View view, @NonNull final AbstractItem item) {
         if (item instanceof TabItem) {
@@ -442,7 +552,7 @@ public class PhoneTabRecyclerAdapter extends AbstractTabRecyclerAdapter
     @Override
     public final void onCanceled(
             @NonNull final AbstractDataBinder<Bitmap, Tab, ImageView, TabItem> dataBinder) {
-
+        this.dataBinder.resetPendingRenderCount();
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ import android.animation.Animator.AnimatorListener;
 import android.animation.AnimatorListenerAdapter;
 import android.animation.ValueAnimator;
 import android.content.res.Resources;
+import android.os.Looper;
+import android.os.MessageQueue.IdleHandler;
 import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.LayoutInflater;
@@ -31,7 +33,9 @@ import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Interpolator;
 import android.widget.FrameLayout;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -39,6 +43,7 @@ import androidx.appcompat.widget.Toolbar;
 import androidx.core.util.Pair;
 import androidx.core.view.ViewCompat;
 import de.mrapp.android.tabswitcher.Animation;
+import de.mrapp.android.tabswitcher.AnimationType;
 import de.mrapp.android.tabswitcher.Layout;
 import de.mrapp.android.tabswitcher.PeekAnimation;
 import de.mrapp.android.tabswitcher.R;
@@ -58,6 +63,7 @@ import de.mrapp.android.tabswitcher.layout.AbstractTabRecyclerAdapter;
 import de.mrapp.android.tabswitcher.layout.AbstractTabSwitcherLayout;
 import de.mrapp.android.tabswitcher.layout.Arithmetics;
 import de.mrapp.android.tabswitcher.layout.Arithmetics.Axis;
+import de.mrapp.android.tabswitcher.layout.PositionAnimationDriver;
 import de.mrapp.android.tabswitcher.model.AbstractItem;
 import de.mrapp.android.tabswitcher.model.ItemComparator;
 import de.mrapp.android.tabswitcher.model.State;
@@ -65,6 +71,8 @@ import de.mrapp.android.tabswitcher.model.TabItem;
 import de.mrapp.android.tabswitcher.model.TabSwitcherModel;
 import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
 import de.mrapp.android.tabswitcher.model.Tag;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
+import de.mrapp.android.util.logging.LogLevel;
 import de.mrapp.android.util.view.AbstractViewRecycler;
 import de.mrapp.android.util.view.AttachedViewRecycler;
 import de.mrapp.android.util.view.ViewRecycler;
@@ -138,6 +146,18 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
      */
     private static final float MIN_TAB_SPACING_RATIO = 0.375f;
 
+    /**
+     * The name of the trace section, which spans the calculation of the tabs' initial positions.
+     */
+    private static final String CALCULATE_INITIAL_ITEMS_TRACE_SECTION =
+            "TabSwitcher#calculateInitialItems";
+
+    /**
+     * The name of the trace section, which spans the relocation of tabs, when tabs have been added
+     * or removed.
+     */
+    private static final String RELOCATE_TRACE_SECTION = "TabSwitcher#relocate";
+
     /**
      * The number of tabs, which are contained by a stack.
      */
@@ -283,6 +303,35 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
      */
     private ViewPropertyAnimator toolbarAnimation;
 
+    /**
+     * The driver, which is used to animate the positions of tabs, when relocating them.
+     */
+    private final PositionAnimationDriver relocateAnimationDriver;
+
+    /**
+     * The idle handler, which is used to bind the content of the tabs, which are adjacent to the
+     * selected tab, ahead of time.
+     */
+    private final IdleHandler prebindingIdleHandler;
+
+    /**
+     * True, if the idle handler, which is used to bind the content of the tabs, which are adjacent
+     * to the selected tab, ahead of time, is currently registered, false otherwise.
+     */
+    private boolean prebindingIdleHandlerRegistered;
+
+    /**
+     * A list, which contains the tabs, which are adjacent to the selected tab and whose content
+     * should be bound ahead of time.
+     */
+    private final List<Tab> prebindingNeighbors;
+
+    /**
+     * True, if the user is currently switching between tabs by swiping horizontally, false
+     * otherwise.
+     */
+    private boolean switchingBetweenTabs;
+
     /**
      * Adapts the decorator.
      */
@@ -290,6 +339,81 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         tabRecyclerAdapter.clearCachedPreviews();
     }
 
+    /**
+     * Registers the idle handler, which is used to bind the content of the tabs, which are
+     * adjacent to the selected tab, ahead of time, if the tab switcher's prebinding budget allows
+     * to do so and if it is not already registered.
+     */
+    private void registerPrebindingIdleHandler() {
+        if (!prebindingIdleHandlerRegistered &&
+                getTabSwitcher().getNeighborPrebindingBudget() > 0) {
+            Looper.myQueue().addIdleHandler(prebindingIdleHandler);
+            prebindingIdleHandlerRegistered = true;
+        }
+    }
+
+    /**
+     * Unregisters the idle handler, which is used to bind the content of the tabs, which are
+     * adjacent to the selected tab, ahead of time, if it is currently registered.
+     */
+    private void unregisterPrebindingIdleHandler() {
+        if (prebindingIdleHandlerRegistered) {
+            Looper.myQueue().removeIdleHandler(prebindingIdleHandler);
+            prebindingIdleHandlerRegistered = false;
+        }
+    }
+
+    /**
+     * Binds the content of the tabs, which are adjacent to the selected tab, ahead of time, if the
+     * switcher is not shown and the tab switcher's prebinding budget allows to do so. If the tabs
+     * are the same as on the previous invocation, only the views, which have not been bound yet,
+     * are bound.
+     *
+     * @return True, if the content of the tabs must be bound on a later invocation, because views
+     * remain to be bound or because binding is currently not possible, false otherwise
+     */
+    private boolean prebindNeighbors() {
+        long budget = getTabSwitcher().getNeighborPrebindingBudget();
+        int selectedTabIndex = getModel().getSelectedTabIndex();
+
+        if (tabRecyclerAdapter == null) {
+            return false;
+        } else if (budget == 0 || getModel().isSwitcherShown() || selectedTabIndex == -1) {
+            tabRecyclerAdapter.clearPreboundContentViews();
+            prebindingNeighbors.clear();
+            return false;
+        } else if (isAnimationRunning() || switchingBetweenTabs ||
+                getDragHandler().isDragging()) {
+            return true;
+        } else if (getTabSwitcher().getWidth() == 0 || getTabSwitcher().getHeight() == 0) {
+            return false;
+        }
+
+        long size = (long) getTabSwitcher().getWidth() * getTabSwitcher().getHeight() * 4;
+        int count = (int) Math.min(2, budget / size);
+        Tab next = count > 0 && selectedTabIndex + 1 < getModel().getCount() ?
+                getModel().getTab(selectedTabIndex + 1) : null;
+        Tab previous = count > (next != null ? 1 : 0) && selectedTabIndex > 0 ?
+                getModel().getTab(selectedTabIndex - 1) : null;
+        int neighborCount = (next != null ? 1 : 0) + (previous != null ? 1 : 0);
+
+        if (prebindingNeighbors.size() != neighborCount ||
+                (next != null && prebindingNeighbors.get(0) != next) ||
+                (previous != null && prebindingNeighbors.get(neighborCount - 1) != previous)) {
+            prebindingNeighbors.clear();
+
+            if (next != null) {
+                prebindingNeighbors.add(next);
+            }
+
+            if (previous != null) {
+                prebindingNeighbors.add(previous);
+            }
+        }
+
+        return tabRecyclerAdapter.prebindContentViews(prebindingNeighbors);
+    }
+
     /**
      * Adapts the visibility of the view, which is shown, when the tab switcher is empty.
      *
@@ -444,18 +568,15 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
      *         The bottom margin, which should be set by the animation, as an {@link Integer} value
      * @param duration
      *         The duration of the animation in milliseconds as a {@link Long} value
-     * @param delay
-     *         The delay of the animation in milliseconds as a {@link Long} value
      */
     private void animateBottomMargin(@NonNull final View view, final int margin,
-                                     final long duration, final long delay) {
+                                     final long duration) {
         FrameLayout.LayoutParams layoutParams = (FrameLayout.LayoutParams) view.getLayoutParams();
         final int initialMargin = layoutParams.bottomMargin;
         ValueAnimator animation = ValueAnimator.ofInt(margin - initialMargin);
         animation.setDuration(duration);
         animation.addListener(new AnimationListenerWrapper(null));
         animation.setInterpolator(new AccelerateDecelerateInterpolator());
-        animation.setStartDelay(delay);
         animation.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
 
             @Override
@@ -547,6 +668,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     @NonNull
     private AbstractItem[] calculateInitialItems(final int referenceTabIndex,
                                                  final float referenceTabPosition) {
+        boolean traced = TraceHelper.beginSection(CALCULATE_INITIAL_ITEMS_TRACE_SECTION);
         dragHandler.reset();
         setFirstVisibleIndex(-1);
         AbstractItem[] items = new AbstractItem[getModel().getCount()];
@@ -663,6 +785,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         }
 
         dragHandler.setCallback(this);
+        TraceHelper.endSection(traced);
         return items;
     }
 
@@ -766,11 +889,12 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             tabViewBottomMargin = calculateBottomMargin(item);
         }
 
-        animateBottomMargin(view, tabViewBottomMargin, duration, 0);
+        animateBottomMargin(view, tabViewBottomMargin, duration);
         ViewPropertyAnimator animation = view.animate();
         animation.setDuration(duration);
         animation.setInterpolator(interpolator);
-        animation.setListener(new AnimationListenerWrapper(listener));
+        animation.setListener(new AnimationListenerWrapper(AnimationType.SHOW_SWITCHER,
+                createHardwareLayerListener(view, listener)));
         getArithmetics().animateScale(Axis.DRAGGING_AXIS, animation, scale);
         getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animation, scale);
         getArithmetics()
@@ -838,35 +962,46 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     private void animateHideSwitcher(@NonNull final AbstractItem item, final long duration,
                                      @NonNull final Interpolator interpolator, final long delay,
                                      @Nullable final AnimatorListener listener) {
-        View view = item.getView();
-        animateBottomMargin(view, -(tabInset + tabBorderWidth), duration, delay);
-        ViewPropertyAnimator animation = view.animate();
-        animation.setDuration(duration);
-        animation.setInterpolator(interpolator);
-        animation.setListener(new AnimationListenerWrapper(listener));
-        getArithmetics().animateScale(Axis.DRAGGING_AXIS, animation, 1);
-        getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animation, 1);
-        FrameLayout.LayoutParams layoutParams = (FrameLayout.LayoutParams) view.getLayoutParams();
-        getArithmetics().animatePosition(Axis.ORTHOGONAL_AXIS, animation, item,
-                getTabSwitcher().getLayout() == Layout.PHONE_LANDSCAPE ? layoutParams.topMargin :
-                        0);
-        int selectedTabIndex = getModel().getSelectedTabIndex();
+        final View view = item.getView();
+        final AnimationListenerWrapper animationListener =
+                new AnimationListenerWrapper(AnimationType.HIDE_SWITCHER,
+                        createHardwareLayerListener(view, listener));
+        startAnimationDelayed(animationListener, delay, new Runnable() {
 
-        if (item.getIndex() < selectedTabIndex) {
-            getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item,
-                    getArithmetics().getTabContainerSize(Axis.DRAGGING_AXIS));
-        } else if (item.getIndex() > selectedTabIndex) {
-            getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item,
-                    getTabSwitcher().getLayout() == Layout.PHONE_LANDSCAPE ? 0 :
-                            layoutParams.topMargin);
-        } else {
-            getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item,
-                    getTabSwitcher().getLayout() == Layout.PHONE_LANDSCAPE ? 0 :
-                            layoutParams.topMargin);
-        }
+            @Override
+            public void run() {
+                animateBottomMargin(view, -(tabInset + tabBorderWidth), duration);
+                ViewPropertyAnimator animation = view.animate();
+                animation.setDuration(duration);
+                animation.setInterpolator(interpolator);
+                animation.setListener(animationListener);
+                getArithmetics().animateScale(Axis.DRAGGING_AXIS, animation, 1);
+                getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animation, 1);
+                FrameLayout.LayoutParams layoutParams =
+                        (FrameLayout.LayoutParams) view.getLayoutParams();
+                getArithmetics().animatePosition(Axis.ORTHOGONAL_AXIS, animation, item,
+                        getTabSwitcher().getLayout() == Layout.PHONE_LANDSCAPE ?
+                                layoutParams.topMargin : 0);
+                int selectedTabIndex = getModel().getSelectedTabIndex();
+
+                if (item.getIndex() < selectedTabIndex) {
+                    getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item,
+                            getArithmetics().getTabContainerSize(Axis.DRAGGING_AXIS));
+                } else if (item.getIndex() > selectedTabIndex) {
+                    getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item,
+                            getTabSwitcher().getLayout() == Layout.PHONE_LANDSCAPE ? 0 :
+                                    layoutParams.topMargin);
+                } else {
+                    getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item,
+                            getTabSwitcher().getLayout() == Layout.PHONE_LANDSCAPE ? 0 :
+                                    layoutParams.topMargin);
+                }
 
-        animation.setStartDelay(delay);
-        animation.start();
+                animation.setStartDelay(0);
+                animation.start();
+            }
+
+        });
     }
 
     /**
@@ -893,31 +1028,43 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                               final int delayMultiplier,
                               @NonNull final SwipeAnimation swipeAnimation,
                               @Nullable final AnimatorListener listener) {
-        View view = item.getView();
-        float currentScale = getArithmetics().getScale(item, true);
+        final View view = item.getView();
+        final float currentScale = getArithmetics().getScale(item, true);
         float swipePosition = calculateSwipePosition();
-        float targetPosition = remove ?
+        final float targetPosition = remove ?
                 (swipeAnimation.getDirection() == SwipeDirection.LEFT_OR_TOP ? -1 * swipePosition :
                         swipePosition) : 0;
         float currentPosition = getArithmetics().getPosition(Axis.ORTHOGONAL_AXIS, item);
         float distance = Math.abs(targetPosition - currentPosition);
-        long animationDuration = swipeAnimation.getDuration() != -1 ? swipeAnimation.getDuration() :
-                Math.round(swipeAnimationDuration * (distance / swipePosition));
-        ViewPropertyAnimator animation = view.animate();
-        animation.setInterpolator(
-                swipeAnimation.getInterpolator() != null ? swipeAnimation.getInterpolator() :
-                        new AccelerateDecelerateInterpolator());
-        animation.setListener(new AnimationListenerWrapper(listener));
-        animation.setDuration(animationDuration);
-        getArithmetics()
-                .animatePosition(Axis.ORTHOGONAL_AXIS, animation, item, targetPosition, true);
-        getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animation,
-                remove ? swipedTabScale * currentScale : currentScale);
-        getArithmetics().animateScale(Axis.DRAGGING_AXIS, animation,
-                remove ? swipedTabScale * currentScale : currentScale);
-        animation.alpha(remove ? swipedTabAlpha : 1);
-        animation.setStartDelay(delayMultiplier * calculateAnimationDelay(animationDuration));
-        animation.start();
+        final long animationDuration =
+                swipeAnimation.getDuration() != -1 ? swipeAnimation.getDuration() :
+                        Math.round(swipeAnimationDuration * (distance / swipePosition));
+        final AnimationListenerWrapper animationListener =
+                new AnimationListenerWrapper(AnimationType.SWIPE,
+                        createHardwareLayerListener(view, listener));
+        startAnimationDelayed(animationListener,
+                delayMultiplier * calculateAnimationDelay(animationDuration), new Runnable() {
+
+                    @Override
+                    public void run() {
+                        ViewPropertyAnimator animation = view.animate();
+                        animation.setInterpolator(swipeAnimation.getInterpolator() != null ?
+                                swipeAnimation.getInterpolator() :
+                                new AccelerateDecelerateInterpolator());
+                        animation.setListener(animationListener);
+                        animation.setDuration(animationDuration);
+                        getArithmetics().animatePosition(Axis.ORTHOGONAL_AXIS, animation, item,
+                                targetPosition, true);
+                        getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animation,
+                                remove ? swipedTabScale * currentScale : currentScale);
+                        getArithmetics().animateScale(Axis.DRAGGING_AXIS, animation,
+                                remove ? swipedTabScale * currentScale : currentScale);
+                        animation.alpha(remove ? swipedTabAlpha : 1);
+                        animation.setStartDelay(0);
+                        animation.start();
+                    }
+
+                });
     }
 
     /**
@@ -947,9 +1094,10 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         long duration = velocity > 0 ? Math.round((distance / velocity) * 1000) :
                 Math.round(animationDuration * (distance / maxDistance));
         ViewPropertyAnimator animation = view.animate();
-        animation.setListener(new AnimationListenerWrapper(
-                selected ? createSwipeSelectedTabAnimationListener(tabItem) :
-                        createSwipeNeighborAnimationListener(tabItem)));
+        animation.setListener(new AnimationListenerWrapper(AnimationType.SWITCH_TABS,
+                createHardwareLayerListener(view,
+                        selected ? createSwipeSelectedTabAnimationListener(tabItem) :
+                                createSwipeNeighborAnimationListener(tabItem))));
         animation.setInterpolator(new AccelerateDecelerateInterpolator());
         animation.setDuration(duration);
         animation.setStartDelay(0);
@@ -1009,16 +1157,12 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             item.setTag(tag);
         }
 
-        View view = item.getView();
         long animationDuration = swipeAnimation.getRelocateAnimationDuration() != -1 ?
                 swipeAnimation.getRelocateAnimationDuration() : relocateAnimationDuration;
-        ViewPropertyAnimator animation = view.animate();
-        animation.setListener(new AnimationListenerWrapper(listener));
-        animation.setInterpolator(new AccelerateDecelerateInterpolator());
-        animation.setDuration(animationDuration);
-        getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animation, item, position, true);
-        animation.setStartDelay(delayMultiplier * calculateAnimationDelay(animationDuration));
-        animation.start();
+        relocateAnimationDriver.animate(item, position, animationDuration,
+                delayMultiplier * calculateAnimationDelay(animationDuration),
+                new AccelerateDecelerateInterpolator(),
+                createHardwareLayerListener(item.getView(), listener));
     }
 
     /**
@@ -1053,7 +1197,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         animation.setDuration(Math.round(revertOvershootAnimationDuration * Math.abs(
                 (targetPosition - position) /
                         (float) (getStackedTabCount() * getStackedTabSpacing()))));
-        animation.addListener(new AnimationListenerWrapper(null));
+        animation.addListener(
+                new AnimationListenerWrapper(AnimationType.REVERT_OVERSHOOT, null));
         animation.setInterpolator(interpolator);
         animation.setStartDelay(0);
         animation.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
@@ -1117,7 +1262,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                     getArithmetics().getRotation(Axis.ORTHOGONAL_AXIS, item) != 0) {
                 View view = item.getView();
                 ViewPropertyAnimator animation = view.animate();
-                animation.setListener(new AnimationListenerWrapper(
+                animation.setListener(new AnimationListenerWrapper(AnimationType.REVERT_OVERSHOOT,
                         createRevertOvershootAnimationListener(item, !result ? listener : null)));
                 animation.setDuration(Math.round(revertOvershootAnimationDuration *
                         (Math.abs(getArithmetics().getRotation(Axis.ORTHOGONAL_AXIS, item)) /
@@ -1153,7 +1298,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         animation.setInterpolator(
                 revealAnimation.getInterpolator() != null ? revealAnimation.getInterpolator() :
                         new AccelerateDecelerateInterpolator());
-        animation.setListener(new AnimationListenerWrapper(createHideSwitcherAnimationListener()));
+        animation.setListener(new AnimationListenerWrapper(AnimationType.REVEAL,
+                createHideSwitcherAnimationListener()));
         animation.setStartDelay(0);
         animation.setDuration(revealAnimation.getDuration() != -1 ? revealAnimation.getDuration() :
                 revealAnimationDuration);
@@ -1199,8 +1345,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         getArithmetics().setScale(Axis.ORTHOGONAL_AXIS, item, 0);
         ViewPropertyAnimator animation = view.animate();
         animation.setInterpolator(interpolator);
-        animation.setListener(
-                new AnimationListenerWrapper(createPeekAnimationListener(item, peekAnimation)));
+        animation.setListener(new AnimationListenerWrapper(AnimationType.PEEK,
+                createPeekAnimationListener(item, peekAnimation)));
         animation.setStartDelay(0);
         animation.setDuration(duration);
         getArithmetics().animateScale(Axis.DRAGGING_AXIS, animation, 1);
@@ -1889,6 +2035,47 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         };
     }
 
+    /**
+     * Creates and returns an idle handler, which allows to bind the content of the tabs, which are
+     * adjacent to the selected tab, ahead of time, when the UI thread is idle. The idle handler is
+     * unregistered, once the content of the tabs has been bound.
+     *
+     * @return The idle handler, which has been created, as an instance of the type {@link
+     * IdleHandler}. The idle handler may not be null
+     */
+    @NonNull
+    private IdleHandler createPrebindingIdleHandler() {
+        return new IdleHandler() {
+
+            @Override
+            public boolean queueIdle() {
+                prebindingIdleHandlerRegistered = prebindNeighbors();
+                return prebindingIdleHandlerRegistered;
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns the driver, which allows to animate the positions of tabs, when
+     * relocating them, by using a single animator.
+     *
+     * @return The driver, which has been created, as an instance of the class {@link
+     * PositionAnimationDriver}. The driver may not be null
+     */
+    @NonNull
+    private PositionAnimationDriver createRelocateAnimationDriver() {
+        return new PositionAnimationDriver(getArithmetics(), Axis.DRAGGING_AXIS) {
+
+            @NonNull
+            @Override
+            protected AnimatorListener onCreateAnimatorListener() {
+                return new AnimationListenerWrapper(AnimationType.RELOCATE, null);
+            }
+
+        };
+    }
+
     /**
      * Creates and returns an animation listener, which allows to update or remove the view, which
      * is used to visualize a tab, when the animation, which has been used to relocate it, has been
@@ -2018,26 +2205,35 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                 long totalDuration =
                         peekAnimation.getDuration() != -1 ? peekAnimation.getDuration() :
                                 peekAnimationDuration;
-                long duration = totalDuration / 3;
-                Interpolator interpolator =
+                final long duration = totalDuration / 3;
+                final Interpolator interpolator =
                         peekAnimation.getInterpolator() != null ? peekAnimation.getInterpolator() :
                                 new AccelerateDecelerateInterpolator();
-                View view = item.getView();
+                final View view = item.getView();
                 getArithmetics().setPivot(Axis.DRAGGING_AXIS, item, tabTitleContainerHeight);
                 getArithmetics().setPivot(Axis.ORTHOGONAL_AXIS, item,
                         getArithmetics().getSize(Axis.ORTHOGONAL_AXIS, item) / 2f);
-                ViewPropertyAnimator animator = view.animate();
-                animator.setDuration(duration);
-                animator.setStartDelay(duration);
-                animator.setInterpolator(interpolator);
-                animator.setListener(
-                        new AnimationListenerWrapper(createRevertPeekAnimationListener(item)));
-                animator.alpha(0);
-                getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animator, item,
-                        getArithmetics().getPosition(Axis.DRAGGING_AXIS, item) * 1.5f);
-                getArithmetics().animateScale(Axis.DRAGGING_AXIS, animator, 0);
-                getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animator, 0);
-                animator.start();
+                final AnimationListenerWrapper animationListener =
+                        new AnimationListenerWrapper(AnimationType.PEEK,
+                                createRevertPeekAnimationListener(item));
+                startAnimationDelayed(animationListener, duration, new Runnable() {
+
+                    @Override
+                    public void run() {
+                        ViewPropertyAnimator animator = view.animate();
+                        animator.setDuration(duration);
+                        animator.setStartDelay(0);
+                        animator.setInterpolator(interpolator);
+                        animator.setListener(animationListener);
+                        animator.alpha(0);
+                        getArithmetics().animatePosition(Axis.DRAGGING_AXIS, animator, item,
+                                getArithmetics().getPosition(Axis.DRAGGING_AXIS, item) * 1.5f);
+                        getArithmetics().animateScale(Axis.DRAGGING_AXIS, animator, 0);
+                        getArithmetics().animateScale(Axis.ORTHOGONAL_AXIS, animator, 0);
+                        animator.start();
+                    }
+
+                });
             }
 
         };
@@ -2225,6 +2421,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                                  final float attachedPosition,
                                                  final boolean attachedPositionChanged,
                                                  final SwipeAnimation swipeAnimation) {
+        boolean traced = TraceHelper.beginSection(RELOCATE_TRACE_SECTION);
         AbstractItemIterator iterator;
         AbstractItem item;
         float defaultTabSpacing = calculateMaxTabSpacing(null);
@@ -2344,6 +2541,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                 }
             }
         }
+
+        TraceHelper.endSection(traced);
     }
 
     /**
@@ -2362,6 +2561,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     private void relocateWhenRemovingStackedTab(@NonNull final AbstractItem removedItem,
                                                 final boolean start,
                                                 @NonNull final SwipeAnimation swipeAnimation) {
+        boolean traced = TraceHelper.beginSection(RELOCATE_TRACE_SECTION);
         int startIndex = removedItem.getIndex() + (start ? -1 : 0);
         ItemIterator iterator =
                 new ItemIterator.Builder(getTabSwitcher(), tabViewRecycler).reverse(start)
@@ -2399,6 +2599,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
 
             previousProjectedPosition = projectedPosition;
         }
+
+        TraceHelper.endSection(traced);
     }
 
     /**
@@ -2430,6 +2632,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                                           final float attachedPosition,
                                                           final boolean attachedPositionChanged,
                                                           @NonNull final SwipeAnimation swipeAnimation) {
+        boolean traced = TraceHelper.beginSection(RELOCATE_TRACE_SECTION);
         AbstractItem firstAddedItem = addedItems[0];
         AbstractItem lastAddedItem = addedItems[addedItems.length - 1];
         float referencePosition = referenceItem.getTag().getPosition();
@@ -2576,6 +2779,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             }
         }
 
+        TraceHelper.endSection(traced);
         return addedItems;
     }
 
@@ -2598,6 +2802,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     private AbstractItem[] relocateWhenAddingStackedTabs(final boolean start,
                                                          @NonNull final AbstractItem[] addedItems,
                                                          @NonNull final SwipeAnimation swipeAnimation) {
+        boolean traced = TraceHelper.beginSection(RELOCATE_TRACE_SECTION);
+
         if (!start) {
             setFirstVisibleIndex(getFirstVisibleIndex() + addedItems.length);
         }
@@ -2646,6 +2852,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             }
         }
 
+        TraceHelper.endSection(traced);
         return addedItems;
     }
 
@@ -2664,6 +2871,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     @NonNull
     private AbstractItem[] relocateWhenAddingHiddenTabs(@NonNull final AbstractItem[] addedItems,
                                                         @NonNull final AbstractItem referenceItem) {
+        boolean traced = TraceHelper.beginSection(RELOCATE_TRACE_SECTION);
         boolean stackedAtStart = isStackedAtStart(referenceItem.getIndex());
 
         for (AbstractItem item : addedItems) {
@@ -2684,6 +2892,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             tag.setState(pair.second);
         }
 
+        TraceHelper.endSection(traced);
         return addedItems;
     }
 
@@ -2913,6 +3122,11 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         swipedTabDistance = resources.getDimensionPixelSize(R.dimen.swiped_tab_distance);
         tabViewBottomMargin = -1;
         toolbarAnimation = null;
+        relocateAnimationDriver = createRelocateAnimationDriver();
+        prebindingIdleHandler = createPrebindingIdleHandler();
+        prebindingIdleHandlerRegistered = false;
+        prebindingNeighbors = new ArrayList<>(2);
+        switchingBetweenTabs = false;
     }
 
     @Override
@@ -2947,6 +3161,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                 new PhoneDragTabsEventHandler(getTabSwitcher(), getArithmetics(), tabViewRecycler);
         adaptDecorator();
         adaptToolbarMargin();
+        adaptNeighborPrebinding();
     }
 
     @Nullable
@@ -2970,6 +3185,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             }
         }
 
+        unregisterPrebindingIdleHandler();
+        tabRecyclerAdapter.clearPreboundContentViews();
         contentViewRecycler.removeAll();
         contentViewRecycler.clearCache();
         tabRecyclerAdapter.clearCachedPreviews();
@@ -2997,6 +3214,30 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
         return tabRecyclerAdapter;
     }
 
+    @Override
+    public final void clearCachedPreviews() {
+        tabRecyclerAdapter.clearCachedPreviews();
+    }
+
+    @Override
+    public final void clearCachedPreview(@NonNull final Tab tab) {
+        tabRecyclerAdapter.clearCachedPreview(tab);
+    }
+
+    @Override
+    public final void adaptNeighborPrebinding() {
+        if (getTabSwitcher().getNeighborPrebindingBudget() > 0) {
+            registerPrebindingIdleHandler();
+        } else {
+            unregisterPrebindingIdleHandler();
+            prebindingNeighbors.clear();
+
+            if (tabRecyclerAdapter != null) {
+                tabRecyclerAdapter.clearPreboundContentViews();
+            }
+        }
+    }
+
     @Override
     protected final void updateView(@NonNull final AbstractItem item, final boolean dragging) {
         View view = item.getView();
@@ -3151,6 +3392,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     @Override
     public final void onSwitcherShown() {
         getLogger().logInfo(getClass(), "Showed tab switcher");
+        tabRecyclerAdapter.clearPreboundContentViews();
         animateShowSwitcher(-1, -1);
     }
 
@@ -3158,13 +3400,16 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
     public final void onSwitcherHidden() {
         getLogger().logInfo(getClass(), "Hid tab switcher");
         animateHideSwitcher();
+        registerPrebindingIdleHandler();
     }
 
     @Override
     public final void onSelectionChanged(final int previousIndex, final int index,
                                          @Nullable final Tab selectedTab,
                                          final boolean switcherHidden) {
-        getLogger().logInfo(getClass(), "Selected tab at index " + index);
+        if (isLoggable(LogLevel.INFO)) {
+            getLogger().logInfo(getClass(), "Selected tab at index " + index);
+        }
 
         if (switcherHidden) {
             animateHideSwitcher();
@@ -3173,6 +3418,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                     .remove(TabItem.create(getTabSwitcher(), tabViewRecycler, previousIndex));
             tabViewRecycler.inflate(TabItem.create(getTabSwitcher(), tabViewRecycler, index));
         }
+
+        registerPrebindingIdleHandler();
     }
 
     @Override
@@ -3181,8 +3428,10 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                  final boolean selectionChanged,
                                  final boolean switcherVisibilityChanged,
                                  @NonNull final Animation animation) {
-        getLogger().logInfo(getClass(),
-                "Added tab at index " + index + " using a " + animation.getClass().getSimpleName());
+        if (isLoggable(LogLevel.INFO)) {
+            getLogger().logInfo(getClass(), "Added tab at index " + index + " using a " +
+                    animation.getClass().getSimpleName());
+        }
 
         if (animation instanceof PeekAnimation && getModel().getCount() > 1) {
             Condition.INSTANCE.ensureTrue(switcherVisibilityChanged,
@@ -3201,6 +3450,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
 
         adaptEmptyView(
                 getModel().isSwitcherShown() ? getModel().getEmptyViewAnimationDuration() : 0);
+        registerPrebindingIdleHandler();
     }
 
     @Override
@@ -3210,10 +3460,15 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                      @NonNull final Animation animation) {
         Condition.INSTANCE.ensureTrue(animation instanceof SwipeAnimation,
                 animation.getClass().getSimpleName() + " not supported for adding multiple tabs");
-        getLogger().logInfo(getClass(),
-                "Added " + tabs.length + " tabs at index " + index + " using a " +
-                        animation.getClass().getSimpleName());
+
+        if (isLoggable(LogLevel.INFO)) {
+            getLogger().logInfo(getClass(),
+                    "Added " + tabs.length + " tabs at index " + index + " using a " +
+                            animation.getClass().getSimpleName());
+        }
+
         addAllTabs(index, tabs, animation);
+        registerPrebindingIdleHandler();
     }
 
     @Override
@@ -3223,8 +3478,12 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                    @NonNull final Animation animation) {
         Condition.INSTANCE.ensureTrue(animation instanceof SwipeAnimation,
                 animation.getClass().getSimpleName() + " not supported for removing tabs");
-        getLogger().logInfo(getClass(), "Removed tab at index " + index + " using a " +
-                animation.getClass().getSimpleName());
+
+        if (isLoggable(LogLevel.INFO)) {
+            getLogger().logInfo(getClass(), "Removed tab at index " + index + " using a " +
+                    animation.getClass().getSimpleName());
+        }
+
         AbstractItem removedItem = TabItem.create(getModel(), tabViewRecycler, index, tab);
 
         if (!getModel().isSwitcherShown()) {
@@ -3261,6 +3520,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
 
         adaptEmptyView(
                 getModel().isSwitcherShown() ? getModel().getEmptyViewAnimationDuration() : 0);
+        registerPrebindingIdleHandler();
     }
 
     @Override
@@ -3268,8 +3528,11 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                        @NonNull final Animation animation) {
         Condition.INSTANCE.ensureTrue(animation instanceof SwipeAnimation,
                 animation.getClass().getSimpleName() + " not supported for removing tabs ");
-        getLogger().logInfo(getClass(),
-                "Removed all tabs using a " + animation.getClass().getSimpleName());
+
+        if (isLoggable(LogLevel.INFO)) {
+            getLogger().logInfo(getClass(),
+                    "Removed all tabs using a " + animation.getClass().getSimpleName());
+        }
 
         if (!getModel().isSwitcherShown()) {
             tabViewRecycler.removeAll();
@@ -3301,6 +3564,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
 
         adaptEmptyView(
                 getModel().isSwitcherShown() ? getModel().getEmptyViewAnimationDuration() : 0);
+        registerPrebindingIdleHandler();
     }
 
     @Override
@@ -3362,30 +3626,42 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
 
     public final void onStartOvershoot(final float position) {
         startOvershoot(position);
-        getLogger().logVerbose(getClass(),
-                "Overshooting at the start using a position of " + position + " pixels");
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Overshooting at the start using a position of " + position + " pixels");
+        }
     }
 
     @Override
     public final void onTiltOnStartOvershoot(final float angle) {
         tiltOnStartOvershoot(angle);
-        getLogger().logVerbose(getClass(),
-                "Tilting on start overshoot using an angle of " + angle + " degrees");
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Tilting on start overshoot using an angle of " + angle + " degrees");
+        }
     }
 
     @Override
     public final void onTiltOnEndOvershoot(final float angle) {
         tiltOnEndOvershoot(angle);
-        getLogger().logVerbose(getClass(),
-                "Tilting on end overshoot using an angle of " + angle + " degrees");
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Tilting on end overshoot using an angle of " + angle + " degrees");
+        }
     }
 
     @Override
     public final void onSwipe(@NonNull final TabItem tabItem, final float distance) {
         swipe(tabItem, distance);
-        getLogger().logVerbose(getClass(),
-                "Swiping tab at index " + tabItem.getIndex() + ". Current swipe distance is " +
-                        distance + " pixels");
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Swiping tab at index " + tabItem.getIndex() + ". Current swipe distance is " +
+                            distance + " pixels");
+        }
     }
 
     @Override
@@ -3405,13 +3681,16 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                     createSwipeAnimationListener(tabItem));
         }
 
-        getLogger().logVerbose(getClass(),
-                "Ended swiping tab at index " + tabItem.getIndex() + ". Tab will " +
-                        (remove ? "" : "not ") + "be removed");
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Ended swiping tab at index " + tabItem.getIndex() + ". Tab will " +
+                            (remove ? "" : "not ") + "be removed");
+        }
     }
 
     @Override
     public final void onSwitchingBetweenTabs(final int selectedTabIndex, final float distance) {
+        switchingBetweenTabs = true;
         TabItem tabItem = TabItem.create(getModel(), getTabViewRecycler(), selectedTabIndex);
 
         if (distance == 0 || (distance > 0 && selectedTabIndex < getModel().getCount() - 1) ||
@@ -3435,8 +3714,11 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
             getArithmetics().setPosition(Axis.X_AXIS, tabItem, position);
         }
 
-        getLogger().logVerbose(getClass(), "Swiping content of tab at index " + selectedTabIndex +
-                ". Current swipe distance is " + distance + " pixels");
+        if (isLoggable(LogLevel.VERBOSE)) {
+            getLogger().logVerbose(getClass(),
+                    "Swiping content of tab at index " + selectedTabIndex +
+                            ". Current swipe distance is " + distance + " pixels");
+        }
     }
 
     @Override
@@ -3445,6 +3727,7 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                                                   final boolean selectionChanged,
                                                   final float velocity,
                                                   final long animationDuration) {
+        switchingBetweenTabs = false;
         TabItem selectedTabItem =
                 TabItem.create(getModel(), getTabViewRecycler(), selectedTabIndex);
         animateSwipe(selectedTabItem, 0, true, animationDuration, velocity);
@@ -3472,6 +3755,8 @@ public class PhoneTabSwitcherLayout extends AbstractTabSwitcherLayout
                     left ? (width + swipedTabDistance) * -1 : width + swipedTabDistance;
             animateSwipe(neighbor, targetPosition, false, animationDuration, velocity);
         }
+
+        registerPrebindingIdleHandler();
     }
 
     @Override
@@ -22,13 +22,19 @@ import android.view.ViewGroup;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.widget.ImageView;
 
+import java.util.Map;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.collection.LruCache;
 import androidx.core.util.Pair;
 import de.mrapp.android.tabswitcher.Tab;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.android.tabswitcher.model.MetricsRecorder;
 import de.mrapp.android.tabswitcher.model.Model;
+import de.mrapp.android.tabswitcher.model.PerformanceEventLog.EventType;
 import de.mrapp.android.tabswitcher.model.TabItem;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
 import de.mrapp.android.util.multithreading.AbstractDataBinder;
 import de.mrapp.android.util.view.ViewRecycler;
 import de.mrapp.util.Condition;
@@ -42,6 +48,21 @@ import de.mrapp.util.Condition;
  */
 public class PreviewDataBinder extends AbstractDataBinder<Bitmap, Tab, ImageView, TabItem> {
 
+    /**
+     * The name of the trace section, which spans the preparation of a preview.
+     */
+    private static final String PRE_EXECUTE_TRACE_SECTION = "TabSwitcher#preparePreview";
+
+    /**
+     * The name of the trace section, which spans the rendering of a preview.
+     */
+    private static final String RENDER_TRACE_SECTION = "TabSwitcher#renderPreview";
+
+    /**
+     * The name of the trace section, which spans the display of a rendered preview.
+     */
+    private static final String POST_EXECUTE_TRACE_SECTION = "TabSwitcher#showPreview";
+
     /**
      * The parent view of the tab switcher, the tabs belong to.
      */
@@ -57,6 +78,60 @@ public class PreviewDataBinder extends AbstractDataBinder<Bitmap, Tab, ImageView
      */
     private final Model model;
 
+    /**
+     * The recorder, which is used to collect the performance metrics of the tab switcher.
+     */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * A map, which contains the views, which are associated with tabs, that have been inflated and
+     * bound ahead of time, but are not part of the view hierarchy yet.
+     */
+    private final Map<Tab, View> preboundContentViews;
+
+    /**
+     * The cache, which is used to store the rendered previews.
+     */
+    private final LruCache<Tab, Bitmap> cache;
+
+    /**
+     * The size of the most recently rendered preview in bytes.
+     */
+    private volatile long previewSize;
+
+    /**
+     * The number of previews, which are currently rendered.
+     */
+    private int pendingRenderCount;
+
+    /**
+     * Creates and returns the cache, which is used to store the preview images of tabs.
+     *
+     * @param metricsRecorder
+     *         The recorder, which should be notified, when preview images are evicted from the
+     *         cache, as an instance of the class {@link MetricsRecorder}. The recorder may not be
+     *         null
+     * @return The cache, which has been created, as an instance of the class LruCache. The cache
+     * may not be null
+     */
+    @NonNull
+    private static LruCache<Tab, Bitmap> createCache(
+            @NonNull final MetricsRecorder metricsRecorder) {
+        return new LruCache<Tab, Bitmap>(7) {
+
+            @Override
+            protected void entryRemoved(final boolean evicted, @NonNull final Tab key,
+                                        @NonNull final Bitmap oldValue,
+                                        @Nullable final Bitmap newValue) {
+                if (evicted) {
+                    metricsRecorder.increment(Counter.PREVIEW_CACHE_EVICTIONS);
+                    metricsRecorder.getEventLog().record(EventType.PREVIEW_CACHE_EVICTED);
+                }
+            }
+
+        };
+    }
+
     /**
      * Creates a new data binder, which allows to asynchronously render preview images of tabs and
      * display them afterwards.
@@ -71,35 +146,145 @@ public class PreviewDataBinder extends AbstractDataBinder<Bitmap, Tab, ImageView
      * @param model
      *         The model of the tab switcher, the tabs belong to, as an instance of the type {@link
      *         Model}. The model may not be null
+     * @param metricsRecorder
+     *         The recorder, which should be used to collect the performance metrics of the tab
+     *         switcher, as an instance of the class {@link MetricsRecorder}. The recorder may not
+     *         be null
+     * @param preboundContentViews
+     *         A map, which contains the views, which are associated with tabs, that have been
+     *         inflated and bound ahead of time, but are not part of the view hierarchy yet, as an
+     *         instance of the type {@link Map}. The map may not be null
      */
     public PreviewDataBinder(@NonNull final ViewGroup parent,
                              @NonNull final ViewRecycler<Tab, Void> contentViewRecycler,
-                             @NonNull final Model model) {
-        super(parent.getContext().getApplicationContext(), new LruCache<Tab, Bitmap>(7));
+                             @NonNull final Model model,
+                             @NonNull final MetricsRecorder metricsRecorder,
+                             @NonNull final Map<Tab, View> preboundContentViews) {
+        this(parent, contentViewRecycler, model, metricsRecorder, preboundContentViews,
+                createCache(metricsRecorder));
+    }
+
+    /**
+     * Creates a new data binder, which allows to asynchronously render preview images of tabs and
+     * display them afterwards.
+     *
+     * @param parent
+     *         The parent view of the tab switcher, the tabs belong to, as an instance of the class
+     *         {@link ViewGroup}. The parent may not be null
+     * @param contentViewRecycler
+     *         The view recycler, which should be used to inflate the views, which are associated
+     *         with tabs, as an instance of the class ViewRecycler. The view recycler may not be
+     *         null
+     * @param model
+     *         The model of the tab switcher, the tabs belong to, as an instance of the type {@link
+     *         Model}. The model may not be null
+     * @param metricsRecorder
+     *         The recorder, which should be used to collect the performance metrics of the tab
+     *         switcher, as an instance of the class {@link MetricsRecorder}. The recorder may not
+     *         be null
+     * @param preboundContentViews
+     *         A map, which contains the views, which are associated with tabs, that have been
+     *         inflated and bound ahead of time, but are not part of the view hierarchy yet, as an
+     *         instance of the type {@link Map}. The map may not be null
+     * @param cache
+     *         The cache, which should be used to store the rendered previews, as an instance of the
+     *         class LruCache. The cache may not be null
+     */
+    private PreviewDataBinder(@NonNull final ViewGroup parent,
+                              @NonNull final ViewRecycler<Tab, Void> contentViewRecycler,
+                              @NonNull final Model model,
+                              @NonNull final MetricsRecorder metricsRecorder,
+                              @NonNull final Map<Tab, View> preboundContentViews,
+                              @NonNull final LruCache<Tab, Bitmap> cache) {
+        super(parent.getContext().getApplicationContext(), cache);
         Condition.INSTANCE.ensureNotNull(parent, "The parent may not be null");
         Condition.INSTANCE
                 .ensureNotNull(contentViewRecycler, "The content view recycler may not be null");
+        Condition.INSTANCE.ensureNotNull(metricsRecorder, "The metrics recorder may not be null");
+        Condition.INSTANCE.ensureNotNull(preboundContentViews, "The map may not be null");
         this.parent = parent;
         this.contentViewRecycler = contentViewRecycler;
         this.model = model;
+        this.metricsRecorder = metricsRecorder;
+        this.preboundContentViews = preboundContentViews;
+        this.cache = cache;
+        this.previewSize = 0;
+        this.pendingRenderCount = 0;
+    }
+
+    /**
+     * Removes the previously rendered preview of a specific tab from the cache.
+     *
+     * @param tab
+     *         The tab, whose preview should be removed, as an instance of the class {@link Tab}.
+     *         The tab may not be null
+     */
+    public final void removeCachedPreview(@NonNull final Tab tab) {
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        cache.remove(tab);
+    }
+
+    /**
+     * Returns the number of previews, which are currently cached.
+     *
+     * @return The number of previews, which are currently cached, as an {@link Integer} value
+     */
+    public final int getCachedPreviewCount() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the approximate size of the previews, which are currently cached. As all previews
+     * are rendered using the size of the tab switcher, the size is estimated based on the size of
+     * the most recently rendered preview.
+     *
+     * @return The approximate size of the previews, which are currently cached, in bytes as a
+     * {@link Long} value
+     */
+    public final long getCachedPreviewSize() {
+        return cache.size() * previewSize;
+    }
+
+    /**
+     * Returns the number of previews, which are currently rendered.
+     *
+     * @return The number of previews, which are currently rendered, as an {@link Integer} value
+     */
+    public final int getPendingRenderCount() {
+        return pendingRenderCount;
+    }
+
+    /**
+     * Resets the number of previews, which are currently rendered. This method must be called, when
+     * rendering previews has been canceled.
+     */
+    public final void resetPendingRenderCount() {
+        pendingRenderCount = 0;
     }
 
     @Override
     protected final void onPreExecute(@NonNull final ImageView view,
                                       @NonNull final TabItem... params) {
+        boolean traced = TraceHelper.beginSection(PRE_EXECUTE_TRACE_SECTION);
+        pendingRenderCount++;
         TabItem tabItem = params[0];
         PhoneTabViewHolder viewHolder = (PhoneTabViewHolder) tabItem.getViewHolder();
         View content = viewHolder.content;
         Tab tab = tabItem.getTab();
 
         if (content == null) {
-            Pair<View, ?> pair = contentViewRecycler.inflate(tab, viewHolder.contentContainer);
-            content = pair.first;
+            content = preboundContentViews.remove(tab);
+
+            if (content == null) {
+                Pair<View, ?> pair = contentViewRecycler.inflate(tab, viewHolder.contentContainer);
+                content = pair.first;
+            }
         } else {
             contentViewRecycler.getAdapter().onShowView(getContext(), content, tab, false);
         }
 
         viewHolder.content = content;
+        TraceHelper.endSection(traced);
     }
 
     @NonNull
@@ -110,6 +295,9 @@ public class PreviewDataBinder extends AbstractDataBinder<Bitmap, Tab, ImageView
             Looper.prepare();
         }
 
+        boolean traced = TraceHelper.beginSection(RENDER_TRACE_SECTION);
+        long startTime = System.nanoTime();
+        metricsRecorder.getEventLog().record(EventType.PREVIEW_RENDER_STARTED);
         TabItem tabItem = params[0];
         PhoneTabViewHolder viewHolder = (PhoneTabViewHolder) tabItem.getViewHolder();
         View content = viewHolder.content;
@@ -122,12 +310,19 @@ public class PreviewDataBinder extends AbstractDataBinder<Bitmap, Tab, ImageView
         Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
         Canvas canvas = new Canvas(bitmap);
         content.draw(canvas);
+        previewSize = bitmap.getByteCount();
+        long renderTime = System.nanoTime() - startTime;
+        metricsRecorder.recordPreviewRender(renderTime);
+        metricsRecorder.getEventLog().record(EventType.PREVIEW_RENDER_ENDED, renderTime, -1);
+        TraceHelper.endSection(traced);
         return bitmap;
     }
 
     @Override
     protected final void onPostExecute(@NonNull final ImageView view, @Nullable final Bitmap data,
                                        final long duration, @NonNull final TabItem... params) {
+        boolean traced = TraceHelper.beginSection(POST_EXECUTE_TRACE_SECTION);
+        pendingRenderCount = Math.max(pendingRenderCount - 1, 0);
         view.setImageBitmap(data);
 
         if (data != null) {
@@ -146,6 +341,7 @@ public class PreviewDataBinder extends AbstractDataBinder<Bitmap, Tab, ImageView
         view.setVisibility(data != null ? View.VISIBLE : View.GONE);
         TabItem tabItem = params[0];
         contentViewRecycler.remove(tabItem.getTab());
+        TraceHelper.endSection(traced);
     }
 
 }
\ No newline at end of file
@@ -60,19 +60,16 @@ public class TabletDragTabsEventHandler
     private final int tabContainerHeight;
 
     /**
-     * Calculates and returns the position of a specific item, in relation to
-     * the position of the tab switcher.
+     * Returns the offset, which must be added to the position of an item in order to obtain its
+     * position in relation to the position of the tab switcher.
      *
-     * @param item
-     *         The item, whose position should be returned, as an instance of the class {@link
-     *         AbstractItem}. The item may not be null
-     * @return The position, which has been calculated, as a {@link Float} value
+     * @return The offset in pixels as a {@link Float} value
      */
-    private float getViewPosition(@NonNull final AbstractItem item) {
+    private float getViewPositionOffset() {
         Toolbar[] toolbars = getTabSwitcher().getToolbars();
         float toolbarWidth = getTabSwitcher().areToolbarsShown() && toolbars != null ?
                 Math.max(0, toolbars[TabSwitcher.PRIMARY_TOOLBAR_INDEX].getWidth() - tabOffset) : 0;
-        return getArithmetics().getPosition(Axis.DRAGGING_AXIS, item) + toolbarWidth +
+        return toolbarWidth +
                 getArithmetics().getTabSwitcherPadding(Axis.DRAGGING_AXIS, Gravity.START);
     }
 
@@ -143,11 +140,13 @@ public class TabletDragTabsEventHandler
                 (getTabSwitcher().isAddTabButtonShown() ? 1 : 0);
         ItemIterator.Builder builder = new ItemIterator.Builder(getTabSwitcher(), viewRecycler);
         AbstractItemIterator iterator = builder.start(selectedItemIndex).create();
+        float offset = getViewPositionOffset();
         AbstractItem item;
 
         while ((item = iterator.next()) != null) {
             if (isItemFocusable(item, selectedItemIndex, iterator.peek())) {
-                float viewPosition = getViewPosition(item);
+                float viewPosition =
+                        getArithmetics().getPosition(Axis.DRAGGING_AXIS, item) + offset;
                 float viewWidth = getArithmetics().getSize(Axis.DRAGGING_AXIS, item);
 
                 if (position > viewPosition + viewWidth) {
@@ -163,10 +162,13 @@ public class TabletDragTabsEventHandler
 
             while ((item = iterator.next()) != null) {
                 if (isItemFocusable(item, selectedItemIndex, iterator.previous())) {
-                    float viewPosition = getViewPosition(item);
+                    float viewPosition =
+                            getArithmetics().getPosition(Axis.DRAGGING_AXIS, item) + offset;
                     float viewWidth = getArithmetics().getSize(Axis.DRAGGING_AXIS, item);
 
-                    if (position >= viewPosition && position <= viewPosition + viewWidth) {
+                    if (position < viewPosition) {
+                        break;
+                    } else if (position <= viewPosition + viewWidth) {
                         return item;
                     }
                 }
@@ -182,12 +182,14 @@ public class TabletTabRecyclerAdapter extends AbstractTabRecyclerAdapter {
         }
     }
 
-    @NonNull
     @Override
-    protected final View onInflateTabView(@NonNull final LayoutInflater inflater,
-                                          @Nullable final ViewGroup parent,
+    protected final int getTabViewLayout() {
+        return R.layout.tablet_tab;
+    }
+
+    @Override
+    protected final void onInflateTabView(@NonNull final View view,
                                           @NonNull final AbstractTabViewHolder viewHolder) {
-        View view = inflater.inflate(R.layout.tablet_tab, parent, false);
         StateListDrawable backgroundDrawable = new StateListDrawable();
         Drawable defaultDrawable = ContextCompat
                 .getDrawable(getModel().getContext(), R.drawable.tablet_tab_background);
@@ -196,7 +198,6 @@ public class TabletTabRecyclerAdapter extends AbstractTabRecyclerAdapter {
         backgroundDrawable.addState(new int[]{android.R.attr.state_selected}, selectedDrawable);
         backgroundDrawable.addState(StateSet.WILD_CARD, defaultDrawable);
         ViewUtil.setBackground(view, backgroundDrawable);
-        return view;
     }
 
     @Override
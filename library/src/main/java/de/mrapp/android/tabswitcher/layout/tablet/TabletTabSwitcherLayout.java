@@ -36,6 +36,7 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.widget.Toolbar;
 import androidx.core.util.Pair;
 import de.mrapp.android.tabswitcher.Animation;
+import de.mrapp.android.tabswitcher.AnimationType;
 import de.mrapp.android.tabswitcher.R;
 import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabSwitcher;
@@ -56,9 +57,10 @@ import de.mrapp.android.tabswitcher.model.TabItem;
 import de.mrapp.android.tabswitcher.model.TabSwitcherModel;
 import de.mrapp.android.tabswitcher.model.TabSwitcherStyle;
 import de.mrapp.android.tabswitcher.model.Tag;
+import de.mrapp.android.tabswitcher.util.TraceHelper;
+import de.mrapp.android.util.logging.LogLevel;
 import de.mrapp.android.util.view.AbstractViewRecycler;
 import de.mrapp.android.util.view.AttachedViewRecycler;
-import de.mrapp.util.Condition;
 
 import static de.mrapp.android.util.DisplayUtil.dpToPixels;
 
@@ -100,19 +102,10 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
             } else if (o2 instanceof AddTabItem) {
                 return 1;
             } else {
-                TabItem tabItem1 = (TabItem) o1;
-                TabItem tabItem2 = (TabItem) o2;
-                Tab tab1 = tabItem1.getTab();
-                Tab tab2 = tabItem2.getTab();
-                int index1 = getTabSwitcher().indexOf(tab1);
-                index1 = index1 == -1 ? o1.getIndex() : index1;
-                int index2 = getTabSwitcher().indexOf(tab2);
-                index2 = index2 == -1 ? o2.getIndex() : index2;
-                Condition.INSTANCE.ensureNotEqual(index1, -1,
-                        "Tab " + tab1 + " not contained by tab switcher", RuntimeException.class);
-                Condition.INSTANCE.ensureNotEqual(index2, -1,
-                        "Tab " + tab2 + " not contained by tab switcher", RuntimeException.class);
-                int selectedTabIndex = getTabSwitcher().getSelectedTabIndex();
+                int index1 = indexOf((TabItem) o1);
+                int index2 = indexOf((TabItem) o2);
+                Tab selectedTab = getTabSwitcher().getSelectedTab();
+                int selectedTabIndex = selectedTab != null ? indexOf(selectedTab) : -1;
 
                 if (index1 < selectedTabIndex) {
                     if (index2 == selectedTabIndex) {
@@ -137,6 +130,12 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
         }
     }
 
+    /**
+     * The name of the trace section, which spans the calculation of the tabs' initial positions.
+     */
+    private static final String CALCULATE_INITIAL_ITEMS_TRACE_SECTION =
+            "TabSwitcher#calculateInitialItems";
+
     /**
      * The number of tabs, which are contained by a stack.
      */
@@ -472,6 +471,7 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
     @NonNull
     private AbstractItem[] calculateInitialItems(final int referenceTabIndex,
                                                  final float referenceTabPosition) {
+        boolean traced = TraceHelper.beginSection(CALCULATE_INITIAL_ITEMS_TRACE_SECTION);
         dragHandler.reset();
         setFirstVisibleIndex(-1);
         AbstractItem[] items = new AbstractItem[getItemCount()];
@@ -560,6 +560,7 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
         }
 
         dragHandler.setCallback(this);
+        TraceHelper.endSection(traced);
         return items;
     }
 
@@ -592,9 +593,10 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
             long duration = velocity > 0 ? Math.round((distance / velocity) * 1000) :
                     Math.round(animationDuration * (distance / maxDistance));
             ViewPropertyAnimator animation = view.animate();
-            animation.setListener(new AnimationListenerWrapper(
-                    selected ? createSwipeSelectedTabAnimationListener(tabItem) :
-                            createSwipeNeighborAnimationListener(tabItem)));
+            animation.setListener(new AnimationListenerWrapper(AnimationType.SWITCH_TABS,
+                    createHardwareLayerListener(view,
+                            selected ? createSwipeSelectedTabAnimationListener(tabItem) :
+                                    createSwipeNeighborAnimationListener(tabItem))));
             animation.setInterpolator(new AccelerateDecelerateInterpolator());
             animation.setDuration(duration);
             animation.setStartDelay(0);
@@ -871,6 +873,21 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
         return tabRecyclerAdapter;
     }
 
+    @Override
+    public final void clearCachedPreviews() {
+
+    }
+
+    @Override
+    public final void clearCachedPreview(@NonNull final Tab tab) {
+
+    }
+
+    @Override
+    public final void adaptNeighborPrebinding() {
+
+    }
+
     @Override
     protected final void inflateAndUpdateView(@NonNull final AbstractItem item,
                                               final boolean dragging,
@@ -1278,9 +1295,11 @@ public class TabletTabSwitcherLayout extends AbstractTabSwitcherLayout implement
                 view.setX(position);
             }
 
-            getLogger().logVerbose(getClass(),
-                    "Swiping content of tab at index " + selectedTabIndex +
-                            ". Current swipe distance is " + distance + " pixels");
+            if (isLoggable(LogLevel.VERBOSE)) {
+                getLogger().logVerbose(getClass(),
+                        "Swiping content of tab at index " + selectedTabIndex +
+                                ". Current swipe distance is " + distance + " pixels");
+            }
         }
     }
 
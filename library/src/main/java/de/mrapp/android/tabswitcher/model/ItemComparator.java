@@ -14,6 +14,8 @@
 package de.mrapp.android.tabswitcher.model;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 import androidx.annotation.NonNull;
 import de.mrapp.android.tabswitcher.Tab;
@@ -21,7 +23,10 @@ import de.mrapp.android.tabswitcher.TabSwitcher;
 import de.mrapp.util.Condition;
 
 /**
- * A comparator, which allows to compare two instances of the class {@link AbstractItem}.
+ * A comparator, which allows to compare two instances of the class {@link AbstractItem}. The
+ * indices of the tabs are cached, when they are used as sort keys for the first time. Cached indices
+ * are validated before being used. If the order of the tabs has been changed, the indices of all
+ * tabs are cached again.
  *
  * @author Michael Rapp
  * @since 1.0.0
@@ -33,6 +38,23 @@ public class ItemComparator implements Comparator<AbstractItem> {
      */
     private final TabSwitcher tabSwitcher;
 
+    /**
+     * A map, which contains the cached indices of tabs. Only tabs, which are contained by the tab
+     * switcher, are cached.
+     */
+    private final Map<Tab, Integer> indices;
+
+    /**
+     * Caches the indices of all tabs, which are contained by the tab switcher.
+     */
+    private void cacheIndices() {
+        indices.clear();
+
+        for (int i = 0; i < tabSwitcher.getCount(); i++) {
+            indices.put(tabSwitcher.getTab(i), i);
+        }
+    }
+
     /**
      * Returns the tab switcher, the items, which are compared by the comparator, belong to.
      *
@@ -55,6 +77,59 @@ public class ItemComparator implements Comparator<AbstractItem> {
     public ItemComparator(@NonNull final TabSwitcher tabSwitcher) {
         Condition.INSTANCE.ensureNotNull(tabSwitcher, "The tab switcher may not be null");
         this.tabSwitcher = tabSwitcher;
+        this.indices = new HashMap<>();
+    }
+
+    /**
+     * Returns the index of a specific tab. The index is retrieved from the cache, if it is still
+     * valid. Tabs, which are not contained by the tab switcher, are never cached, as they might be
+     * added again later.
+     *
+     * @param tab
+     *         The tab, whose index should be returned, as an instance of the class {@link Tab}. The
+     *         tab may not be null
+     * @return The index of the given tab as an {@link Integer} value or -1, if the tab is not
+     * contained by the tab switcher
+     */
+    protected final int indexOf(@NonNull final Tab tab) {
+        Integer index = indices.get(tab);
+
+        if (index != null && index < tabSwitcher.getCount() && tabSwitcher.getTab(index) == tab) {
+            return index;
+        }
+
+        if (tabSwitcher.indexOf(tab) == -1) {
+            indices.remove(tab);
+            return -1;
+        }
+
+        cacheIndices();
+        return indices.get(tab);
+    }
+
+    /**
+     * Returns the index of the tab, which corresponds to a specific item. If the tab is not
+     * contained by the tab switcher, the index of the item is returned instead.
+     *
+     * @param item
+     *         The item, whose index should be returned, as an instance of the class {@link
+     *         TabItem}. The item may not be null
+     * @return The index of the tab, which corresponds to the given item, as an {@link Integer}
+     * value
+     */
+    protected final int indexOf(@NonNull final TabItem item) {
+        Tab tab = item.getTab();
+        int index = indexOf(tab);
+
+        if (index == -1) {
+            index = item.getIndex();
+
+            if (index == -1) {
+                throw new RuntimeException("Tab " + tab + " not contained by tab switcher");
+            }
+        }
+
+        return index;
     }
 
     @Override
@@ -66,20 +141,8 @@ public class ItemComparator implements Comparator<AbstractItem> {
         } else if (o2 instanceof AddTabItem) {
             return 1;
         } else if (o1 instanceof TabItem && o2 instanceof TabItem) {
-            TabItem item1 = (TabItem) o1;
-            TabItem item2 = (TabItem) o2;
-            Tab tab1 = item1.getTab();
-            Tab tab2 = item2.getTab();
-            int index1 = tabSwitcher.indexOf(tab1);
-            index1 = index1 == -1 ? item1.getIndex() : index1;
-            int index2 = tabSwitcher.indexOf(tab2);
-            index2 = index2 == -1 ? item2.getIndex() : index2;
-            Condition.INSTANCE
-                    .ensureNotEqual(index1, -1, "Tab " + tab1 + " not contained by tab switcher",
-                            RuntimeException.class);
-            Condition.INSTANCE
-                    .ensureNotEqual(index2, -1, "Tab " + tab2 + " not contained by tab switcher",
-                            RuntimeException.class);
+            int index1 = indexOf((TabItem) o1);
+            int index2 = indexOf((TabItem) o2);
             return index1 < index2 ? -1 : 1;
         } else {
             throw new RuntimeException("Unknown item types");
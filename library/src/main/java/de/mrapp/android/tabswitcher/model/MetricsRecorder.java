@@ -0,0 +1,290 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.model;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.tabswitcher.AnimationType;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Histogram;
+
+/**
+ * A recorder, which allows to collect the performance metrics of a tab switcher. As long as the
+ * recorder is disabled, recording a metric only requires to check a volatile flag. Metrics may be
+ * recorded on any thread.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class MetricsRecorder {
+
+    /**
+     * Allows to collect durations in order to create a {@link Histogram}.
+     */
+    private static class HistogramRecorder {
+
+        /**
+         * An array, which contains the number of durations per bucket.
+         */
+        private final long[] bucketCounts = new long[Histogram.getBucketCount()];
+
+        /**
+         * The sum of all durations in nanoseconds.
+         */
+        private long totalTime;
+
+        /**
+         * The maximum duration in nanoseconds.
+         */
+        private long maxTime;
+
+        /**
+         * Records a specific duration.
+         *
+         * @param nanos
+         *         The duration, which should be recorded, in nanoseconds as a {@link Long} value
+         */
+        void record(final long nanos) {
+            long duration = Math.max(nanos, 0);
+            bucketCounts[Histogram.getBucketIndex(duration)]++;
+            totalTime += duration;
+            maxTime = Math.max(maxTime, duration);
+        }
+
+        /**
+         * Removes all durations, which have been recorded.
+         */
+        void reset() {
+            Arrays.fill(bucketCounts, 0);
+            totalTime = 0;
+            maxTime = 0;
+        }
+
+        /**
+         * Creates and returns a histogram, which summarizes the durations, which have been
+         * recorded.
+         *
+         * @return The histogram, which has been created, as an instance of the class {@link
+         * Histogram}. The histogram may not be null
+         */
+        @NonNull
+        Histogram createHistogram() {
+            return new Histogram(bucketCounts, totalTime, maxTime);
+        }
+
+    }
+
+    /**
+     * An array, which contains the values of the counters.
+     */
+    private final long[] counters;
+
+    /**
+     * An array, which contains the number of animations per type.
+     */
+    private final long[] animationCounts;
+
+    /**
+     * The recorder, which collects the times needed to render preview images of tabs.
+     */
+    private final HistogramRecorder previewRenderTimes;
+
+    /**
+     * The recorder, which collects the times, pending actions have been waiting to be executed.
+     */
+    private final HistogramRecorder pendingActionWaitTimes;
+
+    /**
+     * The number of actions, which are currently waiting to be executed.
+     */
+    private int pendingActionQueueDepth;
+
+    /**
+     * The maximum number of actions, which have been waiting to be executed at the same time.
+     */
+    private int maxPendingActionQueueDepth;
+
+    /**
+     * The log, which is used to record timestamped performance events.
+     */
+    private final PerformanceEventLog eventLog;
+
+    /**
+     * True, if metrics are recorded, false otherwise.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Creates a new recorder, which allows to collect the performance metrics of a tab switcher.
+     * Initially, the recorder is disabled.
+     */
+    public MetricsRecorder() {
+        this.counters = new long[Counter.values().length];
+        this.animationCounts = new long[AnimationType.values().length];
+        this.previewRenderTimes = new HistogramRecorder();
+        this.pendingActionWaitTimes = new HistogramRecorder();
+        this.pendingActionQueueDepth = 0;
+        this.maxPendingActionQueueDepth = 0;
+        this.eventLog = new PerformanceEventLog();
+        this.enabled = false;
+    }
+
+    /**
+     * Returns, whether metrics are recorded, or not.
+     *
+     * @return True, if metrics are recorded, false otherwise
+     */
+    public final boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets, whether metrics should be recorded, or not. Metrics, which have already been recorded,
+     * are retained.
+     *
+     * @param enabled
+     *         True, if metrics should be recorded, false otherwise
+     */
+    public final void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the log, which is used to record timestamped performance events. The log is enabled
+     * independently from the recorder.
+     *
+     * @return The log, which is used to record timestamped performance events, as an instance of
+     * the class {@link PerformanceEventLog}. The log may not be null
+     */
+    @NonNull
+    public final PerformanceEventLog getEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * Returns the current value of a specific counter. Unlike the method {@link #getMetrics()},
+     * this method does not create a snapshot of all metrics.
+     *
+     * @param counter
+     *         The counter, whose value should be returned, as a value of the enum {@link Counter}.
+     *         The counter may not be null
+     * @return The value of the given counter as a {@link Long} value
+     */
+    public final synchronized long getCount(@NonNull final Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    /**
+     * Increments a specific counter.
+     *
+     * @param counter
+     *         The counter, which should be incremented, as a value of the enum {@link Counter}. The
+     *         counter may not be null
+     */
+    public final void increment(@NonNull final Counter counter) {
+        if (enabled) {
+            synchronized (this) {
+                counters[counter.ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Records, that an animation of a specific type has been started.
+     *
+     * @param animationType
+     *         The type of the animation as a value of the enum {@link AnimationType}. The type may
+     *         not be null
+     */
+    public final void recordAnimation(@NonNull final AnimationType animationType) {
+        if (enabled) {
+            synchronized (this) {
+                animationCounts[animationType.ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Records, that the preview image of a tab has been rendered.
+     *
+     * @param nanos
+     *         The time needed to render the preview image in nanoseconds as a {@link Long} value
+     */
+    public final void recordPreviewRender(final long nanos) {
+        if (enabled) {
+            synchronized (this) {
+                counters[Counter.PREVIEW_RENDERS.ordinal()]++;
+                previewRenderTimes.record(nanos);
+            }
+        }
+    }
+
+    /**
+     * Records the number of actions, which are currently waiting to be executed.
+     *
+     * @param depth
+     *         The number of actions, which are currently waiting to be executed, as an {@link
+     *         Integer} value
+     */
+    public final void recordPendingActionQueueDepth(final int depth) {
+        if (enabled) {
+            synchronized (this) {
+                pendingActionQueueDepth = depth;
+                maxPendingActionQueueDepth = Math.max(maxPendingActionQueueDepth, depth);
+            }
+        }
+    }
+
+    /**
+     * Records the time, a pending action has been waiting to be executed.
+     *
+     * @param nanos
+     *         The time, the action has been waiting, in nanoseconds as a {@link Long} value
+     */
+    public final void recordPendingActionWaitTime(final long nanos) {
+        if (enabled) {
+            synchronized (this) {
+                pendingActionWaitTimes.record(nanos);
+            }
+        }
+    }
+
+    /**
+     * Removes all metrics, which have been recorded.
+     */
+    public final synchronized void reset() {
+        Arrays.fill(counters, 0);
+        Arrays.fill(animationCounts, 0);
+        previewRenderTimes.reset();
+        pendingActionWaitTimes.reset();
+        pendingActionQueueDepth = 0;
+        maxPendingActionQueueDepth = 0;
+    }
+
+    /**
+     * Creates and returns a snapshot of the metrics, which have been recorded.
+     *
+     * @return The snapshot, which has been created, as an instance of the class {@link
+     * TabSwitcherMetrics}. The snapshot may not be null
+     */
+    @NonNull
+    public final synchronized TabSwitcherMetrics getMetrics() {
+        return new TabSwitcherMetrics(counters, animationCounts,
+                previewRenderTimes.createHistogram(), pendingActionWaitTimes.createHistogram(),
+                pendingActionQueueDepth, maxPendingActionQueueDepth);
+    }
+
+}
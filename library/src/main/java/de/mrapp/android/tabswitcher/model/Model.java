@@ -34,10 +34,12 @@ import androidx.annotation.StringRes;
 import androidx.appcompat.widget.Toolbar.OnMenuItemClickListener;
 import de.mrapp.android.tabswitcher.AddTabButtonListener;
 import de.mrapp.android.tabswitcher.Animation;
+import de.mrapp.android.tabswitcher.FrameTimingListener;
 import de.mrapp.android.tabswitcher.SwipeAnimation;
 import de.mrapp.android.tabswitcher.SwipeAnimation.SwipeDirection;
 import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabCloseListener;
+import de.mrapp.android.tabswitcher.TabDiscardListener;
 import de.mrapp.android.tabswitcher.TabPreviewListener;
 import de.mrapp.android.tabswitcher.TabSwitcher;
 import de.mrapp.android.tabswitcher.TabSwitcherDecorator;
@@ -1348,4 +1350,45 @@ public interface Model extends Iterable<Tab> {
      */
     void removeTabPreviewListener(@NonNull TabPreviewListener listener);
 
+    /**
+     * Adds a new listener, which should be notified about the frame timings, which have been
+     * recorded while the animations of the tab switcher were running. Frame timings are only
+     * recorded on devices, which run Android 4.1 (API level 16) or a more recent version.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         FrameTimingListener}. The listener may not be null
+     */
+    void addFrameTimingListener(@NonNull FrameTimingListener listener);
+
+    /**
+     * Removes a specific listener, which should not be notified about the frame timings, which
+     * have been recorded while the animations of the tab switcher were running, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         FrameTimingListener}. The listener may not be null
+     */
+    void removeFrameTimingListener(@NonNull FrameTimingListener listener);
+
+    /**
+     * Adds a new listener, which should be notified, when a tab has been discarded in order to
+     * reduce the memory consumption.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         TabDiscardListener}. The listener may not be null
+     */
+    void addTabDiscardListener(@NonNull TabDiscardListener listener);
+
+    /**
+     * Removes a specific listener, which should not be notified, when a tab has been discarded,
+     * anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         TabDiscardListener}. The listener may not be null
+     */
+    void removeTabDiscardListener(@NonNull TabDiscardListener listener);
+
 }
\ No newline at end of file
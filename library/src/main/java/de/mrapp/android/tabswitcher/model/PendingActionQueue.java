@@ -0,0 +1,510 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.tabswitcher.Animation;
+import de.mrapp.android.tabswitcher.SwipeAnimation;
+import de.mrapp.android.tabswitcher.Tab;
+import de.mrapp.android.tabswitcher.TabSwitcher;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+import de.mrapp.util.Condition;
+
+/**
+ * A queue, which stores the actions, which are performed on a {@link TabSwitcher}'s model, while
+ * animations are running. Instead of arbitrary runnables, adding, removing and selecting tabs is
+ * stored in the form of typed actions. This allows to fold the queue before the next action is
+ * executed: Consecutive additions of tabs are merged into a single addition, tabs, which are
+ * added and removed again without being used in the meantime, are neither added, nor removed,
+ * and consecutive selections are collapsed to the last one.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class PendingActionQueue {
+
+    /**
+     * An abstract base class for all actions, which are stored by the queue.
+     */
+    private static abstract class Action implements Runnable {
+
+        /**
+         * The time, the action has been enqueued at, in nanoseconds.
+         */
+        final long enqueueTime = System.nanoTime();
+
+    }
+
+    /**
+     * An action, which executes an arbitrary runnable. Such actions cannot be folded and prevent
+     * actions, which have been enqueued before and after them, from being folded.
+     */
+    private static class GenericAction extends Action {
+
+        /**
+         * The runnable, which is executed by the action.
+         */
+        private final Runnable runnable;
+
+        /**
+         * Creates a new action, which executes an arbitrary runnable.
+         *
+         * @param runnable
+         *         The runnable, which should be executed, as an instance of the type {@link
+         *         Runnable}. The runnable may not be null
+         */
+        GenericAction(@NonNull final Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+    }
+
+    /**
+     * An action, which adds one or several tabs to the model.
+     */
+    private class AddTabsAction extends Action {
+
+        /**
+         * An array, which contains the tabs, which should be added.
+         */
+        private Tab[] tabs;
+
+        /**
+         * The index, the tabs should be added at, or -1, if they should be added at the end.
+         */
+        private final int index;
+
+        /**
+         * The animation, which should be used to add the tabs, or null, if the default animation
+         * should be used.
+         */
+        private final Animation animation;
+
+        /**
+         * Creates a new action, which adds one or several tabs to the model.
+         *
+         * @param tabs
+         *         An array, which contains the tabs, which should be added, as an array of the type
+         *         {@link Tab}. The array may not be null
+         * @param index
+         *         The index, the tabs should be added at, as an {@link Integer} value or -1, if the
+         *         tabs should be added at the end
+         * @param animation
+         *         The animation, which should be used to add the tabs, as an instance of the class
+         *         {@link Animation} or null, if the default animation should be used
+         */
+        AddTabsAction(@NonNull final Tab[] tabs, final int index,
+                      @Nullable final Animation animation) {
+            this.tabs = tabs;
+            this.index = index;
+            this.animation = animation;
+        }
+
+        /**
+         * Returns, whether the action adds a specific tab, or not.
+         *
+         * @param tab
+         *         The tab, which should be checked, as an instance of the class {@link Tab}. The
+         *         tab may not be null
+         * @return The index of the given tab within the tabs, which are added by the action, as
+         * an {@link Integer} value or -1, if the action does not add the given tab
+         */
+        int indexOf(@NonNull final Tab tab) {
+            for (int i = 0; i < tabs.length; i++) {
+                if (tabs[i] == tab) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Excludes the tab at a specific index from the tabs, which are added by the action.
+         *
+         * @param tabIndex
+         *         The index of the tab, which should be excluded, as an {@link Integer} value
+         */
+        void exclude(final int tabIndex) {
+            Tab[] result = new Tab[tabs.length - 1];
+            System.arraycopy(tabs, 0, result, 0, tabIndex);
+            System.arraycopy(tabs, tabIndex + 1, result, tabIndex, result.length - tabIndex);
+            tabs = result;
+        }
+
+        /**
+         * Returns, whether the tabs, which are added by another action, can be added by this
+         * action instead, or not.
+         *
+         * @param other
+         *         The other action, which is executed right after this action, as an instance of
+         *         the class {@link AddTabsAction}. The action may not be null
+         * @return True, if the tabs of the given action can be added by this action, false
+         * otherwise
+         */
+        boolean canMerge(@NonNull final AddTabsAction other) {
+            if (animation == other.animation &&
+                    (animation == null || animation instanceof SwipeAnimation)) {
+                return (index == -1 && other.index == -1) ||
+                        (index != -1 && other.index == index + tabs.length);
+            }
+
+            return false;
+        }
+
+        /**
+         * Adds the tabs of another action to this action.
+         *
+         * @param other
+         *         The other action, which is executed right after this action, as an instance of
+         *         the class {@link AddTabsAction}. The action may not be null
+         */
+        void merge(@NonNull final AddTabsAction other) {
+            Tab[] result = Arrays.copyOf(tabs, tabs.length + other.tabs.length);
+            System.arraycopy(other.tabs, 0, result, tabs.length, other.tabs.length);
+            tabs = result;
+        }
+
+        @Override
+        public void run() {
+            int insertionIndex = index != -1 ? index : model.getCount();
+
+            if (tabs.length == 1) {
+                if (animation != null) {
+                    model.addTab(tabs[0], insertionIndex, animation);
+                } else {
+                    model.addTab(tabs[0], insertionIndex);
+                }
+            } else if (animation != null) {
+                model.addAllTabs(tabs, insertionIndex, animation);
+            } else {
+                model.addAllTabs(tabs, insertionIndex);
+            }
+        }
+
+    }
+
+    /**
+     * An action, which removes a tab from the model.
+     */
+    private class RemoveTabAction extends Action {
+
+        /**
+         * The tab, which should be removed.
+         */
+        private final Tab tab;
+
+        /**
+         * The animation, which should be used to remove the tab, or null, if the default
+         * animation should be used.
+         */
+        private final Animation animation;
+
+        /**
+         * Creates a new action, which removes a tab from the model.
+         *
+         * @param tab
+         *         The tab, which should be removed, as an instance of the class {@link Tab}. The tab
+         *         may not be null
+         * @param animation
+         *         The animation, which should be used to remove the tab, as an instance of the
+         *         class {@link Animation} or null, if the default animation should be used
+         */
+        RemoveTabAction(@NonNull final Tab tab, @Nullable final Animation animation) {
+            this.tab = tab;
+            this.animation = animation;
+        }
+
+        @Override
+        public void run() {
+            if (animation != null) {
+                model.removeTab(tab, animation);
+            } else {
+                model.removeTab(tab);
+            }
+        }
+
+    }
+
+    /**
+     * An action, which selects a tab.
+     */
+    private class SelectTabAction extends Action {
+
+        /**
+         * The tab, which should be selected.
+         */
+        private Tab tab;
+
+        /**
+         * Creates a new action, which selects a tab.
+         *
+         * @param tab
+         *         The tab, which should be selected, as an instance of the class {@link Tab}. The
+         *         tab may not be null
+         */
+        SelectTabAction(@NonNull final Tab tab) {
+            this.tab = tab;
+        }
+
+        @Override
+        public void run() {
+            model.selectTab(tab);
+        }
+
+    }
+
+    /**
+     * The model, the actions are performed on.
+     */
+    private final Model model;
+
+    /**
+     * A list, which contains the actions, which are currently pending.
+     */
+    private final List<Action> actions;
+
+    /**
+     * The recorder, which is used to collect the performance metrics of the tab switcher.
+     */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * Adds a specific action to the end of the queue.
+     *
+     * @param action
+     *         The action, which should be added, as an instance of the class {@link Action}. The
+     *         action may not be null
+     */
+    private void enqueue(@NonNull final Action action) {
+        actions.add(action);
+        metricsRecorder.increment(Counter.PENDING_ACTIONS);
+        metricsRecorder.recordPendingActionQueueDepth(actions.size());
+    }
+
+    /**
+     * Removes the additions and removals of tabs, which cancel each other out. An addition and a
+     * subsequent removal of the same tab are only cancelled out, if all actions in between do
+     * solely add tabs at the end or remove other tabs.
+     */
+    private void cancelAdditionsAndRemovals() {
+        int i = 0;
+
+        while (i < actions.size()) {
+            Action action = actions.get(i);
+
+            if (action instanceof RemoveTabAction &&
+                    cancelAddition(((RemoveTabAction) action).tab, i)) {
+                actions.remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Searches the actions, which precede a specific removal, for an addition of the removed tab
+     * and cancels it, if possible. If the addition does not add any other tabs, it is left empty
+     * in order to be removed later on.
+     *
+     * @param tab
+     *         The tab, which is removed, as an instance of the class {@link Tab}. The tab may not
+     *         be null
+     * @param removalIndex
+     *         The index of the action, which removes the tab, as an {@link Integer} value
+     * @return True, if an addition of the tab has been cancelled, false otherwise
+     */
+    private boolean cancelAddition(@NonNull final Tab tab, final int removalIndex) {
+        for (int i = removalIndex - 1; i >= 0; i--) {
+            Action action = actions.get(i);
+
+            if (action instanceof AddTabsAction) {
+                AddTabsAction addTabsAction = (AddTabsAction) action;
+                int tabIndex = addTabsAction.indexOf(tab);
+
+                if (tabIndex != -1) {
+                    addTabsAction.exclude(tabIndex);
+                    return true;
+                } else if (addTabsAction.index != -1) {
+                    return false;
+                }
+            } else if (!(action instanceof RemoveTabAction) ||
+                    ((RemoveTabAction) action).tab == tab) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes additions, which do not add any tabs, merges consecutive additions of tabs and
+     * collapses consecutive selections.
+     */
+    private void mergeConsecutiveActions() {
+        Iterator<Action> iterator = actions.iterator();
+        Action previousAction = null;
+
+        while (iterator.hasNext()) {
+            Action action = iterator.next();
+
+            if (action instanceof AddTabsAction && ((AddTabsAction) action).tabs.length == 0) {
+                iterator.remove();
+            } else if (previousAction instanceof AddTabsAction && action instanceof AddTabsAction &&
+                    ((AddTabsAction) previousAction).canMerge((AddTabsAction) action)) {
+                ((AddTabsAction) previousAction).merge((AddTabsAction) action);
+                iterator.remove();
+            } else if (previousAction instanceof SelectTabAction &&
+                    action instanceof SelectTabAction) {
+                ((SelectTabAction) previousAction).tab = ((SelectTabAction) action).tab;
+                iterator.remove();
+            } else {
+                previousAction = action;
+            }
+        }
+    }
+
+    /**
+     * Creates a new queue, which stores the actions, which are performed on a {@link
+     * TabSwitcher}'s model, while animations are running.
+     *
+     * @param model
+     *         The model, the actions should be performed on, as an instance of the type {@link
+     *         Model}. The model may not be null
+     * @param metricsRecorder
+     *         The recorder, which should be used to collect the performance metrics of the tab
+     *         switcher, as an instance of the class {@link MetricsRecorder}. The recorder may not
+     *         be null
+     */
+    public PendingActionQueue(@NonNull final Model model,
+                              @NonNull final MetricsRecorder metricsRecorder) {
+        Condition.INSTANCE.ensureNotNull(model, "The model may not be null");
+        Condition.INSTANCE.ensureNotNull(metricsRecorder, "The metrics recorder may not be null");
+        this.model = model;
+        this.actions = new ArrayList<>();
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Enqueues an arbitrary action.
+     *
+     * @param runnable
+     *         The action, which should be enqueued, as an instance of the type {@link Runnable}.
+     *         The action may not be null
+     */
+    public final void add(@NonNull final Runnable runnable) {
+        Condition.INSTANCE.ensureNotNull(runnable, "The action may not be null");
+        enqueue(new GenericAction(runnable));
+    }
+
+    /**
+     * Enqueues an action, which adds several tabs to the model.
+     *
+     * @param tabs
+     *         An array, which contains the tabs, which should be added, as an array of the type
+     *         {@link Tab}. The array may not be null
+     * @param index
+     *         The index, the tabs should be added at, as an {@link Integer} value or -1, if the
+     *         tabs should be added at the end
+     * @param animation
+     *         The animation, which should be used to add the tabs, as an instance of the class
+     *         {@link Animation} or null, if the default animation should be used
+     */
+    public final void addTabs(@NonNull final Tab[] tabs, final int index,
+                              @Nullable final Animation animation) {
+        Condition.INSTANCE.ensureNotNull(tabs, "The array may not be null");
+        Condition.INSTANCE.ensureAtLeast(index, -1, "The index must be at least -1");
+        enqueue(new AddTabsAction(tabs.clone(), index, animation));
+    }
+
+    /**
+     * Enqueues an action, which removes a tab from the model.
+     *
+     * @param tab
+     *         The tab, which should be removed, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     * @param animation
+     *         The animation, which should be used to remove the tab, as an instance of the class
+     *         {@link Animation} or null, if the default animation should be used
+     */
+    public final void removeTab(@NonNull final Tab tab, @Nullable final Animation animation) {
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        enqueue(new RemoveTabAction(tab, animation));
+    }
+
+    /**
+     * Enqueues an action, which selects a tab.
+     *
+     * @param tab
+     *         The tab, which should be selected, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     */
+    public final void selectTab(@NonNull final Tab tab) {
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        enqueue(new SelectTabAction(tab));
+    }
+
+    /**
+     * Folds the pending actions and removes the first one from the queue.
+     *
+     * @return The action, which has been removed from the queue, as an instance of the type {@link
+     * Runnable} or null, if the queue is empty
+     */
+    @Nullable
+    public final Runnable poll() {
+        if (actions.size() > 1) {
+            cancelAdditionsAndRemovals();
+            mergeConsecutiveActions();
+        }
+
+        if (actions.isEmpty()) {
+            return null;
+        }
+
+        Action action = actions.remove(0);
+        metricsRecorder.recordPendingActionWaitTime(System.nanoTime() - action.enqueueTime);
+        metricsRecorder.recordPendingActionQueueDepth(actions.size());
+        return action;
+    }
+
+    /**
+     * Returns the number of pending actions.
+     *
+     * @return The number of pending actions as an {@link Integer} value
+     */
+    public final int size() {
+        return actions.size();
+    }
+
+    /**
+     * Returns, whether the queue is empty, or not.
+     *
+     * @return True, if the queue is empty, false otherwise
+     */
+    public final boolean isEmpty() {
+        return actions.isEmpty();
+    }
+
+}
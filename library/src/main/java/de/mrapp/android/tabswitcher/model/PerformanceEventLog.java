@@ -0,0 +1,405 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.model;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.tabswitcher.AnimationType;
+import de.mrapp.util.Condition;
+
+/**
+ * A ring buffer, which allows to record timestamped performance events of a tab switcher. Once the
+ * buffer is full, the oldest events are overwritten. The events are stored in preallocated arrays,
+ * which is why recording an event does not allocate any objects. As long as the log is disabled,
+ * recording an event only requires to check a volatile flag. Events may be recorded on any thread.
+ * The recorded events can be written to a file using the JSON Lines format, i.e. one JSON object
+ * per line.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class PerformanceEventLog {
+
+    /**
+     * Contains all possible types of events, which can be recorded.
+     */
+    public enum EventType {
+
+        /**
+         * When an animation has been started. The type of the animation is recorded as well.
+         */
+        ANIMATION_STARTED,
+
+        /**
+         * When an animation has been ended or canceled. The type and the duration of the animation
+         * are recorded as well.
+         */
+        ANIMATION_ENDED,
+
+        /**
+         * When rendering the preview of a tab has been started.
+         */
+        PREVIEW_RENDER_STARTED,
+
+        /**
+         * When rendering the preview of a tab has been finished. The duration of rendering is
+         * recorded as well.
+         */
+        PREVIEW_RENDER_ENDED,
+
+        /**
+         * When a cached preview has been evicted from the cache.
+         */
+        PREVIEW_CACHE_EVICTED,
+
+        /**
+         * When the decorator has been applied to the view, which is associated with a tab. The
+         * duration of applying the decorator is recorded as well.
+         */
+        DECORATOR_BOUND,
+
+        /**
+         * When a view, which is used to visualize a tab, has been inflated.
+         */
+        TAB_VIEW_INFLATED,
+
+        /**
+         * When a view, which is used to visualize a tab, has been reused.
+         */
+        TAB_VIEW_RECYCLED,
+
+        /**
+         * When a view, which is used to visualize a tab, has been removed.
+         */
+        TAB_VIEW_REMOVED,
+
+        /**
+         * When a view, which is associated with a tab, has been inflated.
+         */
+        CONTENT_VIEW_INFLATED,
+
+        /**
+         * When a view, which is associated with a tab, has been removed.
+         */
+        CONTENT_VIEW_REMOVED,
+
+        /**
+         * When the system has requested to trim memory. The trim level is recorded as well.
+         */
+        MEMORY_TRIMMED
+
+    }
+
+    /**
+     * The number of events, which are kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The number of nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MILLISECOND = 1000000L;
+
+    /**
+     * An array, which contains the timestamps of the recorded events in nanoseconds.
+     */
+    private long[] timestamps;
+
+    /**
+     * An array, which contains the ordinals of the types of the recorded events.
+     */
+    private int[] types;
+
+    /**
+     * An array, which contains the durations of the recorded events in nanoseconds or -1, if no
+     * duration is available.
+     */
+    private long[] durations;
+
+    /**
+     * An array, which contains the arguments of the recorded events or -1, if no argument is
+     * available.
+     */
+    private int[] arguments;
+
+    /**
+     * The index of the oldest recorded event.
+     */
+    private int start;
+
+    /**
+     * The number of recorded events.
+     */
+    private int size;
+
+    /**
+     * True, if events are recorded, false otherwise.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Allocates the arrays, which are used to store the recorded events.
+     *
+     * @param capacity
+     *         The maximum number of events, which should be kept, as an {@link Integer} value. The
+     *         capacity must be at least 1
+     */
+    private void allocate(final int capacity) {
+        timestamps = new long[capacity];
+        types = new int[capacity];
+        durations = new long[capacity];
+        arguments = new int[capacity];
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * Writes a single event as a JSON object.
+     *
+     * @param writer
+     *         The writer, the event should be written to, as an instance of the class {@link
+     *         Writer}. The writer may not be null
+     * @param timestamp
+     *         The timestamp of the event in nanoseconds as a {@link Long} value
+     * @param timeOffset
+     *         The offset in nanoseconds, which must be added to the timestamp in order to obtain
+     *         the time since the epoch, as a {@link Long} value
+     * @param type
+     *         The type of the event as a value of the enum {@link EventType}. The type may not be
+     *         null
+     * @param duration
+     *         The duration of the event in nanoseconds as a {@link Long} value or -1, if no
+     *         duration is available
+     * @param argument
+     *         The argument of the event as an {@link Integer} value or -1, if no argument is
+     *         available
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurred while writing
+     */
+    private static void writeEvent(@NonNull final Writer writer, final long timestamp,
+                                   final long timeOffset, @NonNull final EventType type,
+                                   final long duration, final int argument) throws IOException {
+        writer.write("{\"time\":");
+        writer.write(Long.toString((timestamp + timeOffset) / NANOS_PER_MILLISECOND));
+        writer.write(",\"nanos\":");
+        writer.write(Long.toString(timestamp));
+        writer.write(",\"type\":\"");
+        writer.write(type.name());
+        writer.write('"');
+
+        if (duration != -1) {
+            writer.write(",\"durationNanos\":");
+            writer.write(Long.toString(duration));
+        }
+
+        if (argument != -1) {
+            if (type == EventType.ANIMATION_STARTED || type == EventType.ANIMATION_ENDED) {
+                writer.write(",\"animation\":\"");
+                writer.write(AnimationType.values()[argument].name());
+                writer.write('"');
+            } else if (type == EventType.MEMORY_TRIMMED) {
+                writer.write(",\"level\":");
+                writer.write(Integer.toString(argument));
+            }
+        }
+
+        writer.write("}\n");
+    }
+
+    /**
+     * Creates a new ring buffer, which allows to record timestamped performance events of a tab
+     * switcher. The log is disabled by default.
+     */
+    public PerformanceEventLog() {
+        allocate(DEFAULT_CAPACITY);
+        this.enabled = false;
+    }
+
+    /**
+     * Returns, whether events are recorded, or not.
+     *
+     * @return True, if events are recorded, false otherwise
+     */
+    public final boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets, whether events should be recorded, or not.
+     *
+     * @param enabled
+     *         True, if events should be recorded, false otherwise
+     */
+    public final void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of events, which are kept.
+     *
+     * @return The maximum number of events, which are kept, as an {@link Integer} value
+     */
+    public final synchronized int getCapacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * Sets the maximum number of events, which should be kept. All events, which have been
+     * recorded so far, are discarded.
+     *
+     * @param capacity
+     *         The maximum number of events, which should be kept, as an {@link Integer} value. The
+     *         capacity must be at least 1
+     */
+    public final synchronized void setCapacity(final int capacity) {
+        Condition.INSTANCE.ensureAtLeast(capacity, 1, "The capacity must be at least 1");
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the number of events, which are currently kept.
+     *
+     * @return The number of events, which are currently kept, as an {@link Integer} value
+     */
+    public final synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Records an event of a specific type, which does not provide a duration or argument.
+     *
+     * @param type
+     *         The type of the event as a value of the enum {@link EventType}. The type may not be
+     *         null
+     */
+    public final void record(@NonNull final EventType type) {
+        record(type, -1, -1);
+    }
+
+    /**
+     * Records an event of a specific type. If the log is full, the oldest event is overwritten.
+     *
+     * @param type
+     *         The type of the event as a value of the enum {@link EventType}. The type may not be
+     *         null
+     * @param duration
+     *         The duration of the event in nanoseconds as a {@link Long} value or -1, if no
+     *         duration is available
+     * @param argument
+     *         The argument of the event, e.g. the ordinal of an {@link AnimationType} or a trim
+     *         level, as an {@link Integer} value or -1, if no argument is available
+     */
+    public final void record(@NonNull final EventType type, final long duration,
+                             final int argument) {
+        if (enabled) {
+            long timestamp = System.nanoTime();
+
+            synchronized (this) {
+                int capacity = timestamps.length;
+                int index = (start + size) % capacity;
+
+                if (size < capacity) {
+                    size++;
+                } else {
+                    start = (start + 1) % capacity;
+                }
+
+                timestamps[index] = timestamp;
+                types[index] = type.ordinal();
+                durations[index] = duration;
+                arguments[index] = argument;
+            }
+        }
+    }
+
+    /**
+     * Discards all events, which have been recorded so far.
+     */
+    public final synchronized void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * Writes all events, which are currently kept, from oldest to newest, to a specific writer
+     * using the JSON Lines format. The writer is not closed afterwards.
+     *
+     * @param writer
+     *         The writer, the events should be written to, as an instance of the class {@link
+     *         Writer}. The writer may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurred while writing
+     */
+    public final void writeTo(@NonNull final Writer writer) throws IOException {
+        Condition.INSTANCE.ensureNotNull(writer, "The writer may not be null");
+        long[] timestamps;
+        int[] types;
+        long[] durations;
+        int[] arguments;
+        int count;
+
+        synchronized (this) {
+            count = size;
+            timestamps = new long[count];
+            types = new int[count];
+            durations = new long[count];
+            arguments = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                int index = (start + i) % this.timestamps.length;
+                timestamps[i] = this.timestamps[index];
+                types[i] = this.types[index];
+                durations[i] = this.durations[index];
+                arguments[i] = this.arguments[index];
+            }
+        }
+
+        long timeOffset = System.currentTimeMillis() * NANOS_PER_MILLISECOND - System.nanoTime();
+        EventType[] eventTypes = EventType.values();
+
+        for (int i = 0; i < count; i++) {
+            writeEvent(writer, timestamps[i], timeOffset, eventTypes[types[i]], durations[i],
+                    arguments[i]);
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Writes all events, which are currently kept, from oldest to newest, to a specific file using
+     * the JSON Lines format. If the file already exists, it is overwritten.
+     *
+     * @param file
+     *         The file, the events should be written to, as an instance of the class {@link File}.
+     *         The file may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurred while writing
+     */
+    public final void writeTo(@NonNull final File file) throws IOException {
+        Condition.INSTANCE.ensureNotNull(file, "The file may not be null");
+        Writer writer = new BufferedWriter(new FileWriter(file));
+
+        try {
+            writeTo(writer);
+        } finally {
+            writer.close();
+        }
+    }
+
+}
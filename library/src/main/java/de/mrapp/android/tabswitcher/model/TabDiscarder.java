@@ -0,0 +1,313 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.tabswitcher.Animation;
+import de.mrapp.android.tabswitcher.StatefulTabSwitcherDecorator;
+import de.mrapp.android.tabswitcher.Tab;
+import de.mrapp.android.tabswitcher.TabDiscardListener;
+import de.mrapp.android.tabswitcher.TabSwitcher;
+import de.mrapp.android.tabswitcher.TabSwitcherDecorator;
+import de.mrapp.android.tabswitcher.TabSwitcherListener;
+import de.mrapp.util.Condition;
+
+/**
+ * Allows to discard the tabs of a {@link TabSwitcher}, which have not been accessed for the longest
+ * time, in order to reduce the memory consumption. When a tab is discarded, the saved state of its
+ * content and the state of a {@link StatefulTabSwitcherDecorator} are released. The tab is rebuilt
+ * lazily, when it is selected again.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public abstract class TabDiscarder implements TabSwitcherListener {
+
+    /**
+     * The tab switcher, whose tabs are discarded.
+     */
+    private final TabSwitcher tabSwitcher;
+
+    /**
+     * The model of the tab switcher, whose tabs are discarded.
+     */
+    private final TabSwitcherModel model;
+
+    /**
+     * A set, which contains the tabs, which have been accessed, ordered from the least to the most
+     * recently accessed one.
+     */
+    private final Set<Tab> accessOrder;
+
+    /**
+     * A set, which contains the tabs, which are currently discarded.
+     */
+    private final Set<Tab> discardedTabs;
+
+    /**
+     * The maximum number of tabs, which are not discarded, or -1, if the number is not restricted.
+     */
+    private int maxRetainedTabs;
+
+    /**
+     * Marks a specific tab as the most recently accessed one.
+     *
+     * @param tab
+     *         The tab, which should be marked, as an instance of the class {@link Tab}. The tab may
+     *         not be null
+     */
+    private void touch(@NonNull final Tab tab) {
+        accessOrder.remove(tab);
+        accessOrder.add(tab);
+    }
+
+    /**
+     * Returns a list, which contains all tabs of the tab switcher, ordered from the least to the
+     * most recently accessed one. Tabs, which have never been accessed, come first.
+     *
+     * @return A list, which contains all tabs of the tab switcher, as an instance of the type
+     * {@link List}. The list may not be null
+     */
+    @NonNull
+    private List<Tab> getTabsByAccessOrder() {
+        List<Tab> result = new ArrayList<>(model.getCount());
+
+        for (Tab tab : model) {
+            if (!accessOrder.contains(tab)) {
+                result.add(tab);
+            }
+        }
+
+        result.addAll(accessOrder);
+        return result;
+    }
+
+    /**
+     * Discards a specific tab.
+     *
+     * @param tab
+     *         The tab, which should be discarded, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     */
+    private void discard(@NonNull final Tab tab) {
+        discardedTabs.add(tab);
+        tabSwitcher.clearSavedState(tab);
+        TabSwitcherDecorator decorator = tabSwitcher.getDecorator();
+
+        if (decorator instanceof StatefulTabSwitcherDecorator) {
+            ((StatefulTabSwitcherDecorator) decorator).clearState(tab);
+        }
+
+        onDiscard(tab);
+        notifyOnTabDiscarded(tab);
+    }
+
+    /**
+     * Notifies all listeners, that a specific tab has been discarded.
+     *
+     * @param tab
+     *         The tab, which has been discarded, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     */
+    private void notifyOnTabDiscarded(@NonNull final Tab tab) {
+        for (TabDiscardListener listener : model.getTabDiscardListeners()) {
+            listener.onTabDiscarded(tabSwitcher, tab);
+        }
+    }
+
+    /**
+     * Discards tabs, if the maximum number of tabs, which are not discarded, is exceeded.
+     */
+    private void enforceMaxRetainedTabs() {
+        if (maxRetainedTabs != -1) {
+            discardTabs(maxRetainedTabs);
+        }
+    }
+
+    /**
+     * The method, which is invoked on implementing subclasses in order to determine, whether the
+     * content of a specific tab is currently in use and can therefore not be discarded.
+     *
+     * @param tab
+     *         The tab, which should be checked, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     * @return True, if the content of the given tab is currently in use, false otherwise
+     */
+    protected abstract boolean isInUse(@NonNull final Tab tab);
+
+    /**
+     * The method, which is invoked on implementing subclasses, when a specific tab is discarded.
+     * It allows to release resources, which are associated with the tab, such as its preview.
+     *
+     * @param tab
+     *         The tab, which is discarded, as an instance of the class {@link Tab}. The tab may
+     *         not be null
+     */
+    protected abstract void onDiscard(@NonNull final Tab tab);
+
+    /**
+     * Creates a new class, which allows to discard the tabs of a {@link TabSwitcher}, which have
+     * not been accessed for the longest time.
+     *
+     * @param tabSwitcher
+     *         The tab switcher, whose tabs should be discarded, as an instance of the class {@link
+     *         TabSwitcher}. The tab switcher may not be null
+     * @param model
+     *         The model of the tab switcher, whose tabs should be discarded, as an instance of the
+     *         class {@link TabSwitcherModel}. The model may not be null
+     */
+    public TabDiscarder(@NonNull final TabSwitcher tabSwitcher,
+                        @NonNull final TabSwitcherModel model) {
+        Condition.INSTANCE.ensureNotNull(tabSwitcher, "The tab switcher may not be null");
+        Condition.INSTANCE.ensureNotNull(model, "The model may not be null");
+        this.tabSwitcher = tabSwitcher;
+        this.model = model;
+        this.accessOrder = new LinkedHashSet<>();
+        this.discardedTabs = new HashSet<>();
+        this.maxRetainedTabs = -1;
+    }
+
+    /**
+     * Sets the maximum number of tabs, which are not discarded. If the number is exceeded, the tabs,
+     * which have not been accessed for the longest time, are discarded.
+     *
+     * @param maxRetainedTabs
+     *         The maximum number of tabs, which should be set, as an {@link Integer} value. The
+     *         number must be at least 1 or -1, if the number should not be restricted
+     */
+    public final void setMaxRetainedTabs(final int maxRetainedTabs) {
+        if (maxRetainedTabs != -1) {
+            Condition.INSTANCE.ensureAtLeast(maxRetainedTabs, 1,
+                    "The maximum number of retained tabs must be at least 1 or -1");
+        }
+
+        this.maxRetainedTabs = maxRetainedTabs;
+        enforceMaxRetainedTabs();
+    }
+
+    /**
+     * Returns the maximum number of tabs, which are not discarded.
+     *
+     * @return The maximum number of tabs, which are not discarded, as an {@link Integer} value or
+     * -1, if the number is not restricted
+     */
+    public final int getMaxRetainedTabs() {
+        return maxRetainedTabs;
+    }
+
+    /**
+     * Returns the number of tabs, which are currently not discarded.
+     *
+     * @return The number of tabs, which are currently not discarded, as an {@link Integer} value
+     */
+    public final int getRetainedTabCount() {
+        return model.getCount() - discardedTabs.size();
+    }
+
+    /**
+     * Returns, whether a specific tab is currently discarded, or not.
+     *
+     * @param tab
+     *         The tab, which should be checked, as an instance of the class {@link Tab}. The tab
+     *         may not be null
+     * @return True, if the given tab is currently discarded, false otherwise
+     */
+    public final boolean isDiscarded(@NonNull final Tab tab) {
+        Condition.INSTANCE.ensureNotNull(tab, "The tab may not be null");
+        return discardedTabs.contains(tab);
+    }
+
+    /**
+     * Discards the tabs, which have not been accessed for the longest time, until the number of
+     * tabs, which are not discarded, does not exceed a specific number. The selected tab, as well
+     * as tabs, whose content is currently in use, are never discarded.
+     *
+     * @param maxRetainedTabs
+     *         The maximum number of tabs, which should not be discarded, as an {@link Integer}
+     *         value. The number must be at least 1
+     * @return The number of tabs, which have been discarded, as an {@link Integer} value
+     */
+    public final int discardTabs(final int maxRetainedTabs) {
+        Condition.INSTANCE.ensureAtLeast(maxRetainedTabs, 1,
+                "The maximum number of retained tabs must be at least 1");
+        int retained = getRetainedTabCount();
+        int discarded = 0;
+        Tab selectedTab = model.getSelectedTab();
+
+        for (Tab tab : getTabsByAccessOrder()) {
+            if (retained <= maxRetainedTabs) {
+                break;
+            }
+
+            if (tab != selectedTab && !discardedTabs.contains(tab) && !isInUse(tab)) {
+                discard(tab);
+                retained--;
+                discarded++;
+            }
+        }
+
+        return discarded;
+    }
+
+    @Override
+    public final void onSwitcherShown(@NonNull final TabSwitcher tabSwitcher) {
+
+    }
+
+    @Override
+    public final void onSwitcherHidden(@NonNull final TabSwitcher tabSwitcher) {
+
+    }
+
+    @Override
+    public final void onSelectionChanged(@NonNull final TabSwitcher tabSwitcher,
+                                         final int selectedTabIndex,
+                                         @Nullable final Tab selectedTab) {
+        if (selectedTab != null) {
+            discardedTabs.remove(selectedTab);
+            touch(selectedTab);
+            enforceMaxRetainedTabs();
+        }
+    }
+
+    @Override
+    public final void onTabAdded(@NonNull final TabSwitcher tabSwitcher, final int index,
+                                 @NonNull final Tab tab, @NonNull final Animation animation) {
+        touch(tab);
+        enforceMaxRetainedTabs();
+    }
+
+    @Override
+    public final void onTabRemoved(@NonNull final TabSwitcher tabSwitcher, final int index,
+                                   @NonNull final Tab tab, @NonNull final Animation animation) {
+        accessOrder.remove(tab);
+        discardedTabs.remove(tab);
+    }
+
+    @Override
+    public final void onAllTabsRemoved(@NonNull final TabSwitcher tabSwitcher,
+                                       @NonNull final Tab[] tabs,
+                                       @NonNull final Animation animation) {
+        accessOrder.clear();
+        discardedTabs.clear();
+    }
+
+}
@@ -44,12 +44,14 @@ import androidx.appcompat.content.res.AppCompatResources;
 import androidx.appcompat.widget.Toolbar.OnMenuItemClickListener;
 import de.mrapp.android.tabswitcher.AddTabButtonListener;
 import de.mrapp.android.tabswitcher.Animation;
+import de.mrapp.android.tabswitcher.FrameTimingListener;
 import de.mrapp.android.tabswitcher.Layout;
 import de.mrapp.android.tabswitcher.PeekAnimation;
 import de.mrapp.android.tabswitcher.RevealAnimation;
 import de.mrapp.android.tabswitcher.SwipeAnimation;
 import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabCloseListener;
+import de.mrapp.android.tabswitcher.TabDiscardListener;
 import de.mrapp.android.tabswitcher.TabPreviewListener;
 import de.mrapp.android.tabswitcher.TabSwitcher;
 import de.mrapp.android.tabswitcher.TabSwitcherDecorator;
@@ -461,6 +463,23 @@ public class TabSwitcherModel implements Model, Restorable {
      */
     private final ListenerList<TabPreviewListener> tabPreviewListeners;
 
+    /**
+     * A list, which contains the listeners, which should be notified about the frame timings, which
+     * have been recorded while the animations of the tab switcher were running.
+     */
+    private final ListenerList<FrameTimingListener> frameTimingListeners;
+
+    /**
+     * The recorder, which allows to collect the performance metrics of the tab switcher.
+     */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * A list, which contains the listeners, which should be notified, when a tab has been
+     * discarded.
+     */
+    private final ListenerList<TabDiscardListener> tabDiscardListeners;
+
     /**
      * Returns the index of a specific tab or throws a {@link NoSuchElementException}, if the model
      * does not contain the given tab.
@@ -935,6 +954,9 @@ public class TabSwitcherModel implements Model, Restorable {
         this.toolbarMenuItemListener = null;
         this.tabCloseListeners = new ListenerList<>();
         this.tabPreviewListeners = new ListenerList<>();
+        this.frameTimingListeners = new ListenerList<>();
+        this.tabDiscardListeners = new ListenerList<>();
+        this.metricsRecorder = new MetricsRecorder();
     }
 
     /**
@@ -1096,6 +1118,42 @@ public class TabSwitcherModel implements Model, Restorable {
         return tabPreviewListeners;
     }
 
+    /**
+     * Returns the listeners, which should be notified about the frame timings, which have been
+     * recorded while the animations of the tab switcher were running.
+     *
+     * @return A list, which contains the listeners, which should be notified about the frame
+     * timings, which have been recorded while the animations of the tab switcher were running, as
+     * an instance of the type ListenerList or an empty list, if no listeners should be notified
+     */
+    @NonNull
+    public final ListenerList<FrameTimingListener> getFrameTimingListeners() {
+        return frameTimingListeners;
+    }
+
+    /**
+     * Returns the listeners, which should be notified, when a tab has been discarded.
+     *
+     * @return A list, which contains the listeners, which should be notified, when a tab has been
+     * discarded, as an instance of the type ListenerList or an empty list, if no listeners should
+     * be notified
+     */
+    @NonNull
+    public final ListenerList<TabDiscardListener> getTabDiscardListeners() {
+        return tabDiscardListeners;
+    }
+
+    /**
+     * Returns the recorder, which allows to collect the performance metrics of the tab switcher.
+     *
+     * @return The recorder, which allows to collect the performance metrics of the tab switcher,
+     * as an instance of the class {@link MetricsRecorder}. The recorder may not be null
+     */
+    @NonNull
+    public final MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
     /**
      * Returns the adapter, which allows to inflate the views, which are associated with tabs.
      *
@@ -1118,7 +1176,12 @@ public class TabSwitcherModel implements Model, Restorable {
     public final void setDecorator(@NonNull final TabSwitcherDecorator decorator) {
         Condition.INSTANCE.ensureNotNull(decorator, "The decorator may not be null");
         this.decorator = decorator;
-        this.contentRecyclerAdapter = new ContentRecyclerAdapter(tabSwitcher, decorator);
+
+        if (contentRecyclerAdapter != null) {
+            contentRecyclerAdapter.destroy();
+        }
+
+        this.contentRecyclerAdapter = new ContentRecyclerAdapter(tabSwitcher, decorator, metricsRecorder);
         notifyOnDecoratorChanged(decorator);
     }
 
@@ -1780,6 +1843,30 @@ public class TabSwitcherModel implements Model, Restorable {
         tabPreviewListeners.remove(listener);
     }
 
+    @Override
+    public final void addFrameTimingListener(@NonNull final FrameTimingListener listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        frameTimingListeners.add(listener);
+    }
+
+    @Override
+    public final void removeFrameTimingListener(@NonNull final FrameTimingListener listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        frameTimingListeners.remove(listener);
+    }
+
+    @Override
+    public final void addTabDiscardListener(@NonNull final TabDiscardListener listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        tabDiscardListeners.add(listener);
+    }
+
+    @Override
+    public final void removeTabDiscardListener(@NonNull final TabDiscardListener listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        tabDiscardListeners.remove(listener);
+    }
+
     @Override
     public final void saveInstanceState(@NonNull final Bundle outState) {
         outState.putSerializable(LOG_LEVEL_EXTRA, logLevel);
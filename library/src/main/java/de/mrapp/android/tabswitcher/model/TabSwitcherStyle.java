@@ -26,6 +26,7 @@ import androidx.core.graphics.drawable.DrawableCompat;
 import de.mrapp.android.tabswitcher.R;
 import de.mrapp.android.tabswitcher.Tab;
 import de.mrapp.android.tabswitcher.TabSwitcher;
+import de.mrapp.android.tabswitcher.util.DrawableCache;
 import de.mrapp.android.tabswitcher.util.ThemeHelper;
 import de.mrapp.util.Condition;
 
@@ -52,6 +53,11 @@ public class TabSwitcherStyle {
      */
     private final ThemeHelper themeHelper;
 
+    /**
+     * The cache, which allows to share the icons of tabs and their close buttons.
+     */
+    private final DrawableCache drawableCache;
+
     /**
      * Return the color state list, which should be used to tint the icon of tabs.
      *
@@ -70,13 +76,8 @@ public class TabSwitcherStyle {
             tintList = model.getTabCloseButtonIconTintList();
 
             if (tintList == null) {
-                try {
-                    tintList = themeHelper.getColorStateList(tabSwitcher.getLayout(),
-                            R.attr.tabSwitcherTabIconTint);
-                } catch (NotFoundException e) {
-                    tintList = null;
-                }
-
+                tintList = themeHelper.getOptionalColorStateList(tabSwitcher.getLayout(),
+                        R.attr.tabSwitcherTabIconTint);
             }
         }
 
@@ -122,13 +123,8 @@ public class TabSwitcherStyle {
             tintList = model.getTabCloseButtonIconTintList();
 
             if (tintList == null) {
-                try {
-                    tintList = themeHelper.getColorStateList(tabSwitcher.getLayout(),
-                            R.attr.tabSwitcherTabCloseButtonIconTint);
-                } catch (NotFoundException e) {
-                    tintList = null;
-                }
-
+                tintList = themeHelper.getOptionalColorStateList(tabSwitcher.getLayout(),
+                        R.attr.tabSwitcherTabCloseButtonIconTint);
             }
         }
 
@@ -168,13 +164,8 @@ public class TabSwitcherStyle {
         ColorStateList tintList = model.getTabCloseButtonIconTintList();
 
         if (tintList == null) {
-            try {
-                tintList = themeHelper.getColorStateList(tabSwitcher.getLayout(),
-                        R.attr.tabSwitcherToolbarNavigationIconTint);
-            } catch (NotFoundException e) {
-                tintList = null;
-            }
-
+            tintList = themeHelper.getOptionalColorStateList(tabSwitcher.getLayout(),
+                    R.attr.tabSwitcherToolbarNavigationIconTint);
         }
 
         return tintList;
@@ -216,6 +207,7 @@ public class TabSwitcherStyle {
         this.tabSwitcher = tabSwitcher;
         this.model = model;
         this.themeHelper = themeHelper;
+        this.drawableCache = new DrawableCache(model.getContext());
     }
 
     /**
@@ -230,6 +222,14 @@ public class TabSwitcherStyle {
         return themeHelper;
     }
 
+    /**
+     * Removes all icons of tabs and their close buttons, which have been cached. This method must
+     * be called, when the theme of the tab switcher has been changed.
+     */
+    public final void clearDrawableCache() {
+        drawableCache.clear();
+    }
+
     /**
      * Returns the icon of tabs.
      *
@@ -241,26 +241,19 @@ public class TabSwitcherStyle {
      */
     @Nullable
     public final Drawable getTabIcon(@Nullable final Tab tab) {
-        Drawable icon = tab != null ? tab.getIcon(model.getContext()) : null;
+        ColorStateList tintList = getTabIconTintList(tab);
+        PorterDuff.Mode tintMode = getTabIconTintMode(tab);
+        Drawable icon = tab != null ? tab.getIcon(drawableCache, tintList, tintMode) : null;
 
         if (icon == null) {
             icon = model.getTabIcon();
 
             if (icon == null) {
-                try {
-                    icon = themeHelper
-                            .getDrawable(tabSwitcher.getLayout(), R.attr.tabSwitcherTabIcon);
-                } catch (NotFoundException e) {
-                    icon = null;
-                }
+                icon = themeHelper
+                        .getOptionalDrawable(tabSwitcher.getLayout(), R.attr.tabSwitcherTabIcon);
             }
-        }
-
-        if (icon != null) {
-            ColorStateList tintList = getTabIconTintList(tab);
 
-            if (tintList != null) {
-                PorterDuff.Mode tintMode = getTabIconTintMode(tab);
+            if (icon != null && tintList != null) {
                 DrawableCompat.setTintList(icon, tintList);
                 DrawableCompat.setTintMode(icon, tintMode);
             }
@@ -350,7 +343,10 @@ public class TabSwitcherStyle {
      * @return The close button icon of tabs as an instance of the class {@link Drawable}
      */
     public final Drawable getTabCloseButtonIcon(@Nullable final Tab tab) {
-        Drawable icon = tab != null ? tab.getCloseButtonIcon(model.getContext()) : null;
+        ColorStateList tintList = getTabCloseButtonIconTintList(tab);
+        PorterDuff.Mode tintMode = getTabCloseButtonIconTintMode(tab);
+        Drawable icon =
+                tab != null ? tab.getCloseButtonIcon(drawableCache, tintList, tintMode) : null;
 
         if (icon == null) {
             icon = model.getTabCloseButtonIcon();
@@ -359,13 +355,8 @@ public class TabSwitcherStyle {
                 icon = themeHelper
                         .getDrawable(tabSwitcher.getLayout(), R.attr.tabSwitcherTabCloseButtonIcon);
             }
-        }
 
-        if (icon != null) {
-            ColorStateList tintList = getTabCloseButtonIconTintList(tab);
-
-            if (tintList != null) {
-                PorterDuff.Mode tintMode = getTabCloseButtonIconTintMode(tab);
+            if (icon != null && tintList != null) {
                 DrawableCompat.setTintList(icon, tintList);
                 DrawableCompat.setTintMode(icon, tintMode);
             }
@@ -429,12 +420,8 @@ public class TabSwitcherStyle {
         CharSequence title = model.getToolbarTitle();
 
         if (TextUtils.isEmpty(title)) {
-            try {
-                title = themeHelper
-                        .getText(tabSwitcher.getLayout(), R.attr.tabSwitcherToolbarTitle);
-            } catch (NotFoundException e) {
-                title = null;
-            }
+            title = themeHelper
+                    .getOptionalText(tabSwitcher.getLayout(), R.attr.tabSwitcherToolbarTitle);
         }
 
         return title;
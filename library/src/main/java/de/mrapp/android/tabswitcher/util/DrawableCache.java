@@ -0,0 +1,264 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.util;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.graphics.Bitmap;
+import android.graphics.PorterDuff;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.content.res.AppCompatResources;
+import androidx.core.graphics.drawable.DrawableCompat;
+import de.mrapp.util.Condition;
+
+/**
+ * A cache, which allows to share drawables, which are created from resources or bitmaps and are
+ * optionally tinted. The constant states of the drawables are cached by their resource id or the
+ * identity of their bitmap, as well as by the color state list and mode, which are used to tint
+ * them. The drawables, which are returned by the cache, share their constant state. They must
+ * therefore be mutated before being modified.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class DrawableCache {
+
+    /**
+     * The key of a drawable, which is contained by the cache.
+     */
+    private static final class Key {
+
+        /**
+         * The source of the drawable. This is either the {@link Integer} value of a resource id or
+         * a {@link Bitmap}.
+         */
+        private final Object source;
+
+        /**
+         * The color state list, which is used to tint the drawable, or null, if the drawable is
+         * not tinted.
+         */
+        private final ColorStateList tintList;
+
+        /**
+         * The mode, which is used to tint the drawable.
+         */
+        private final PorterDuff.Mode tintMode;
+
+        /**
+         * Creates a new key of a drawable, which is contained by the cache.
+         *
+         * @param source
+         *         The source of the drawable as an {@link Object}. The source may not be null
+         * @param tintList
+         *         The color state list, which is used to tint the drawable, as an instance of the
+         *         class {@link ColorStateList} or null, if the drawable is not tinted
+         * @param tintMode
+         *         The mode, which is used to tint the drawable, as a value of the enum {@link
+         *         PorterDuff.Mode}. The mode may not be null
+         */
+        Key(@NonNull final Object source, @Nullable final ColorStateList tintList,
+            @NonNull final PorterDuff.Mode tintMode) {
+            this.source = source;
+            this.tintList = tintList;
+            this.tintMode = tintList != null ? tintMode : null;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key) obj;
+            return (source == other.source ||
+                    (source instanceof Integer && source.equals(other.source))) &&
+                    tintList == other.tintList && tintMode == other.tintMode;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + (source instanceof Integer ? source.hashCode() :
+                    System.identityHashCode(source));
+            result = prime * result + System.identityHashCode(tintList);
+            result = prime * result + (tintMode != null ? tintMode.hashCode() : 0);
+            return result;
+        }
+
+    }
+
+    /**
+     * The default maximum number of drawables, which are contained by the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    /**
+     * The context, which is used to create the drawables.
+     */
+    private final Context context;
+
+    /**
+     * The cache, which contains the constant states of the drawables.
+     */
+    private final LruCache<Key, Drawable.ConstantState> cache;
+
+    /**
+     * Tints a specific drawable, if necessary, and adds its constant state to the cache. If the
+     * constant state has been added to the cache, a new drawable, which is created from the
+     * constant state, is returned instead of the given one, such that the drawable, which has
+     * been used to create the constant state, is never handed out.
+     *
+     * @param key
+     *         The key of the drawable as an instance of the class {@link Key}. The key may not be
+     *         null
+     * @param drawable
+     *         The drawable, which should be tinted and added to the cache, as an instance of the
+     *         class {@link Drawable} or null
+     * @return The drawable, which has been created from the constant state, which has been added
+     * to the cache, as an instance of the class {@link Drawable} or null, if the given drawable is
+     * null
+     */
+    @Nullable
+    private Drawable putDrawable(@NonNull final Key key, @Nullable final Drawable drawable) {
+        Drawable result = drawable;
+
+        if (result != null) {
+            if (key.tintList != null) {
+                result = result.mutate();
+                DrawableCompat.setTintList(result, key.tintList);
+                DrawableCompat.setTintMode(result, key.tintMode);
+            }
+
+            Drawable.ConstantState constantState = result.getConstantState();
+
+            if (constantState != null) {
+                cache.put(key, constantState);
+                result = constantState.newDrawable(context.getResources());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new cache, which allows to share drawables, which are created from resources or
+     * bitmaps and are optionally tinted. The cache contains up to {@link #DEFAULT_MAX_SIZE}
+     * drawables.
+     *
+     * @param context
+     *         The context, which should be used to create the drawables, as an instance of the
+     *         class {@link Context}. The context may not be null
+     */
+    public DrawableCache(@NonNull final Context context) {
+        this(context, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new cache, which allows to share drawables, which are created from resources or
+     * bitmaps and are optionally tinted.
+     *
+     * @param context
+     *         The context, which should be used to create the drawables, as an instance of the
+     *         class {@link Context}. The context may not be null
+     * @param maxSize
+     *         The maximum number of drawables, which should be contained by the cache, as an
+     *         {@link Integer} value. The maximum number must be at least 1
+     */
+    public DrawableCache(@NonNull final Context context, final int maxSize) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Condition.INSTANCE.ensureAtLeast(maxSize, 1, "The maximum size must be at least 1");
+        this.context = context;
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Returns the drawable, which corresponds to a specific resource id and is tinted using a
+     * specific color state list and mode.
+     *
+     * @param resourceId
+     *         The resource id of the drawable as an {@link Integer} value. The resource id must
+     *         correspond to a valid drawable resource
+     * @param tintList
+     *         The color state list, which should be used to tint the drawable, as an instance of
+     *         the class {@link ColorStateList} or null, if the drawable should not be tinted
+     * @param tintMode
+     *         The mode, which should be used to tint the drawable, as a value of the enum {@link
+     *         PorterDuff.Mode}. The mode may not be null
+     * @return The drawable as an instance of the class {@link Drawable} or null, if the drawable
+     * could not be created
+     */
+    @Nullable
+    public final Drawable getDrawable(@DrawableRes final int resourceId,
+                                      @Nullable final ColorStateList tintList,
+                                      @NonNull final PorterDuff.Mode tintMode) {
+        Condition.INSTANCE.ensureNotNull(tintMode, "The tint mode may not be null");
+        Key key = new Key(resourceId, tintList, tintMode);
+        Drawable.ConstantState constantState = cache.get(key);
+
+        if (constantState != null) {
+            return constantState.newDrawable(context.getResources());
+        }
+
+        return putDrawable(key, AppCompatResources.getDrawable(context, resourceId));
+    }
+
+    /**
+     * Returns the drawable, which corresponds to a specific bitmap and is tinted using a specific
+     * color state list and mode.
+     *
+     * @param bitmap
+     *         The bitmap of the drawable as an instance of the class {@link Bitmap}. The bitmap
+     *         may not be null
+     * @param tintList
+     *         The color state list, which should be used to tint the drawable, as an instance of
+     *         the class {@link ColorStateList} or null, if the drawable should not be tinted
+     * @param tintMode
+     *         The mode, which should be used to tint the drawable, as a value of the enum {@link
+     *         PorterDuff.Mode}. The mode may not be null
+     * @return The drawable as an instance of the class {@link Drawable}. The drawable may not be
+     * null
+     */
+    @NonNull
+    public final Drawable getDrawable(@NonNull final Bitmap bitmap,
+                                      @Nullable final ColorStateList tintList,
+                                      @NonNull final PorterDuff.Mode tintMode) {
+        Condition.INSTANCE.ensureNotNull(bitmap, "The bitmap may not be null");
+        Condition.INSTANCE.ensureNotNull(tintMode, "The tint mode may not be null");
+        Key key = new Key(bitmap, tintList, tintMode);
+        Drawable.ConstantState constantState = cache.get(key);
+
+        if (constantState != null) {
+            return constantState.newDrawable(context.getResources());
+        }
+
+        return putDrawable(key, new BitmapDrawable(context.getResources(), bitmap));
+    }
+
+    /**
+     * Removes all drawables from the cache. This method must be called, when the theme, which is
+     * used to resolve the color state lists, which are used for tinting, has been changed.
+     */
+    public final void clear() {
+        cache.evictAll();
+    }
+
+}
@@ -17,10 +17,15 @@ import android.content.Context;
 import android.content.res.ColorStateList;
 import android.content.res.Resources.NotFoundException;
 import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 import androidx.annotation.AttrRes;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import de.mrapp.android.tabswitcher.Layout;
 import de.mrapp.android.tabswitcher.R;
 import de.mrapp.android.util.ThemeUtil;
@@ -34,6 +39,51 @@ import de.mrapp.util.Condition;
  */
 public class ThemeHelper {
 
+    /**
+     * Contains the values of theme attributes, which have already been resolved regarding the
+     * theme of a specific layout.
+     */
+    private static class ResolvedAttributes {
+
+        /**
+         * A sparse array, which contains the resolved colors.
+         */
+        private final SparseArray<Object> colors = new SparseArray<>();
+
+        /**
+         * A sparse array, which contains the resolved color state lists.
+         */
+        private final SparseArray<Object> colorStateLists = new SparseArray<>();
+
+        /**
+         * A sparse array, which contains the constant states of the resolved drawables.
+         */
+        private final SparseArray<Object> drawables = new SparseArray<>();
+
+        /**
+         * A sparse array, which contains the resolved texts.
+         */
+        private final SparseArray<Object> texts = new SparseArray<>();
+
+        /**
+         * A sparse array, which contains the resolved resource ids together with the default
+         * values, they have been resolved with.
+         */
+        private final SparseArray<int[]> resourceIds = new SparseArray<>();
+
+        /**
+         * A sparse array, which contains the resolved integer values together with the default
+         * values, they have been resolved with.
+         */
+        private final SparseArray<int[]> integers = new SparseArray<>();
+
+    }
+
+    /**
+     * The value, which is cached for theme attributes, which could not be resolved.
+     */
+    private static final Object NOT_FOUND = new Object();
+
     /**
      * The context, which is used by the tab switcher.
      */
@@ -54,6 +104,70 @@ public class ThemeHelper {
      */
     private final int tabletTheme;
 
+    /**
+     * A map, which contains the values of theme attributes, which have already been resolved,
+     * mapped to the layouts, they have been resolved for.
+     */
+    private final Map<Layout, ResolvedAttributes> cache;
+
+    /**
+     * Returns the values of theme attributes, which have already been resolved regarding the theme
+     * of a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @return The values of theme attributes, which have already been resolved, as an instance of
+     * the class {@link ResolvedAttributes}. The values may not be null
+     */
+    @NonNull
+    private ResolvedAttributes getResolvedAttributes(@NonNull final Layout layout) {
+        ResolvedAttributes resolvedAttributes = cache.get(layout);
+
+        if (resolvedAttributes == null) {
+            resolvedAttributes = new ResolvedAttributes();
+            cache.put(layout, resolvedAttributes);
+        }
+
+        return resolvedAttributes;
+    }
+
+    /**
+     * Returns a cached value of a theme attribute. If the attribute could not be resolved
+     * previously, a {@link NotFoundException} is thrown.
+     *
+     * @param values
+     *         The sparse array, which contains the cached values, as an instance of the class
+     *         {@link SparseArray}. The sparse array may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute as an {@link Integer} value
+     * @return The cached value or null, if no value has been cached yet
+     */
+    private static Object getCachedValue(@NonNull final SparseArray<Object> values,
+                                         final int resourceId) {
+        Object value = values.get(resourceId);
+
+        if (value == NOT_FOUND) {
+            throw new NotFoundException();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns, whether a theme attribute could not be resolved previously, or not.
+     *
+     * @param values
+     *         The sparse array, which contains the cached values, as an instance of the class
+     *         {@link SparseArray}. The sparse array may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute as an {@link Integer} value
+     * @return True, if the theme attribute could not be resolved previously, false otherwise
+     */
+    private static boolean isCachedAsNotFound(@NonNull final SparseArray<Object> values,
+                                              final int resourceId) {
+        return values.get(resourceId) == NOT_FOUND;
+    }
+
     /**
      * Returns the resource id of the theme, which is used when using a specific layout. The theme
      * is obtained from the tab switcher's XML attributes. If the theme is not specified, a {@link
@@ -108,6 +222,177 @@ public class ThemeHelper {
         return result;
     }
 
+    /**
+     * Resolves the color, which corresponds to a specific theme attribute, regarding the theme,
+     * which is used when using a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the color should be obtained from, as an
+     *         {@link Integer} value. The resource id must correspond to a valid theme attribute
+     * @return The color, which has been obtained, as an {@link Integer} value
+     */
+    @ColorInt
+    private int resolveColor(@NonNull final Layout layout, @AttrRes final int resourceId) {
+        try {
+            return ThemeUtil.getColor(context, resourceId);
+        } catch (NotFoundException e1) {
+            int themeResourceId = getThemeResourceId(layout);
+
+            try {
+                return ThemeUtil.getColor(context, themeResourceId, resourceId);
+            } catch (NotFoundException e) {
+                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
+                return ThemeUtil.getColor(context, themeResourceId, resourceId);
+            }
+        }
+    }
+
+    /**
+     * Resolves the color state list, which corresponds to a specific theme attribute, regarding
+     * the theme, which is used when using a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the color state list should be obtained from,
+     *         as an {@link Integer} value. The resource id must correspond to a valid theme
+     *         attribute
+     * @return The color state list, which has been obtained, as an instance of the class {@link
+     * ColorStateList}
+     */
+    private ColorStateList resolveColorStateList(@NonNull final Layout layout,
+                                                 @AttrRes final int resourceId) {
+        try {
+            return ThemeUtil.getColorStateList(context, resourceId);
+        } catch (NotFoundException e1) {
+            int themeResourceId = getThemeResourceId(layout);
+
+            try {
+                return ThemeUtil.getColorStateList(context, themeResourceId, resourceId);
+            } catch (NotFoundException e) {
+                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
+                return ThemeUtil.getColorStateList(context, themeResourceId, resourceId);
+            }
+        }
+    }
+
+    /**
+     * Resolves the drawable, which corresponds to a specific theme attribute, regarding the theme,
+     * which is used when using a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the drawable should be obtained from, as an
+     *         {@link Integer} value. The resource id must correspond to a valid theme attribute
+     * @return The drawable, which has been obtained, as an instance of the class {@link Drawable}
+     */
+    private Drawable resolveDrawable(@NonNull final Layout layout, @AttrRes final int resourceId) {
+        try {
+            return ThemeUtil.getDrawable(context, resourceId);
+        } catch (NotFoundException e1) {
+            int themeResourceId = getThemeResourceId(layout);
+
+            try {
+                return ThemeUtil.getDrawable(context, themeResourceId, resourceId);
+            } catch (NotFoundException e) {
+                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
+                return ThemeUtil.getDrawable(context, themeResourceId, resourceId);
+            }
+        }
+    }
+
+    /**
+     * Resolves the text, which corresponds to a specific theme attribute, regarding the theme,
+     * which is used when using a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the text should be obtained from, as an
+     *         {@link Integer} value. The resource id must correspond to a valid theme attribute
+     * @return The text, which has been obtained, as an instance of the type {@link CharSequence}
+     */
+    private CharSequence resolveText(@NonNull final Layout layout,
+                                     @AttrRes final int resourceId) {
+        try {
+            return ThemeUtil.getText(context, resourceId);
+        } catch (NotFoundException e1) {
+            int themeResourceId = getThemeResourceId(layout);
+
+            try {
+                return ThemeUtil.getText(context, themeResourceId, resourceId);
+            } catch (NotFoundException e) {
+                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
+                return ThemeUtil.getText(context, themeResourceId, resourceId);
+            }
+        }
+    }
+
+    /**
+     * Resolves the resource id, which corresponds to a specific theme attribute, regarding the
+     * theme, which is used when using a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the resource id should be obtained from, as
+     *         an {@link Integer} value. The resource id must correspond to a valid theme attribute
+     * @param defaultValue
+     *         The default value, which should be returned, if the given resource id is invalid, as
+     *         an {@link Integer} value
+     * @return The resource id, which has been obtained, as an {@link Integer} value
+     */
+    private int resolveResourceId(@NonNull final Layout layout, @AttrRes final int resourceId,
+                                  final int defaultValue) {
+        int result = ThemeUtil.getResId(context, resourceId, 0);
+
+        if (result == 0) {
+            int themeResourceId = getThemeResourceId(layout);
+            result = ThemeUtil.getResId(context, themeResourceId, resourceId, 0);
+
+            if (result == 0) {
+                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
+                return ThemeUtil.getResId(context, themeResourceId, resourceId, defaultValue);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolves the integer value, which corresponds to a specific theme attribute, regarding the
+     * theme, which is used when using a specific layout.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the integer value should be obtained from, as
+     *         an {@link Integer} value. The resource id must correspond to a valid theme attribute
+     * @param defaultValue
+     *         The default value, which should be returned, if the given resource id is invalid, as
+     *         an {@link Integer} value
+     * @return The integer value, which has been obtained, as an {@link Integer} value
+     */
+    private int resolveInteger(@NonNull final Layout layout, @AttrRes final int resourceId,
+                               final int defaultValue) {
+        int result = ThemeUtil.getInt(context, resourceId, 0);
+
+        if (result == 0) {
+            int themeResourceId = getThemeResourceId(layout);
+            result = ThemeUtil.getInt(context, themeResourceId, resourceId, 0);
+
+            if (result == 0) {
+                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
+                return ThemeUtil.getInt(context, themeResourceId, resourceId, defaultValue);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Creates a new helper class, which allows to retrieve resources, depending on a tab switcher's
      * theme.
@@ -132,6 +417,16 @@ public class ThemeHelper {
         this.globalTheme = globalTheme;
         this.phoneTheme = phoneTheme;
         this.tabletTheme = tabletTheme;
+        this.cache = new EnumMap<>(Layout.class);
+    }
+
+    /**
+     * Clears the values of theme attributes, which have already been resolved. This method must
+     * be called, if the resources of the context, which is used by the tab switcher, have been
+     * changed, e.g. due to a configuration change.
+     */
+    public final void clearCache() {
+        cache.clear();
     }
 
     /**
@@ -166,18 +461,20 @@ public class ThemeHelper {
      */
     @ColorInt
     public int getColor(@NonNull final Layout layout, @AttrRes final int resourceId) {
-        try {
-            return ThemeUtil.getColor(context, resourceId);
-        } catch (NotFoundException e1) {
-            int themeResourceId = getThemeResourceId(layout);
+        SparseArray<Object> colors = getResolvedAttributes(layout).colors;
+        Integer color = (Integer) getCachedValue(colors, resourceId);
 
+        if (color == null) {
             try {
-                return ThemeUtil.getColor(context, themeResourceId, resourceId);
+                color = resolveColor(layout, resourceId);
+                colors.put(resourceId, color);
             } catch (NotFoundException e) {
-                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
-                return ThemeUtil.getColor(context, themeResourceId, resourceId);
+                colors.put(resourceId, NOT_FOUND);
+                throw e;
             }
         }
+
+        return color;
     }
 
     /**
@@ -195,18 +492,49 @@ public class ThemeHelper {
      */
     public ColorStateList getColorStateList(@NonNull final Layout layout,
                                             @AttrRes final int resourceId) {
-        try {
-            return ThemeUtil.getColorStateList(context, resourceId);
-        } catch (NotFoundException e1) {
-            int themeResourceId = getThemeResourceId(layout);
+        SparseArray<Object> colorStateLists = getResolvedAttributes(layout).colorStateLists;
+        ColorStateList colorStateList =
+                (ColorStateList) getCachedValue(colorStateLists, resourceId);
 
+        if (colorStateList == null) {
             try {
-                return ThemeUtil.getColorStateList(context, themeResourceId, resourceId);
+                colorStateList = resolveColorStateList(layout, resourceId);
+                colorStateLists.put(resourceId, colorStateList);
             } catch (NotFoundException e) {
-                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
-                return ThemeUtil.getColorStateList(context, themeResourceId, resourceId);
+                colorStateLists.put(resourceId, NOT_FOUND);
+                throw e;
             }
         }
+
+        return colorStateList;
+    }
+
+    /**
+     * Returns the color state list, which corresponds to a specific theme attribute, regarding the
+     * theme, which is used when using a specific layout. Unlike the method {@link
+     * #getColorStateList(Layout, int)}, no exception is thrown, if the attribute is not specified.
+     * Once an attribute could not be resolved, subsequent calls return null without any overhead.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the color state list should be obtained from,
+     *         as an {@link Integer} value
+     * @return The color state list, which has been obtained, as an instance of the class {@link
+     * ColorStateList} or null, if the attribute is not specified
+     */
+    @Nullable
+    public ColorStateList getOptionalColorStateList(@NonNull final Layout layout,
+                                                    @AttrRes final int resourceId) {
+        if (isCachedAsNotFound(getResolvedAttributes(layout).colorStateLists, resourceId)) {
+            return null;
+        }
+
+        try {
+            return getColorStateList(layout, resourceId);
+        } catch (NotFoundException e) {
+            return null;
+        }
     }
 
     /**
@@ -222,18 +550,61 @@ public class ThemeHelper {
      * ColorStateList}
      */
     public Drawable getDrawable(@NonNull final Layout layout, @AttrRes final int resourceId) {
+        SparseArray<Object> drawables = getResolvedAttributes(layout).drawables;
+        Drawable.ConstantState constantState =
+                (Drawable.ConstantState) getCachedValue(drawables, resourceId);
+
+        if (constantState != null) {
+            return constantState.newDrawable(context.getResources()).mutate();
+        }
+
+        Drawable drawable;
+
         try {
-            return ThemeUtil.getDrawable(context, resourceId);
-        } catch (NotFoundException e1) {
-            int themeResourceId = getThemeResourceId(layout);
+            drawable = resolveDrawable(layout, resourceId);
+        } catch (NotFoundException e) {
+            drawables.put(resourceId, NOT_FOUND);
+            throw e;
+        }
 
-            try {
-                return ThemeUtil.getDrawable(context, themeResourceId, resourceId);
-            } catch (NotFoundException e) {
-                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
-                return ThemeUtil.getDrawable(context, themeResourceId, resourceId);
+        if (drawable != null) {
+            constantState = drawable.getConstantState();
+
+            if (constantState != null) {
+                drawables.put(resourceId, constantState);
+                return constantState.newDrawable(context.getResources()).mutate();
             }
         }
+
+        return drawable;
+    }
+
+    /**
+     * Returns the drawable, which corresponds to a specific theme attribute, regarding the theme,
+     * which is used when using a specific layout. Unlike the method {@link #getDrawable(Layout,
+     * int)}, no exception is thrown, if the attribute is not specified. Once an attribute could
+     * not be resolved, subsequent calls return null without any overhead.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the drawable should be obtained from, as an
+     *         {@link Integer} value
+     * @return The drawable, which has been obtained, as an instance of the class {@link Drawable}
+     * or null, if the attribute is not specified
+     */
+    @Nullable
+    public Drawable getOptionalDrawable(@NonNull final Layout layout,
+                                        @AttrRes final int resourceId) {
+        if (isCachedAsNotFound(getResolvedAttributes(layout).drawables, resourceId)) {
+            return null;
+        }
+
+        try {
+            return getDrawable(layout, resourceId);
+        } catch (NotFoundException e) {
+            return null;
+        }
     }
 
     /**
@@ -248,18 +619,48 @@ public class ThemeHelper {
      * @return The text, which has been obtained, as an instance of the type {@link CharSequence}
      */
     public CharSequence getText(@NonNull final Layout layout, @AttrRes final int resourceId) {
-        try {
-            return ThemeUtil.getText(context, resourceId);
-        } catch (NotFoundException e1) {
-            int themeResourceId = getThemeResourceId(layout);
+        SparseArray<Object> texts = getResolvedAttributes(layout).texts;
+        CharSequence text = (CharSequence) getCachedValue(texts, resourceId);
 
+        if (text == null) {
             try {
-                return ThemeUtil.getText(context, themeResourceId, resourceId);
+                text = resolveText(layout, resourceId);
+                texts.put(resourceId, text);
             } catch (NotFoundException e) {
-                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
-                return ThemeUtil.getText(context, themeResourceId, resourceId);
+                texts.put(resourceId, NOT_FOUND);
+                throw e;
             }
         }
+
+        return text;
+    }
+
+    /**
+     * Returns the text, which corresponds to a specific theme attribute, regarding the theme, which
+     * is used when using a specific layout. Unlike the method {@link #getText(Layout, int)}, no
+     * exception is thrown, if the attribute is not specified. Once an attribute could not be
+     * resolved, subsequent calls return null without any overhead.
+     *
+     * @param layout
+     *         The layout as a value of the enum {@link Layout}. The layout may not be null
+     * @param resourceId
+     *         The resource id of the theme attribute, the text should be obtained from, as an
+     *         {@link Integer} value
+     * @return The text, which has been obtained, as an instance of the type {@link CharSequence}
+     * or null, if the attribute is not specified
+     */
+    @Nullable
+    public CharSequence getOptionalText(@NonNull final Layout layout,
+                                        @AttrRes final int resourceId) {
+        if (isCachedAsNotFound(getResolvedAttributes(layout).texts, resourceId)) {
+            return null;
+        }
+
+        try {
+            return getText(layout, resourceId);
+        } catch (NotFoundException e) {
+            return null;
+        }
     }
 
     /**
@@ -278,19 +679,15 @@ public class ThemeHelper {
      */
     public int getResourceId(@NonNull final Layout layout, @AttrRes final int resourceId,
                              final int defaultValue) {
-        int result = ThemeUtil.getResId(context, resourceId, 0);
+        SparseArray<int[]> resourceIds = getResolvedAttributes(layout).resourceIds;
+        int[] entry = resourceIds.get(resourceId);
 
-        if (result == 0) {
-            int themeResourceId = getThemeResourceId(layout);
-            result = ThemeUtil.getResId(context, themeResourceId, resourceId, 0);
-
-            if (result == 0) {
-                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
-                return ThemeUtil.getResId(context, themeResourceId, resourceId, defaultValue);
-            }
+        if (entry == null || entry[0] != defaultValue) {
+            entry = new int[]{defaultValue, resolveResourceId(layout, resourceId, defaultValue)};
+            resourceIds.put(resourceId, entry);
         }
 
-        return result;
+        return entry[1];
     }
 
     /**
@@ -309,19 +706,15 @@ public class ThemeHelper {
      */
     public int getInteger(@NonNull final Layout layout, @AttrRes final int resourceId,
                           final int defaultValue) {
-        int result = ThemeUtil.getInt(context, resourceId, 0);
+        SparseArray<int[]> integers = getResolvedAttributes(layout).integers;
+        int[] entry = integers.get(resourceId);
 
-        if (result == 0) {
-            int themeResourceId = getThemeResourceId(layout);
-            result = ThemeUtil.getInt(context, themeResourceId, resourceId, 0);
-
-            if (result == 0) {
-                themeResourceId = obtainThemeFromThemeAttributes(layout, themeResourceId);
-                return ThemeUtil.getInt(context, themeResourceId, resourceId, defaultValue);
-            }
+        if (entry == null || entry[0] != defaultValue) {
+            entry = new int[]{defaultValue, resolveInteger(layout, resourceId, defaultValue)};
+            integers.put(resourceId, entry);
         }
 
-        return result;
+        return entry[1];
     }
 
 }
\ No newline at end of file
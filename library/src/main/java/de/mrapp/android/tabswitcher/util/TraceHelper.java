@@ -0,0 +1,231 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher.util;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A utility class, which allows to add sections to the system trace, which can be inspected by
+ * using tools such as Systrace or Perfetto. Tracing is disabled by default. As long as it is
+ * disabled, calling the methods of this class does not have any effect, besides reading a single
+ * volatile field. Synchronous sections require at least API level 18, asynchronous sections
+ * require at least API level 29. On devices with a lower API level, the sections are omitted. As
+ * the library is compiled against an API level, which does not provide asynchronous sections, they
+ * are accessed via reflection.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public final class TraceHelper {
+
+    /**
+     * The API level, which is required to use asynchronous sections.
+     */
+    private static final int ASYNC_SECTIONS_API_LEVEL = 29;
+
+    /**
+     * The counter, which is used to create unique cookies for asynchronous sections.
+     */
+    private static final AtomicInteger COOKIE_COUNTER = new AtomicInteger();
+
+    /**
+     * The method, which allows to begin an asynchronous section, or null, if the method has not
+     * been resolved yet or is not available.
+     */
+    private static volatile Method beginAsyncSectionMethod;
+
+    /**
+     * The method, which allows to end an asynchronous section, or null, if the method has not
+     * been resolved yet or is not available.
+     */
+    private static volatile Method endAsyncSectionMethod;
+
+    /**
+     * True, if it has already been attempted to resolve the methods, which allow to begin and end
+     * asynchronous sections, false otherwise.
+     */
+    private static boolean asyncSectionMethodsResolved;
+
+    /**
+     * True, if tracing is enabled, false otherwise.
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * Creates a new utility class, which allows to add sections to the system trace.
+     */
+    private TraceHelper() {
+
+    }
+
+    /**
+     * Resolves the methods, which allow to begin and end asynchronous sections, if this has not
+     * been attempted yet.
+     *
+     * @return True, if the methods are available, false otherwise
+     */
+    private static synchronized boolean resolveAsyncSectionMethods() {
+        if (!asyncSectionMethodsResolved) {
+            asyncSectionMethodsResolved = true;
+
+            try {
+                beginAsyncSectionMethod =
+                        Trace.class.getMethod("beginAsyncSection", String.class, int.class);
+                endAsyncSectionMethod =
+                        Trace.class.getMethod("endAsyncSection", String.class, int.class);
+            } catch (NoSuchMethodException e) {
+                beginAsyncSectionMethod = null;
+                endAsyncSectionMethod = null;
+            }
+        }
+
+        return beginAsyncSectionMethod != null && endAsyncSectionMethod != null;
+    }
+
+    /**
+     * Invokes a method, which allows to begin or end an asynchronous section. If invoking the
+     * method fails, asynchronous sections are not used anymore.
+     *
+     * @param method
+     *         The method, which should be invoked, as an instance of the class {@link Method}. The
+     *         method may not be null
+     * @param name
+     *         The name of the section as a {@link String}. The name may neither be null, nor empty
+     * @param cookie
+     *         The cookie, which identifies the section, as an {@link Integer} value
+     */
+    private static void invokeAsyncSectionMethod(@NonNull final Method method,
+                                                 @NonNull final String name, final int cookie) {
+        try {
+            method.invoke(null, name, cookie);
+        } catch (Exception e) {
+            beginAsyncSectionMethod = null;
+            endAsyncSectionMethod = null;
+        }
+    }
+
+    /**
+     * Sets, whether tracing should be enabled, or not.
+     *
+     * @param enabled
+     *         True, if tracing should be enabled, false otherwise
+     */
+    public static void setEnabled(final boolean enabled) {
+        TraceHelper.enabled = enabled;
+    }
+
+    /**
+     * Returns, whether tracing is enabled, or not.
+     *
+     * @return True, if tracing is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Begins a synchronous section, if tracing is enabled. The section must be ended on the same
+     * thread by calling the method {@link #endSection(boolean)}.
+     *
+     * @param name
+     *         The name of the section as a {@link String}. The name may neither be null, nor empty
+     *         and should be a constant in order to avoid allocations
+     * @return True, if the section has been begun, false otherwise. The returned value must be
+     * passed to the method {@link #endSection(boolean)}
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    public static boolean beginSection(@NonNull final String name) {
+        if (enabled && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            Trace.beginSection(name);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Ends the synchronous section, which has most recently been begun on the current thread.
+     *
+     * @param started
+     *         The value, which has been returned by the method {@link #beginSection(String)} when
+     *         the section has been begun
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    public static void endSection(final boolean started) {
+        if (started) {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Begins an asynchronous section, if tracing is enabled. Unlike synchronous sections,
+     * asynchronous sections may span multiple frames and may be ended on a different thread by
+     * calling the method {@link #endAsyncSection(String, int)}.
+     *
+     * @param name
+     *         The name of the section as a {@link String}. The name may neither be null, nor empty
+     *         and should be a constant in order to avoid allocations
+     * @return The cookie, which identifies the section, as an {@link Integer} value or 0, if the
+     * section has not been begun. The returned value must be passed to the method {@link
+     * #endAsyncSection(String, int)}
+     */
+    public static int beginAsyncSection(@NonNull final String name) {
+        if (enabled && Build.VERSION.SDK_INT >= ASYNC_SECTIONS_API_LEVEL &&
+                resolveAsyncSectionMethods()) {
+            Method method = beginAsyncSectionMethod;
+
+            if (method != null) {
+                int cookie = COOKIE_COUNTER.incrementAndGet();
+
+                if (cookie == 0) {
+                    cookie = COOKIE_COUNTER.incrementAndGet();
+                }
+
+                invokeAsyncSectionMethod(method, name, cookie);
+                return cookie;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Ends an asynchronous section, which has been begun by calling the method {@link
+     * #beginAsyncSection(String)}.
+     *
+     * @param name
+     *         The name of the section as a {@link String}. The name must be the same as the one,
+     *         which has been used to begin the section
+     * @param cookie
+     *         The cookie, which has been returned by the method {@link #beginAsyncSection(String)}
+     *         when the section has been begun, as an {@link Integer} value
+     */
+    public static void endAsyncSection(@NonNull final String name, final int cookie) {
+        if (cookie != 0) {
+            Method method = endAsyncSectionMethod;
+
+            if (method != null) {
+                invokeAsyncSectionMethod(method, name, cookie);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import android.os.Build;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.robolectric.Robolectric;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import androidx.annotation.NonNull;
+
+/**
+ * An abstract base class for all tests, which drive a {@link TabSwitcher} through scripted
+ * scenarios. The tab switcher is contained by a {@link TabSwitcherTestActivity}, which is created
+ * before each test.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+@Config(sdk = Build.VERSION_CODES.P)
+public abstract class AbstractTabSwitcherTest {
+
+    /**
+     * The number of tabs, which are used by scenarios, which should be run with many tabs.
+     */
+    protected static final int TAB_COUNT = 1000;
+
+    /**
+     * The number of move events, a drag gesture consists of.
+     */
+    private static final int DRAG_STEPS = 10;
+
+    /**
+     * The controller, which is used to control the lifecycle of the activity, which contains the
+     * tab switcher.
+     */
+    private ActivityController<TabSwitcherTestActivity> controller;
+
+    /**
+     * Returns the controller, which is used to control the lifecycle of the activity, which
+     * contains the tab switcher.
+     *
+     * @return The controller, which is used to control the lifecycle of the activity, as an
+     * instance of the class {@link ActivityController}. The controller may not be null
+     */
+    @NonNull
+    protected final ActivityController<TabSwitcherTestActivity> getController() {
+        return controller;
+    }
+
+    /**
+     * Returns the tab switcher, which is contained by the current activity.
+     *
+     * @return The tab switcher, which is contained by the current activity, as an instance of the
+     * class {@link TabSwitcher}. The tab switcher may not be null
+     */
+    @NonNull
+    protected final TabSwitcher getTabSwitcher() {
+        return controller.get().getTabSwitcher();
+    }
+
+    /**
+     * Executes all tasks, which are pending on the UI thread, including delayed tasks. This causes
+     * all running animations to be finished.
+     */
+    protected final void idle() {
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    }
+
+    /**
+     * Adds a specific number of tabs to the tab switcher and waits until the tab switcher is idle.
+     *
+     * @param count
+     *         The number of tabs, which should be added, as an {@link Integer} value
+     */
+    protected final void addTabs(final int count) {
+        Tab[] tabs = new Tab[count];
+
+        for (int i = 0; i < count; i++) {
+            tabs[i] = new Tab("Tab " + (i + 1));
+        }
+
+        getTabSwitcher().addAllTabs(tabs);
+        idle();
+    }
+
+    /**
+     * Shows the tab switcher and waits until the animation has been finished.
+     */
+    protected final void showSwitcher() {
+        getTabSwitcher().showSwitcher();
+        idle();
+    }
+
+    /**
+     * Creates the motion events of a vertical drag gesture, which starts at the center of the tab
+     * switcher. The events must be recycled by the caller.
+     *
+     * @param distance
+     *         The vertical distance of the drag gesture in pixels as a {@link Float} value
+     * @param duration
+     *         The duration of the drag gesture in milliseconds as a {@link Long} value
+     * @return An array, which contains the motion events, which have been created, as a {@link
+     * MotionEvent} array. The array may not be null
+     */
+    @NonNull
+    protected final MotionEvent[] createDragEvents(final float distance, final long duration) {
+        TabSwitcher tabSwitcher = getTabSwitcher();
+        float x = tabSwitcher.getWidth() / 2f;
+        float y = tabSwitcher.getHeight() / 2f;
+        long downTime = SystemClock.uptimeMillis();
+        MotionEvent[] events = new MotionEvent[DRAG_STEPS + 2];
+        events[0] = MotionEvent.obtain(downTime, downTime, MotionEvent.ACTION_DOWN, x, y, 0);
+
+        for (int i = 1; i <= DRAG_STEPS; i++) {
+            events[i] = MotionEvent.obtain(downTime, downTime + duration * i / DRAG_STEPS,
+                    MotionEvent.ACTION_MOVE, x, y + distance * i / DRAG_STEPS, 0);
+        }
+
+        events[DRAG_STEPS + 1] = MotionEvent.obtain(downTime, downTime + duration,
+                MotionEvent.ACTION_UP, x, y + distance, 0);
+        return events;
+    }
+
+    /**
+     * Dispatches specific motion events to the tab switcher.
+     *
+     * @param events
+     *         An array, which contains the motion events, which should be dispatched, as a {@link
+     *         MotionEvent} array. The array may not be null
+     * @param from
+     *         The index of the first event, which should be dispatched, as an {@link Integer}
+     *         value
+     * @param to
+     *         The index of the last event, which should be dispatched, exclusively, as an {@link
+     *         Integer} value
+     */
+    protected final void dispatchEvents(@NonNull final MotionEvent[] events, final int from,
+                                        final int to) {
+        TabSwitcher tabSwitcher = getTabSwitcher();
+
+        for (int i = from; i < to; i++) {
+            tabSwitcher.dispatchTouchEvent(events[i]);
+        }
+    }
+
+    /**
+     * Recycles specific motion events.
+     *
+     * @param events
+     *         An array, which contains the motion events, which should be recycled, as a {@link
+     *         MotionEvent} array. The array may not be null
+     */
+    protected final void recycleEvents(@NonNull final MotionEvent[] events) {
+        for (MotionEvent event : events) {
+            event.recycle();
+        }
+    }
+
+    /**
+     * Performs a vertical drag gesture, which starts at the center of the tab switcher, and waits
+     * until all resulting animations have been finished. Short gestures over long distances are
+     * handled as flings.
+     *
+     * @param distance
+     *         The vertical distance of the drag gesture in pixels as a {@link Float} value
+     * @param duration
+     *         The duration of the drag gesture in milliseconds as a {@link Long} value
+     */
+    protected final void drag(final float distance, final long duration) {
+        MotionEvent[] events = createDragEvents(distance, duration);
+
+        try {
+            dispatchEvents(events, 0, events.length);
+        } finally {
+            recycleEvents(events);
+        }
+
+        idle();
+    }
+
+    /**
+     * Destroys the current activity and creates a new one, which contains an empty tab switcher,
+     * in portrait orientation. This allows to run a scenario multiple times within a single test.
+     */
+    protected final void restartActivity() {
+        tearDown();
+        RuntimeEnvironment.setQualifiers("+port");
+        setUp();
+    }
+
+    /**
+     * Creates the activity, which contains the tab switcher, and waits until it has been laid
+     * out.
+     */
+    @Before
+    public void setUp() {
+        controller = Robolectric.buildActivity(TabSwitcherTestActivity.class).setup();
+        idle();
+    }
+
+    /**
+     * Destroys the activity, which contains the tab switcher.
+     */
+    @After
+    public void tearDown() {
+        controller.pause().stop().destroy();
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import android.view.MotionEvent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLog;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.util.logging.LogLevel;
+import de.mrapp.android.util.logging.Logger;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests, whether handling drag events does not build any log messages, when logging is disabled.
+ * The same drag gesture is performed once with logging disabled and once with verbose logging.
+ * The number of bytes, which are allocated by the latter, minus the overhead of passing the log
+ * messages to the logger, corresponds to the bytes, which are needed to build the messages. If the
+ * messages are not built when logging is disabled, these bytes must be saved by the former.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DragAllocationTest extends AbstractTabSwitcherTest {
+
+    /**
+     * The minimum number of bytes, which are needed to build a log message, which contains a
+     * number. This corresponds to a string of 24 characters on a JVM, which uses compact strings,
+     * including the headers of the string and its array. The messages, which are logged while
+     * dragging, are considerably longer. Building them needs about 180 bytes on Java 17 and about
+     * 850 bytes on Java 8.
+     */
+    private static final long MIN_MESSAGE_BYTES = 64;
+
+    /**
+     * The number of times, the logger is invoked in order to measure its overhead.
+     */
+    private static final int LOGGER_OVERHEAD_SAMPLES = 1000;
+
+    /**
+     * The duration of a single frame in milliseconds.
+     */
+    private static final long FRAME_DURATION = 16;
+
+    /**
+     * The duration of a drag gesture in milliseconds. The gesture is slow enough to not be
+     * handled as a fling.
+     */
+    private static final long DRAG_DURATION = 1000;
+
+    /**
+     * The name of the extension of the interface {@link ThreadMXBean}, which allows to retrieve
+     * the number of bytes, which have been allocated by a thread.
+     */
+    private static final String THREAD_MX_BEAN_EXTENSION = "com.sun.management.ThreadMXBean";
+
+    /**
+     * The bean, which is used to retrieve the number of bytes, which have been allocated by the
+     * current thread.
+     */
+    private ThreadMXBean threadMXBean;
+
+    /**
+     * The method, which is used to retrieve the number of bytes, which have been allocated by a
+     * thread, or null, if the method is not available.
+     */
+    private Method getThreadAllocatedBytesMethod;
+
+    /**
+     * The number of messages, which have been logged during the last measured drag gesture.
+     */
+    private int loggedMessages;
+
+    /**
+     * Resolves the method, which allows to retrieve the number of bytes, which have been
+     * allocated by a thread. The method is only available, if the JVM provides the extension
+     * {@link #THREAD_MX_BEAN_EXTENSION} and allocation counting is supported and enabled.
+     *
+     * @return The method, which has been resolved, as an instance of the class {@link Method} or
+     * null, if the method is not available
+     */
+    @Nullable
+    private Method resolveGetThreadAllocatedBytesMethod() {
+        try {
+            Class<?> extension = Class.forName(THREAD_MX_BEAN_EXTENSION);
+
+            if (extension.isInstance(threadMXBean)) {
+                Method isSupported = extension.getMethod("isThreadAllocatedMemorySupported");
+                Method isEnabled = extension.getMethod("isThreadAllocatedMemoryEnabled");
+
+                if ((Boolean) isSupported.invoke(threadMXBean) &&
+                        (Boolean) isEnabled.invoke(threadMXBean)) {
+                    return extension.getMethod("getThreadAllocatedBytes", long.class);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            // The extension is not available
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of bytes, which have been allocated by the current thread so far.
+     *
+     * @return The number of bytes, which have been allocated by the current thread so far, as a
+     * {@link Long} value
+     */
+    private long getAllocatedBytes() {
+        try {
+            return (Long) getThreadAllocatedBytesMethod
+                    .invoke(threadMXBean, Thread.currentThread().getId());
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError("Failed to retrieve the number of allocated bytes", e);
+        }
+    }
+
+    /**
+     * Executes all tasks, which are due within the next frame.
+     */
+    private void runFrame() {
+        ShadowLooper.idleMainLooper(FRAME_DURATION, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Measures the number of bytes, which are allocated by the logger, when a message, which has
+     * already been built, is logged with verbose logging enabled.
+     *
+     * @return The number of bytes, which are allocated per logged message, as a {@link Long}
+     * value
+     */
+    private long measureLoggerOverhead() {
+        Logger logger = new Logger(LogLevel.VERBOSE);
+        String message = "Dragging";
+
+        for (int i = 0; i < LOGGER_OVERHEAD_SAMPLES; i++) {
+            logger.logVerbose(getClass(), message);
+        }
+
+        long allocatedBytes = getAllocatedBytes();
+
+        for (int i = 0; i < LOGGER_OVERHEAD_SAMPLES; i++) {
+            logger.logVerbose(getClass(), message);
+        }
+
+        return (getAllocatedBytes() - allocatedBytes) / LOGGER_OVERHEAD_SAMPLES;
+    }
+
+    /**
+     * Performs a drag gesture and measures the number of bytes, which are allocated, while its
+     * move events are dispatched and handled. The first move event, which starts the drag, is not
+     * taken into account. A frame is run after each move event. The number of messages, which are
+     * logged meanwhile, is stored in {@link #loggedMessages}.
+     *
+     * @param events
+     *         An array, which contains the motion events of the drag gesture, as a {@link
+     *         MotionEvent} array. The array may not be null
+     * @return The number of bytes, which have been allocated, as a {@link Long} value
+     */
+    private long measureDrag(@NonNull final MotionEvent[] events) {
+        try {
+            dispatchEvents(events, 0, 2);
+            runFrame();
+            int logCount = ShadowLog.getLogs().size();
+            long allocatedBytes = getAllocatedBytes();
+
+            for (int i = 2; i < events.length - 1; i++) {
+                dispatchEvents(events, i, i + 1);
+                runFrame();
+            }
+
+            allocatedBytes = getAllocatedBytes() - allocatedBytes;
+            loggedMessages = ShadowLog.getLogs().size() - logCount;
+            dispatchEvents(events, events.length - 1, events.length);
+            idle();
+            return allocatedBytes;
+        } finally {
+            recycleEvents(events);
+        }
+    }
+
+    /**
+     * Shows the switcher, which contains many tabs, and measures the number of bytes, which are
+     * allocated by a drag gesture using a specific log level. A first drag gesture, which is not
+     * measured, warms up the drag path.
+     *
+     * @param logLevel
+     *         The log level, which should be used, as a value of the enum {@link LogLevel}. The
+     *         log level may not be null
+     * @return The number of bytes, which have been allocated, as a {@link Long} value
+     */
+    private long measureDrag(@NonNull final LogLevel logLevel) {
+        addTabs(TAB_COUNT);
+        showSwitcher();
+        getTabSwitcher().setLogLevel(logLevel);
+        float distance = -getTabSwitcher().getHeight() / 4f;
+        measureDrag(createDragEvents(distance, DRAG_DURATION));
+        return measureDrag(createDragEvents(distance, DRAG_DURATION));
+    }
+
+    /**
+     * Tests, that dragging tabs does not build any log messages, when logging is disabled.
+     */
+    @Test
+    public final void testDragWithLoggingDisabled() {
+        threadMXBean = ManagementFactory.getThreadMXBean();
+        getThreadAllocatedBytesMethod = resolveGetThreadAllocatedBytesMethod();
+        assumeTrue(getThreadAllocatedBytesMethod != null);
+        measureDrag(LogLevel.OFF);
+        restartActivity();
+        long disabledBytes = measureDrag(LogLevel.OFF);
+        restartActivity();
+        long verboseBytes = measureDrag(LogLevel.VERBOSE);
+        int messages = loggedMessages;
+        assertTrue("No messages have been logged while dragging", messages > 0);
+        long messageBytes = verboseBytes - disabledBytes - messages * measureLoggerOverhead();
+        assertTrue("Building " + messages + " log messages only needed " + messageBytes +
+                        " bytes. They might have been built with logging disabled",
+                messageBytes >= messages * MIN_MESSAGE_BYTES);
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests, whether operations, which are performed while animations are running, are executed as
+ * specified by the {@link PreemptionPolicy} of a {@link TabSwitcher}. All operations are performed
+ * without running any frames in between, i.e. before any animation has been started by a frame.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+@RunWith(RobolectricTestRunner.class)
+public class PreemptionPolicyTest extends AbstractTabSwitcherTest {
+
+    /**
+     * The number of tabs, which are contained by the tab switcher, when the operations are
+     * performed.
+     */
+    private static final int SWITCHER_TAB_COUNT = 10;
+
+    /**
+     * Removes the first tab of the tab switcher by swiping it.
+     */
+    private void removeFirstTab() {
+        getTabSwitcher()
+                .removeTab(getTabSwitcher().getTab(0), new SwipeAnimation.Builder().create());
+    }
+
+    /**
+     * Tests, that a tab, which is removed, while the removal of another tab is animated, is
+     * removed immediately, if the preemption policy {@link PreemptionPolicy#FAST_FORWARD} is
+     * used.
+     */
+    @Test
+    public final void testFastForwardRemoveTabs() {
+        getTabSwitcher().setPreemptionPolicy(PreemptionPolicy.FAST_FORWARD);
+        addTabs(SWITCHER_TAB_COUNT);
+        showSwitcher();
+        removeFirstTab();
+        assertTrue(getTabSwitcher().isAnimationRunning());
+        removeFirstTab();
+        assertEquals(SWITCHER_TAB_COUNT - 2, getTabSwitcher().getCount());
+        idle();
+        assertFalse(getTabSwitcher().isAnimationRunning());
+        assertEquals(SWITCHER_TAB_COUNT - 2, getTabSwitcher().getCount());
+    }
+
+    /**
+     * Tests, that a tab, which is added, while the removal of all tabs is animated, is added
+     * immediately, if the preemption policy {@link PreemptionPolicy#FAST_FORWARD} is used. The
+     * swipe animations of the removed tabs are started with a delay, which must be skipped.
+     */
+    @Test
+    public final void testFastForwardDelayedAnimations() {
+        getTabSwitcher().setPreemptionPolicy(PreemptionPolicy.FAST_FORWARD);
+        addTabs(SWITCHER_TAB_COUNT);
+        showSwitcher();
+        getTabSwitcher().clear();
+        assertTrue(getTabSwitcher().isAnimationRunning());
+        getTabSwitcher().addTab(new Tab("Added tab"));
+        assertEquals(1, getTabSwitcher().getCount());
+        idle();
+        assertFalse(getTabSwitcher().isAnimationRunning());
+        assertEquals(1, getTabSwitcher().getCount());
+    }
+
+    /**
+     * Tests, that multiple operations, which are performed, while an animation is running, are
+     * all executed immediately and in order, if the preemption policy {@link
+     * PreemptionPolicy#FAST_FORWARD} is used.
+     */
+    @Test
+    public final void testFastForwardExecutesAllPendingActions() {
+        getTabSwitcher().setPreemptionPolicy(PreemptionPolicy.FAST_FORWARD);
+        addTabs(SWITCHER_TAB_COUNT);
+        showSwitcher();
+        getTabSwitcher().clear();
+        Tab first = new Tab("First tab");
+        Tab second = new Tab("Second tab");
+        getTabSwitcher().addTab(first);
+        getTabSwitcher().addTab(second, 0);
+        removeFirstTab();
+        assertEquals(1, getTabSwitcher().getCount());
+        assertEquals(first, getTabSwitcher().getTab(0));
+    }
+
+    /**
+     * Tests, that operations, which are performed, while an animation is running, are not executed
+     * until the animation has been finished, if the preemption policy {@link
+     * PreemptionPolicy#QUEUE} is used.
+     */
+    @Test
+    public final void testQueue() {
+        getTabSwitcher().setPreemptionPolicy(PreemptionPolicy.QUEUE);
+        addTabs(SWITCHER_TAB_COUNT);
+        showSwitcher();
+        getTabSwitcher().clear();
+        getTabSwitcher().addTab(new Tab("Added tab"));
+        assertEquals(0, getTabSwitcher().getCount());
+        idle();
+        assertEquals(1, getTabSwitcher().getCount());
+    }
+
+}
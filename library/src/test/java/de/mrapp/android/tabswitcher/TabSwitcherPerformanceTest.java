@@ -0,0 +1,250 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.tabswitcher.TabSwitcherMetrics.Counter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests, whether the performance metrics of a {@link TabSwitcher} stay within their budgets, when
+ * the tab switcher is driven through scripted scenarios. As only the views of visible tabs should
+ * be inflated and bound, the work done by a scenario must not depend on the number of tabs. Each
+ * scenario is therefore first run with {@link #REFERENCE_TAB_COUNT} tabs in order to measure the
+ * reference values of the counters. The budgets, which apply to the same scenario with {@link
+ * #TAB_COUNT} tabs, are derived from these values.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TabSwitcherPerformanceTest extends AbstractTabSwitcherTest {
+
+    /**
+     * Defines the interface, a scripted scenario, whose metrics are measured, must implement.
+     */
+    private interface Scenario {
+
+        /**
+         * The method, which is invoked, when the scenario should be run. The metrics of the tab
+         * switcher must only contain the work, which should be measured, when this method
+         * returns.
+         *
+         * @param tabCount
+         *         The number of tabs, which should be added to the tab switcher, as an {@link
+         *         Integer} value
+         */
+        void run(int tabCount);
+
+    }
+
+    /**
+     * The counters, which are subject to budgets.
+     */
+    private static final Counter[] BUDGETED_COUNTERS =
+            {Counter.TAB_VIEW_INFLATIONS, Counter.DECORATOR_SHOW_CALLS, Counter.PREVIEW_RENDERS};
+
+    /**
+     * The number of tabs, which are used to measure the reference values of the counters.
+     */
+    private static final int REFERENCE_TAB_COUNT = 200;
+
+    /**
+     * The headroom, which is granted by a budget in addition to the reference value of a counter,
+     * in percent of the reference value.
+     */
+    private static final long HEADROOM_PERCENT = 25;
+
+    /**
+     * The minimum headroom, which is granted by a budget in addition to the reference value of a
+     * counter. It prevents small reference values from failing on single additional binds.
+     */
+    private static final long MIN_HEADROOM = 2;
+
+    /**
+     * The number of tabs, which are closed by swiping them.
+     */
+    private static final int SWIPED_TAB_COUNT = 100;
+
+    /**
+     * Runs a specific scenario and returns the values of the counters, which are subject to
+     * budgets, afterwards.
+     *
+     * @param scenario
+     *         The scenario, which should be run, as an instance of the type {@link Scenario}. The
+     *         scenario may not be null
+     * @param tabCount
+     *         The number of tabs, which should be used by the scenario, as an {@link Integer}
+     *         value
+     * @return An array, which contains the values of the counters, as a {@link Long} array. The
+     * array may not be null
+     */
+    @NonNull
+    private long[] measure(@NonNull final Scenario scenario, final int tabCount) {
+        scenario.run(tabCount);
+        TabSwitcherMetrics metrics = getTabSwitcher().getMetrics();
+        long[] counts = new long[BUDGETED_COUNTERS.length];
+
+        for (int i = 0; i < BUDGETED_COUNTERS.length; i++) {
+            counts[i] = metrics.getCount(BUDGETED_COUNTERS[i]);
+        }
+
+        return counts;
+    }
+
+    /**
+     * Asserts, that running a specific scenario with {@link #TAB_COUNT} tabs does not exceed the
+     * budgets, which are derived from running the same scenario with {@link #REFERENCE_TAB_COUNT}
+     * tabs.
+     *
+     * @param scenario
+     *         The scenario, which should be run, as an instance of the type {@link Scenario}. The
+     *         scenario may not be null
+     */
+    private void assertWithinBudgets(@NonNull final Scenario scenario) {
+        long[] referenceCounts = measure(scenario, REFERENCE_TAB_COUNT);
+        restartActivity();
+        long[] counts = measure(scenario, TAB_COUNT);
+
+        for (int i = 0; i < BUDGETED_COUNTERS.length; i++) {
+            long headroom = Math.max(referenceCounts[i] * HEADROOM_PERCENT / 100, MIN_HEADROOM);
+            long budget = referenceCounts[i] + headroom;
+            assertTrue(BUDGETED_COUNTERS[i] + " exceeded its budget of " + budget + ": " +
+                            counts[i] + " (reference value: " + referenceCounts[i] + ")",
+                    counts[i] <= budget);
+        }
+    }
+
+    /**
+     * Tests, that adding many tabs, while the switcher is hidden, does not inflate or bind more
+     * views than adding a few tabs.
+     */
+    @Test
+    public final void testAddTabs() {
+        assertWithinBudgets(new Scenario() {
+
+            @Override
+            public void run(final int tabCount) {
+                addTabs(tabCount);
+                assertEquals(tabCount, getTabSwitcher().getCount());
+                assertEquals(0, getTabSwitcher().getMetrics().getCount(Counter.PREVIEW_RENDERS));
+            }
+
+        });
+    }
+
+    /**
+     * Tests, that showing the switcher, when many tabs are contained, only inflates and binds the
+     * views of visible tabs.
+     */
+    @Test
+    public final void testShowSwitcher() {
+        assertWithinBudgets(new Scenario() {
+
+            @Override
+            public void run(final int tabCount) {
+                addTabs(tabCount);
+                getTabSwitcher().resetMetrics();
+                showSwitcher();
+                assertTrue(getTabSwitcher().isSwitcherShown());
+                assertTrue(
+                        getTabSwitcher().getMetrics().getCount(Counter.TAB_VIEW_INFLATIONS) > 0);
+            }
+
+        });
+    }
+
+    /**
+     * Tests, that dragging and flinging the tabs only inflates and binds the views of tabs, which
+     * become visible.
+     */
+    @Test
+    public final void testDragAndFling() {
+        assertWithinBudgets(new Scenario() {
+
+            @Override
+            public void run(final int tabCount) {
+                addTabs(tabCount);
+                showSwitcher();
+                getTabSwitcher().resetMetrics();
+
+                for (int i = 0; i < 5; i++) {
+                    drag(-getTabSwitcher().getHeight() / 4f, 500);
+                }
+
+                drag(-getTabSwitcher().getHeight() / 2f, 50);
+                drag(getTabSwitcher().getHeight() / 2f, 50);
+            }
+
+        });
+    }
+
+    /**
+     * Tests, that closing tabs by swiping them only inflates and binds the views of tabs, which
+     * become visible.
+     */
+    @Test
+    public final void testSwipeTabs() {
+        assertWithinBudgets(new Scenario() {
+
+            @Override
+            public void run(final int tabCount) {
+                addTabs(tabCount);
+                showSwitcher();
+                getTabSwitcher().resetMetrics();
+                SwipeAnimation animation = new SwipeAnimation.Builder().create();
+
+                for (int i = 0; i < SWIPED_TAB_COUNT; i++) {
+                    getTabSwitcher().removeTab(getTabSwitcher().getTab(0), animation);
+                    idle();
+                }
+
+                assertEquals(tabCount - SWIPED_TAB_COUNT, getTabSwitcher().getCount());
+            }
+
+        });
+    }
+
+    /**
+     * Tests, that rotating the device, while the switcher is shown, only inflates and binds the
+     * views of visible tabs, when the activity is recreated.
+     */
+    @Test
+    public final void testRotate() {
+        assertWithinBudgets(new Scenario() {
+
+            @Override
+            public void run(final int tabCount) {
+                addTabs(tabCount);
+                showSwitcher();
+                RuntimeEnvironment.setQualifiers("+land");
+                getController().configurationChange(
+                        RuntimeEnvironment.application.getResources().getConfiguration());
+                idle();
+                assertEquals(Layout.PHONE_LANDSCAPE, getTabSwitcher().getLayout());
+                assertEquals(tabCount, getTabSwitcher().getCount());
+                assertTrue(getTabSwitcher().isSwitcherShown());
+            }
+
+        });
+    }
+
+}
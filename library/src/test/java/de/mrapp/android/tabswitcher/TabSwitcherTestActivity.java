@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.tabswitcher;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * An activity, which contains a {@link TabSwitcher} and is used to run the tests of the library.
+ * Metrics are enabled, before the tab switcher is laid out for the first time. The state of the
+ * tab switcher is preserved, when the activity is recreated.
+ *
+ * @author Michael Rapp
+ * @since 0.4.7
+ */
+public class TabSwitcherTestActivity extends Activity {
+
+    /**
+     * A decorator, which visualizes the content of tabs by using a text view, which shows the
+     * tab's title.
+     */
+    private static class Decorator extends TabSwitcherDecorator {
+
+        @NonNull
+        @Override
+        public View onInflateView(@NonNull final LayoutInflater inflater,
+                                  @Nullable final ViewGroup parent, final int viewType) {
+            return new TextView(inflater.getContext());
+        }
+
+        @Override
+        public void onShowTab(@NonNull final Context context,
+                              @NonNull final TabSwitcher tabSwitcher, @NonNull final View view,
+                              @NonNull final Tab tab, final int index, final int viewType,
+                              @Nullable final Bundle savedInstanceState) {
+            ((TextView) view).setText(tab.getTitle());
+        }
+
+    }
+
+    /**
+     * The id of the tab switcher, which is contained by the activity.
+     */
+    private static final int TAB_SWITCHER_ID = 1;
+
+    /**
+     * The tab switcher, which is contained by the activity.
+     */
+    private TabSwitcher tabSwitcher;
+
+    /**
+     * Returns the tab switcher, which is contained by the activity.
+     *
+     * @return The tab switcher, which is contained by the activity, as an instance of the class
+     * {@link TabSwitcher}. The tab switcher may not be null
+     */
+    @NonNull
+    public final TabSwitcher getTabSwitcher() {
+        return tabSwitcher;
+    }
+
+    @Override
+    protected final void onCreate(@Nullable final Bundle savedInstanceState) {
+        setTheme(androidx.appcompat.R.style.Theme_AppCompat_Light_NoActionBar);
+        super.onCreate(savedInstanceState);
+        tabSwitcher = new TabSwitcher(this);
+        tabSwitcher.setId(TAB_SWITCHER_ID);
+        tabSwitcher.setPreserveState(true);
+        tabSwitcher.setLayoutPolicy(LayoutPolicy.PHONE);
+        tabSwitcher.setPrewarmedTabViewCount(0);
+        tabSwitcher.setMetricsEnabled(true);
+        tabSwitcher.setDecorator(new Decorator());
+        setContentView(tabSwitcher, new FrameLayout.LayoutParams(
+                FrameLayout.LayoutParams.MATCH_PARENT, FrameLayout.LayoutParams.MATCH_PARENT));
+    }
+
+}